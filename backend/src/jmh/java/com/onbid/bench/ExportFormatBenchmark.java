@@ -0,0 +1,144 @@
+package com.onbid.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.onbid.domain.dto.Goods;
+import com.onbid.domain.entity.GoodsEntity;
+import com.onbid.export.GoodsColumnarWriter;
+import com.onbid.export.GoodsCsvWriter;
+import com.onbid.export.GoodsExportWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 카탈로그 내보내기 형식별 쓰기 벤치마크 (메모리에 있는 물건 rowCount 건을 한 번 쓰는 시간)
+ * - json: /api/goods/db 응답과 같은 구조(success, items, count)를 스프링 기본 ObjectMapper 설정으로 직렬화
+ * - columnar: GoodsColumnarWriter (.onbc, 행 그룹 4096)
+ * - csv: GoodsCsvWriter
+ * DB 커서 읽기는 형식과 무관하므로 빼고, 쓴 바이트 수는 트라이얼이 끝날 때 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExportFormatBenchmark {
+
+    private static final DateTimeFormatter BID_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    @Param({"20000"})
+    private int rowCount;
+
+    private List<GoodsEntity> rows;
+    private ObjectMapper objectMapper;
+    private final CountingSink sink = new CountingSink();
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        LocalDateTime syncedAt = LocalDateTime.of(2025, 6, 1, 9, 0);
+        List<Goods> goods = OnbidCatalogFixtures.goods(rowCount, 3, 42L);
+        rows = new ArrayList<>(goods.size());
+        for (int i = 0; i < goods.size(); i++) {
+            rows.add(toEntity(i + 1L, goods.get(i), syncedAt.plusSeconds(i)));
+        }
+    }
+
+    @Benchmark
+    public long json() throws IOException {
+        sink.reset();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", true);
+        body.put("items", rows);
+        body.put("count", rows.size());
+        objectMapper.writeValue(sink, body);
+        return sink.count;
+    }
+
+    @Benchmark
+    public long columnar() throws IOException {
+        sink.reset();
+        return write(new GoodsColumnarWriter(sink, 4096));
+    }
+
+    @Benchmark
+    public long csv() throws IOException {
+        sink.reset();
+        return write(new GoodsCsvWriter(sink));
+    }
+
+    @TearDown(Level.Trial)
+    public void printSize() {
+        System.out.printf("%n[ExportFormat] rows=%d, 마지막 실행 크기 %,d byte%n", rowCount, sink.count);
+    }
+
+    private long write(GoodsExportWriter writer) throws IOException {
+        for (GoodsEntity goods : rows) {
+            writer.write(goods);
+        }
+        writer.finish();
+        return sink.count;
+    }
+
+    private static GoodsEntity toEntity(long id, Goods goods, LocalDateTime syncedAt) {
+        GoodsEntity entity = new GoodsEntity();
+        entity.setId(id);
+        entity.setHistoryNo(goods.getHistoryNo());
+        entity.setGoodsName(goods.getGoodsName());
+        entity.setStatusName(goods.getStatusName());
+        entity.setSaleTypeName(goods.getSaleTypeName());
+        entity.setCategoryName(goods.getCategoryName());
+        entity.setBidStartDate(goods.getBidStartDate());
+        entity.setBidCloseDate(goods.getBidCloseDate());
+        entity.setBidStartAt(LocalDateTime.parse(goods.getBidStartDate(), BID_DATE_FORMAT));
+        entity.setBidCloseAt(LocalDateTime.parse(goods.getBidCloseDate(), BID_DATE_FORMAT));
+        entity.setAddress(goods.getAddress());
+        entity.setMinBidPrice(goods.getMinBidPrice());
+        entity.setAppraisalPrice(goods.getAppraisalPrice());
+        entity.setFeeRate(goods.getFeeRate());
+        entity.setInquiryCount(goods.getInquiryCount());
+        entity.setFavoriteCount(goods.getFavoriteCount());
+        entity.setCreatedAt(syncedAt);
+        entity.setUpdatedAt(syncedAt);
+        return entity;
+    }
+
+    /**
+     * 쓴 바이트 수만 세는 출력 스트림 (파일/소켓 쓰기 비용은 빼고 인코딩만 비교)
+     */
+    private static final class CountingSink extends OutputStream {
+        private long count;
+
+        void reset() {
+            count = 0;
+        }
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.onbid.bench;
+
+import com.onbid.domain.dto.Goods;
+import com.onbid.simulator.OnbidCatalogGenerator;
+import com.onbid.simulator.OnbidXmlWriter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 온비드 응답/물건 목록 생성기
+ * 실제 응답과 같은 태그 구성, 비슷한 값 길이로 만들고, seed 가 같으면 항상 같은 데이터를 만든다.
+ */
+public final class OnbidCatalogFixtures {
+
+    private static final String[] CATEGORIES = {
+            "부동산 / 토지 / 대지", "부동산 / 주거용건물 / 아파트", "부동산 / 상가용및업무용건물 / 근린생활시설",
+            "자동차 / 승용차", "물품 / 기계장비", "부동산 / 토지 / 전"};
+    private static final String[] STATUSES = {"입찰준비중", "인터넷입찰진행중", "입찰마감", "낙찰"};
+    private static final String[] SIDOS = {"서울특별시", "경기도", "부산광역시", "인천광역시", "강원특별자치도", "전라남도"};
+    private static final String[] SALE_TYPES = {"매각", "임대"};
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 6, 1);
+
+    private OnbidCatalogFixtures() {
+    }
+
+    /**
+     * 물건 itemCount 건이 들어 있는 목록 조회 응답 XML (온비드 시뮬레이터와 같은 생성기 사용)
+     */
+    public static String catalogXml(int itemCount, long seed) {
+        OnbidCatalogGenerator generator = new OnbidCatalogGenerator(seed, BASE_DATE, 0);
+        return OnbidXmlWriter.page(generator.catalog(itemCount, 0), 1, itemCount, itemCount);
+    }
+
+    /**
+     * 도메인 물건 count 건 (물건관리번호 하나에 이력이 평균 duplicateFactor 건씩 붙도록 생성)
+     */
+    public static List<Goods> goods(int count, int duplicateFactor, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int distinctGoods = Math.max(1, count / Math.max(1, duplicateFactor));
+        List<Goods> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long historyNo = 1_000_000L + i;
+            long appraisal = 10_000_000L + random.nextLong(2_000_000_000L);
+            String sido = SIDOS[random.nextInt(SIDOS.length)];
+            items.add(Goods.builder()
+                    .historyNo(historyNo)
+                    .goodsNo("2025-" + String.format("%05d", random.nextInt(distinctGoods)) + "-001")
+                    .goodsName(sido + " 테스트구 테스트동 " + random.nextInt(1, 999) + "-" + random.nextInt(1, 99))
+                    .goodsDetail("대 " + random.nextInt(10, 5000) + "㎡")
+                    .appraisalPrice(appraisal)
+                    .minBidPrice(appraisal * random.nextInt(50, 101) / 100)
+                    .bidStartDate(dateTime(random, 0))
+                    .bidCloseDate(dateTime(random, 3))
+                    .noticeNo("2025" + random.nextInt(10_000, 99_999))
+                    .statusName(STATUSES[random.nextInt(STATUSES.length)])
+                    .address(sido + " 테스트구 테스트동 " + random.nextInt(1, 999))
+                    .saleTypeName(SALE_TYPES[random.nextInt(SALE_TYPES.length)])
+                    .categoryName(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                    .inquiryCount(random.nextInt(0, 5000))
+                    .favoriteCount(random.nextInt(0, 300))
+                    .feeRate(random.nextInt(50, 101) + "%")
+                    .build());
+        }
+        return items;
+    }
+
+    /**
+     * 2025년 중 임의 시각 (YYYYMMDDHHmmss), offsetDays 만큼 뒤로 민다.
+     */
+    private static String dateTime(SplittableRandom random, int offsetDays) {
+        int month = random.nextInt(1, 13);
+        int day = Math.min(28, random.nextInt(1, 26) + offsetDays);
+        return String.format("2025%02d%02d%02d0000", month, day, random.nextInt(9, 18));
+    }
+}
@@ -0,0 +1,147 @@
+package com.onbid.bench;
+
+import com.onbid.domain.dto.Goods;
+import com.onbid.domain.dto.Response.GoodsSyncResult;
+import com.onbid.service.GoodsFingerprintCache;
+import com.onbid.service.GoodsPriceHistoryService;
+import com.onbid.service.GoodsReadModel;
+import com.onbid.service.GoodsService;
+import com.onbid.service.GoodsStatsEngine;
+import com.onbid.service.PurchasedItemIndex;
+import com.onbid.support.H2Schema;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.annotation.MapperScan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * GoodsService.saveGoodsListToDB 벤치마크 (H2 MariaDB 호환 모드 메모리 DB)
+ * - NEW: 빈 테이블에 전부 신규 저장
+ * - CHANGED: 모든 물건의 가격만 바뀐 상태로 다시 저장 (goods_price 만 upsert)
+ * - UNCHANGED: 같은 목록 재저장 (지문 비교로 쓰기 없이 끝나는 경로)
+ * 네트워크 왕복이 없으므로 절대값보다 변경 전후 비교에 사용한다.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SaveGoodsBenchmark {
+
+    @Param({"NEW", "CHANGED", "UNCHANGED"})
+    private String scenario;
+
+    @Param({"1000"})
+    private int itemCount;
+
+    private AnnotationConfigApplicationContext context;
+    private GoodsService goodsService;
+    private List<Goods> original;
+    private List<Goods> repriced;
+    private boolean useRepriced;
+
+    @Setup(Level.Trial)
+    public void setUpContext() {
+        context = new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+        goodsService = context.getBean(GoodsService.class);
+        original = OnbidCatalogFixtures.goods(itemCount, 1, 42L);
+        // 같은 seed 로 한 번 더 만들어 가격만 바꾼다.
+        repriced = OnbidCatalogFixtures.goods(itemCount, 1, 42L);
+        repriced.forEach(goods -> goods.setMinBidPrice(goods.getMinBidPrice() - 1000));
+        if (!"NEW".equals(scenario)) {
+            goodsService.saveGoodsListToDB(original);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        if ("NEW".equals(scenario)) {
+            goodsService.deleteAllGoods();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public GoodsSyncResult save() {
+        List<Goods> goods = original;
+        if ("CHANGED".equals(scenario)) {
+            // 호출마다 두 가격 버전을 번갈아 저장해 항상 변경으로 판정되게 한다.
+            useRepriced = !useRepriced;
+            goods = useRepriced ? repriced : original;
+        }
+        return goodsService.saveGoodsListToDB(goods);
+    }
+
+    /**
+     * 저장 경로에 필요한 빈만 올리는 최소 스프링 구성 (웹/스케줄러/외부 API 제외)
+     */
+    @Configuration
+    @EnableTransactionManagement
+    @MapperScan(basePackages = "com.onbid.mapper", annotationClass = Mapper.class)
+    @Import({GoodsService.class, GoodsFingerprintCache.class, GoodsReadModel.class, PurchasedItemIndex.class,
+            GoodsPriceHistoryService.class, GoodsStatsEngine.class})
+    static class BenchmarkConfig {
+
+        @Bean
+        static PropertySourcesPlaceholderConfigurer propertySourcesPlaceholderConfigurer() {
+            PropertySourcesPlaceholderConfigurer configurer = new PropertySourcesPlaceholderConfigurer();
+            Properties properties = new Properties();
+            properties.setProperty("onbid.sync.batch-size", "500");
+            configurer.setProperties(properties);
+            return configurer;
+        }
+
+        @Bean
+        DataSource dataSource() {
+            // jmhJar 로 합친 jar 에서는 java.sql.Driver 서비스 파일이 H2/MariaDB 것끼리 겹쳐 DriverManager 가 드라이버를
+            // 찾지 못하므로, 드라이버 인스턴스를 직접 넘긴다.
+            DataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                    "jdbc:h2:mem:onbid-bench;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+            H2Schema.apply(dataSource);
+            return dataSource;
+        }
+
+        @Bean
+        SqlSessionFactory sqlSessionFactory(DataSource dataSource) throws Exception {
+            org.apache.ibatis.session.Configuration configuration = new org.apache.ibatis.session.Configuration();
+            configuration.setMapUnderscoreToCamelCase(true);
+            SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+            factoryBean.setDataSource(dataSource);
+            factoryBean.setConfiguration(configuration);
+            return factoryBean.getObject();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+            return new TransactionTemplate(transactionManager);
+        }
+    }
+}
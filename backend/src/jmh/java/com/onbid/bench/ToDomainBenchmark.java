@@ -0,0 +1,54 @@
+package com.onbid.bench;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.onbid.domain.dto.Goods;
+import com.onbid.domain.dto.Response.GoodsResponse;
+import com.onbid.mapper.OnbidGoodsMapper;
+import com.onbid.openapi.xml.OnbidItemRaw;
+import com.onbid.openapi.xml.OnbidResponseRaw;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * OnbidGoodsMapper.toDomain 벤치마크 (XML 바인딩이 끝난 Raw DTO → 도메인 변환만 측정)
+ * item 단위 결과는 1,000건 묶음을 OperationsPerInvocation 으로 나눈 값이다.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ToDomainBenchmark {
+
+    private static final int ITEM_COUNT = 1000;
+
+    private OnbidResponseRaw response;
+    private List<OnbidItemRaw> items;
+
+    @Setup
+    public void setUp() throws Exception {
+        XmlMapper xmlMapper = XmlMapper.builder().defaultUseWrapper(false).build();
+        xmlMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        response = xmlMapper.readValue(OnbidCatalogFixtures.catalogXml(ITEM_COUNT, 42L), OnbidResponseRaw.class);
+        items = response.getBody().getItems();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public void item(Blackhole blackhole) {
+        for (OnbidItemRaw raw : items) {
+            Goods goods = OnbidGoodsMapper.toDomain(raw);
+            blackhole.consume(goods);
+        }
+    }
+
+    @Benchmark
+    public GoodsResponse page() {
+        return OnbidGoodsMapper.toDomain(response);
+    }
+}
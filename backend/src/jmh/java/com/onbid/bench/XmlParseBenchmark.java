@@ -0,0 +1,58 @@
+package com.onbid.bench;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.onbid.domain.dto.Response.GoodsPageSummary;
+import com.onbid.domain.dto.Response.GoodsResponse;
+import com.onbid.openapi.xml.OnbidItemStreamReader;
+import com.onbid.service.OnbidApiService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 온비드 목록 응답 XML 파싱 벤치마크
+ * - buffered: OnbidApiService.parseXmlToGoodsResponse (문자열 전체 바인딩 + 도메인 변환, API 조회/전체 동기화 샤드 경로)
+ * - streaming: OnbidItemStreamReader (StAX item 단위 바인딩, 도메인 변환 제외, 크롤러 fetchPage 를 쓰는 동기화 파이프라인 경로)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class XmlParseBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    private int itemCount;
+
+    private OnbidApiService onbidApiService;
+    private OnbidItemStreamReader itemStreamReader;
+    private String xml;
+    private byte[] xmlBytes;
+
+    @Setup
+    public void setUp() {
+        // parseXmlToGoodsResponse 는 HTTP 클라이언트를 쓰지 않는다.
+        onbidApiService = new OnbidApiService(null, new SimpleMeterRegistry());
+        XmlMapper xmlMapper = XmlMapper.builder().defaultUseWrapper(false).build();
+        xmlMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        itemStreamReader = new OnbidItemStreamReader(xmlMapper);
+        xml = OnbidCatalogFixtures.catalogXml(itemCount, 42L);
+        xmlBytes = xml.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public GoodsResponse buffered() {
+        return onbidApiService.parseXmlToGoodsResponse(xml);
+    }
+
+    @Benchmark
+    public GoodsPageSummary streaming(Blackhole blackhole) {
+        return itemStreamReader.read(new ByteArrayInputStream(xmlBytes), blackhole::consume);
+    }
+}
@@ -0,0 +1,44 @@
+package com.onbid.service;
+
+import com.onbid.bench.OnbidCatalogFixtures;
+import com.onbid.domain.dto.Goods;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * GoodsSyncScheduler.selectTop100 (물건관리번호별 최신 이력 선택 + 상위 100건) 벤치마크
+ * selectTop100 이 패키지 전용이라 같은 패키지에 둔다.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SelectTop100Benchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int itemCount;
+
+    /**
+     * 물건관리번호 하나당 평균 이력 건수
+     */
+    @Param({"1", "4"})
+    private int duplicateFactor;
+
+    private GoodsSyncScheduler scheduler;
+    private List<Goods> items;
+
+    @Setup
+    public void setUp() {
+        scheduler = new GoodsSyncScheduler(null, null, null, null, null);
+        items = OnbidCatalogFixtures.goods(itemCount, duplicateFactor, 42L);
+    }
+
+    @Benchmark
+    public List<Goods> selectTop100() {
+        return scheduler.selectTop100(items);
+    }
+}
@@ -38,7 +38,7 @@ public class SpaRedirectConfig implements WebMvcConfigurer {
             // API 혹은 Swagger와 같은 백엔드 전용 경로는 SPA 포워딩에서 제외한다.
             if (resourcePath.startsWith("api/") || resourcePath.startsWith("swagger-ui")
                     || resourcePath.startsWith("v3/api-docs") || resourcePath.startsWith("swagger-resources")
-                    || resourcePath.startsWith("webjars")) {
+                    || resourcePath.startsWith("webjars") || resourcePath.startsWith("actuator")) {
                 return null;
             }
 
@@ -0,0 +1,45 @@
+package com.onbid.config;
+
+import com.onbid.service.AdaptiveSyncTrigger;
+import com.onbid.service.GoodsSyncScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 온비드 동기화 작업을 적응형 트리거로 등록
+ * 고정 cron 대신 실행이 끝날 때마다 {@link AdaptiveSyncTrigger} 가 다음 실행 시각을 정한다.
+ * 동기화는 전용 스케줄러 스레드에서 실행해 오래 걸려도 다른 @Scheduled 작업의 스레드를 차지하지 않는다.
+ * (전용 스케줄러는 빈으로 등록하지 않아 스프링 기본 스케줄러를 대체하지 않는다.)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class SyncSchedulingConfig implements DisposableBean {
+
+    private final GoodsSyncScheduler goodsSyncScheduler;
+    private final AdaptiveSyncTrigger adaptiveSyncTrigger;
+
+    private final ThreadPoolTaskScheduler syncTaskScheduler = createSyncTaskScheduler();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSync() {
+        syncTaskScheduler.schedule(goodsSyncScheduler::syncLatestGoods, adaptiveSyncTrigger);
+    }
+
+    @Override
+    public void destroy() {
+        syncTaskScheduler.shutdown();
+    }
+
+    private static ThreadPoolTaskScheduler createSyncTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("onbid-sync-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -0,0 +1,115 @@
+package com.onbid.controller;
+
+import com.onbid.domain.dto.Response.ExportJob;
+import com.onbid.service.GoodsExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 물건 카탈로그 내보내기 REST API Controller
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+@Tag(name = "내보내기", description = "분석용 물건 카탈로그 파일 내보내기 API")
+public class ExportApiController {
+    
+    private final GoodsExportService goodsExportService;
+    
+    /**
+     * 내보내기 작업 시작
+     */
+    @PostMapping
+    @Operation(summary = "내보내기 시작",
+            description = "goods_basic + goods_price 전체를 history_no 순서로 열 단위 바이너리(columnar, .onbc) 또는 CSV 파일로 백그라운드에서 만듭니다")
+    public ResponseEntity<Map<String, Object>> startExport(
+            @RequestParam(defaultValue = "columnar") @Parameter(description = "columnar 또는 csv") String format,
+            @RequestParam(defaultValue = "false") @Parameter(description = "true 면 입찰이 끝나 보관 테이블로 옮겨진 물건도 포함") boolean includeArchived) {
+        ExportJob job = goodsExportService.start(format, includeArchived);
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true); // 작업은 백그라운드에서 진행되고 상태는 GET 으로 확인
+        body.put("data", job);
+        body.put("message", "내보내기 작업 " + job.getId() + "을(를) 시작했습니다.");
+        return ResponseEntity.accepted().body(body);
+    }
+    
+    /**
+     * 내보내기 작업 목록
+     */
+    @GetMapping
+    @Operation(summary = "내보내기 작업 목록", description = "보관 중인 내보내기 작업을 최근 요청 순으로 반환합니다")
+    public ResponseEntity<Map<String, Object>> getExports() {
+        List<ExportJob> jobs = goodsExportService.list();
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true);
+        body.put("items", jobs);
+        body.put("count", jobs.size());
+        return ResponseEntity.ok(body);
+    }
+    
+    /**
+     * 내보내기 작업 상태
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "내보내기 작업 상태", description = "작업 상태, 행 수, 파일 크기, 처리 시간을 반환합니다")
+    public ResponseEntity<Map<String, Object>> getExport(
+            @PathVariable @Parameter(description = "작업 ID") String id) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true);
+        body.put("data", goodsExportService.get(id));
+        return ResponseEntity.ok(body);
+    }
+    
+    /**
+     * 내보내기 파일 내려받기
+     */
+    @GetMapping("/{id}/file")
+    @Operation(summary = "내보내기 파일 내려받기", description = "완료된 작업의 파일을 내려받습니다 (완료 전이면 409)")
+    public ResponseEntity<Resource> downloadExport(
+            @PathVariable @Parameter(description = "작업 ID") String id) {
+        ExportJob job = goodsExportService.getCompleted(id);
+        MediaType contentType = job.getFileName().endsWith(".csv")
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_OCTET_STREAM;
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(job.getFileName()).build().toString())
+                .body(new FileSystemResource(job.getPath()));
+    }
+    
+    /**
+     * 내보내기 작업 삭제
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "내보내기 작업 삭제", description = "작업과 파일을 지웁니다")
+    public ResponseEntity<Map<String, Object>> deleteExport(
+            @PathVariable @Parameter(description = "작업 ID") String id) {
+        goodsExportService.delete(id);
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true);
+        body.put("message", "내보내기 작업 " + id + "을(를) 삭제했습니다.");
+        return ResponseEntity.ok(body);
+    }
+}
@@ -1,30 +1,59 @@
 package com.onbid.controller;
 
 import com.onbid.domain.dto.Goods;
+import com.onbid.domain.dto.Request.GoodsFilterRequest;
 import com.onbid.domain.dto.Request.GoodsSearchRequest;
+import com.onbid.domain.dto.Request.PriceHistoryRequest;
+import com.onbid.domain.dto.Response.GoodsPage;
 import com.onbid.domain.dto.Response.GoodsResponse;
+import com.onbid.domain.dto.Response.GoodsSyncResult;
+import com.onbid.domain.dto.Response.PriceSeries;
 import com.onbid.domain.entity.GoodsEntity;
+import com.onbid.domain.entity.SyncJobEntity;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import com.onbid.service.AdaptiveSyncTrigger;
+import com.onbid.service.FullCatalogSyncService;
+import com.onbid.service.GoodsArchiver;
+import com.onbid.service.GoodsChangeStream;
+import com.onbid.service.GoodsPageService;
+import com.onbid.service.GoodsPayloadCache;
+import com.onbid.service.GoodsPriceHistoryService;
 import com.onbid.service.GoodsService;
+import com.onbid.service.GoodsStatsEngine;
 import com.onbid.service.GoodsSyncStatusService;
 import com.onbid.service.OnbidApiService;
+import com.onbid.service.OnbidResponseCache;
+import com.onbid.service.ResultStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 공매물건 REST API Controller
@@ -37,8 +66,18 @@ import org.springframework.web.bind.annotation.RestController;
 public class GoodsApiController {
     
     private final OnbidApiService onbidApiService;
+    private final OnbidResponseCache onbidResponseCache;
     private final GoodsService goodsService;
+    private final GoodsPageService goodsPageService;
     private final GoodsSyncStatusService goodsSyncStatusService;
+    private final AdaptiveSyncTrigger adaptiveSyncTrigger;
+    private final GoodsPriceHistoryService goodsPriceHistoryService;
+    private final FullCatalogSyncService fullCatalogSyncService;
+    private final GoodsArchiver goodsArchiver;
+    private final GoodsChangeStream goodsChangeStream;
+    private final GoodsPayloadCache goodsPayloadCache;
+    private final ResultStreamService resultStreamService;
+    private final GoodsStatsEngine goodsStatsEngine;
     
     /**
      * 물건 목록 조회 (기본)
@@ -51,22 +90,26 @@ public class GoodsApiController {
         log.info("물건 목록 조회 API: pageNo={}, numOfRows={}, sido={}",
                 request.getPageNo(), request.getNumOfRows(), request.getSido());
         
-        GoodsResponse goodsResponse = onbidApiService.getGoodsListParsed(
-                request.getPageNo(),
-                request.getNumOfRows(),
-                request.getCtgrHirkId(),
-                request.getSido(),
-                request.getSgk(),
-                request.getEmd(),
-                request.getGoodsPriceFrom(),
-                request.getGoodsPriceTo(),
-                request.getOpenPriceFrom(),
-                request.getOpenPriceTo(),
-                request.getCltrNm(),
-                request.getPbctBegnDtm(),
-                request.getPbctClsDtm(),
-                request.getCltrMnmtNo()
-        );
+        // 같은 검색 조건은 캐시된 응답을 쓰고, 동시에 들어온 요청은 한 번의 외부 호출만 기다림
+        // 캐시 키와 외부 호출 모두 정규화한 조건으로 만들어야 같은 키의 항목이 같은 조회 결과가 된다.
+        GoodsSearchRequest search = request.normalized();
+        GoodsResponse goodsResponse = onbidResponseCache.get(OnbidResponseCache.keyOf(search),
+                () -> onbidApiService.getGoodsListParsed(
+                        search.getPageNo(),
+                        search.getNumOfRows(),
+                        search.getCtgrHirkId(),
+                        search.getSido(),
+                        search.getSgk(),
+                        search.getEmd(),
+                        search.getGoodsPriceFrom(),
+                        search.getGoodsPriceTo(),
+                        search.getOpenPriceFrom(),
+                        search.getOpenPriceTo(),
+                        search.getCltrNm(),
+                        search.getPbctBegnDtm(),
+                        search.getPbctClsDtm(),
+                        search.getCltrMnmtNo()
+                ));
         
         Map<String, Object> body = new HashMap<>();
         body.put("success", true); // 성공 여부를 한눈에 확인하도록 구성
@@ -80,11 +123,65 @@ public class GoodsApiController {
      * DB에서 물건 목록 조회
      */
     @GetMapping("/db")
-    @Operation(summary = "DB에서 물건 목록 조회", description = "데이터베이스에 저장된 물건 목록을 조회합니다")
-    public ResponseEntity<Map<String, Object>> getGoodsFromDB() {
-        List<GoodsEntity> goods = goodsService.getAllGoods();
+    @Operation(summary = "DB에서 물건 목록 조회",
+            description = "동기화 시점의 메모리 스냅샷에서 물건 목록을 필터/정렬해 조회합니다")
+    public ResponseEntity<byte[]> getGoodsFromDB(
+            @ParameterObject GoodsFilterRequest filter,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) @Parameter(hidden = true) String acceptEncoding,
+            WebRequest webRequest) {
+        // 본문은 데이터 버전마다 한 번만 직렬화되고, 응답의 version 은 /stream?since= 구독 기준으로 쓴다.
+        return payloadResponse(goodsPayloadCache.list(filter), acceptsGzip(acceptEncoding), webRequest);
+    }
+    
+    /**
+     * DB 전체 물건 스트리밍 조회
+     */
+    @GetMapping("/db/stream")
+    @Operation(summary = "DB 전체 물건 스트리밍 조회",
+            description = "DB 커서로 한 행씩 읽어 바로 응답에 씁니다. format=json 이면 /db 와 같은 구조, ndjson 이면 한 줄에 한 건")
+    public ResponseEntity<StreamingResponseBody> streamGoodsFromDB(
+            @RequestParam(defaultValue = "json") @Parameter(description = "json 또는 ndjson") String format) {
+        ResultStreamService.Format streamFormat = ResultStreamService.Format.from(format);
+        return ResponseEntity.ok()
+                .contentType(streamFormat.getMediaType())
+                .body(resultStreamService.goods(streamFormat));
+    }
+    
+    /**
+     * DB에서 물건 목록 커서 페이지 조회
+     */
+    @GetMapping("/db/page")
+    @Operation(summary = "DB 물건 페이지 조회",
+            description = "필터 조건과 커서(nextCursor)로 물건 목록을 페이지 단위로 조회합니다. "
+                    + "정렬 기준은 createdAt, bidCloseDate, minBidPrice, 방향은 asc, desc 만 지원합니다")
+    public ResponseEntity<Map<String, Object>> getGoodsPageFromDB(
+            @ParameterObject GoodsFilterRequest filter,
+            @RequestParam(required = false) @Parameter(description = "이전 페이지의 nextCursor") String cursor,
+            @RequestParam(required = false) @Parameter(description = "페이지 크기 (최대 200)") Integer size) {
+        
+        GoodsPage page = goodsPageService.getPage(filter, cursor, size);
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true); // 페이지 조회도 동일 구조 사용
+        body.put("items", page.getItems());
+        body.put("count", page.getItems().size());
+        body.put("nextCursor", page.getNextCursor());
+        body.put("hasNext", page.isHasNext());
+        return ResponseEntity.ok(body);
+    }
+    
+    /**
+     * 입찰 마감 임박 물건 조회
+     */
+    @GetMapping("/db/closing-soon")
+    @Operation(summary = "마감 임박 물건 조회",
+            description = "지금부터 지정한 시간(분) 안에 입찰이 마감되는 물건을 마감이 빠른 순으로 조회합니다")
+    public ResponseEntity<Map<String, Object>> getClosingSoon(
+            @RequestParam(required = false) @Parameter(description = "조회 창 (분, 기본 60, 최대 10080)") Integer withinMinutes,
+            @RequestParam(required = false) @Parameter(description = "최대 건수 (기본 100, 최대 500)") Integer limit) {
+        
+        List<GoodsEntity> goods = goodsService.getClosingSoon(withinMinutes, limit);
         Map<String, Object> body = new HashMap<>();
-        body.put("success", true); // DB 조회 결과가 성공했음을 표시
+        body.put("success", true); // 목록 조회와 동일한 구조 사용
         body.put("items", goods);
         body.put("count", goods.size());
         return ResponseEntity.ok(body);
@@ -95,13 +192,49 @@ public class GoodsApiController {
      */
     @GetMapping("/db/{historyNo}")
     @Operation(summary = "DB에서 물건 상세 조회", description = "물건이력번호로 특정 물건의 상세 정보를 조회합니다")
-    public ResponseEntity<Map<String, Object>> getGoodsDetailFromDB(
-            @PathVariable @Parameter(description = "물건이력번호") Long historyNo) {
+    public ResponseEntity<byte[]> getGoodsDetailFromDB(
+            @PathVariable @Parameter(description = "물건이력번호") Long historyNo,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) @Parameter(hidden = true) String acceptEncoding,
+            WebRequest webRequest) {
         
-        GoodsEntity goods = goodsService.getGoodsByHistoryNo(historyNo);
+        return payloadResponse(goodsPayloadCache.detail(historyNo), acceptsGzip(acceptEncoding), webRequest);
+    }
+    
+    /**
+     * 특정 물건의 가격/인기도 이력 조회
+     */
+    @GetMapping("/db/{historyNo}/price-history")
+    @Operation(summary = "가격 이력 조회",
+            description = "최저입찰가/조회수/관심수가 바뀐 시점들을 델타 인코딩된 시계열로 반환합니다")
+    public ResponseEntity<Map<String, Object>> getPriceHistory(
+            @PathVariable @Parameter(description = "물건이력번호") Long historyNo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "조회 시작 일시 (포함)") LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "조회 끝 일시 (미포함)") LocalDateTime to) {
+        
+        PriceSeries series = goodsPriceHistoryService.getSeries(List.of(historyNo), from, to).get(0);
         Map<String, Object> body = new HashMap<>();
         body.put("success", true); // 단건 데이터도 동일한 구조로 전달
-        body.put("data", goods);
+        body.put("data", series);
+        return ResponseEntity.ok(body);
+    }
+    
+    /**
+     * 여러 물건의 가격/인기도 이력 일괄 조회 (차트용)
+     */
+    @PostMapping("/db/price-history")
+    @Operation(summary = "가격 이력 일괄 조회",
+            description = "물건이력번호 목록(최대 2000건)의 이력을 물건별 델타 인코딩 시계열로 반환합니다")
+    public ResponseEntity<Map<String, Object>> getPriceHistories(
+            @Valid @RequestBody PriceHistoryRequest request) {
+        
+        List<PriceSeries> series = goodsPriceHistoryService.getSeries(
+                request.getHistoryNos(), request.getFrom(), request.getTo());
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true);
+        body.put("items", series);
+        body.put("count", series.size());
         return ResponseEntity.ok(body);
     }
     
@@ -114,12 +247,32 @@ public class GoodsApiController {
             @RequestBody @Parameter(description = "저장할 물건 목록") List<Goods> goods) {
         
         log.info("물건 목록 일괄 저장 API 호출 - 개수: {}", goods != null ? goods.size() : 0);
-        int savedCount = goodsService.saveGoodsListToDB(goods);
+        if (fullCatalogSyncService.isRunning()) {
+            // 샤드가 같은 물건을 저장하는 중에 끼어들면 지문 캐시와 DB 가 어긋날 수 있다.
+            throw new BusinessException(ErrorCode.FULL_SYNC_IN_PROGRESS, "전체 동기화 중에는 일괄 저장할 수 없습니다.");
+        }
+        GoodsSyncResult result = goodsService.saveGoodsListToDB(goods);
+        if (result.getSyncedCount() > 0) {
+            goodsService.refreshReadModel();
+        }
+        int savedCount = result.getSyncedCount();
+        int failedCount = result.getFailedCount();
         Map<String, Object> body = new HashMap<>();
-        body.put("success", true); // 저장 성공 플래그
+        body.put("success", failedCount == 0); // 실패한 청크가 하나라도 있으면 실패로 표기
         body.put("savedCount", savedCount);
-        body.put("message", savedCount + "개의 물건이 저장되었습니다.");
-        return ResponseEntity.ok(body);
+        body.put("newCount", result.getNewCount());
+        body.put("changedCount", result.getChangedCount());
+        body.put("unchangedCount", result.getUnchangedCount());
+        body.put("failedCount", failedCount);
+        body.put("failures", result.getFailures());
+        if (failedCount == 0) {
+            body.put("message", savedCount + "개의 물건이 저장되었습니다.");
+            return ResponseEntity.ok(body);
+        }
+        body.put("message", savedCount + "개 저장, " + failedCount + "개 저장 실패");
+        // 일부만 저장됐으면 207, 하나도 저장하지 못했으면 500
+        HttpStatus status = savedCount > 0 ? HttpStatus.MULTI_STATUS : HttpStatus.INTERNAL_SERVER_ERROR;
+        return ResponseEntity.status(status).body(body);
     }
     
     /**
@@ -136,18 +289,177 @@ public class GoodsApiController {
         return ResponseEntity.ok(body);
     }
     
+    /**
+     * 입찰이 끝난 물건을 보관 테이블로 즉시 이동
+     */
+    @PostMapping("/db/archive")
+    @Operation(summary = "마감 물건 보관 이동",
+            description = "입찰마감 후 onbid.archive.grace-hours 가 지난 물건을 서빙 테이블에서 보관 테이블로 옮깁니다 (평소에는 백그라운드에서 주기 실행)")
+    public ResponseEntity<Map<String, Object>> archiveClosedGoods() {
+        int archivedCount = goodsArchiver.archiveClosed();
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true);
+        body.put("archivedCount", archivedCount);
+        body.put("data", goodsArchiver.stats());
+        body.put("message", archivedCount + "개의 물건을 보관 테이블로 옮겼습니다.");
+        return ResponseEntity.ok(body);
+    }
+    
     /**
      * 동기화 상태 조회
      */
     @GetMapping("/refresh-status")
-    @Operation(summary = "동기화 상태 조회", description = "최근 동기화시각을을 반환합니다")
+    @Operation(summary = "동기화 상태 조회", description = "최근 동기화시각과 적응형 스케줄러가 정한 다음 동기화 예정 시각을 반환합니다")
     public ResponseEntity<Map<String, Object>> getRefreshStatus() {
         Map<String, Object> body = new HashMap<>();
         body.put("success", true); // 동기화 지표 응답도 동일 구조 사용
         body.put("lastSyncedAt", goodsSyncStatusService.getLastSyncedAt());
         body.put("nextSyncAt", goodsSyncStatusService.getNextSyncAt());
         body.put("secondsUntilNextSync", goodsSyncStatusService.getSecondsUntilNextSync());
+        body.put("schedule", adaptiveSyncTrigger.stats());
         return ResponseEntity.ok(body);
     }
+    
+    /**
+     * 물건 변경분 스트림 구독 (SSE)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "물건 변경분 스트림",
+            description = "동기화로 바뀐 물건(추가/변경/삭제)을 delta 이벤트로 보냅니다. 이어갈 수 없으면 resync 이벤트를 보내므로 /db 를 다시 조회하세요")
+    public SseEmitter streamGoodsChanges(
+            @RequestParam(required = false) @Parameter(description = "클라이언트가 가진 데이터 버전 (/db 응답의 version)") Long since,
+            @RequestHeader(value = "Last-Event-ID", required = false) @Parameter(hidden = true) String lastEventId) {
+        // 브라우저가 자동 재연결할 때 보내는 Last-Event-ID 가 처음 지정한 since 보다 최신이다.
+        Long from = since;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                from = Long.valueOf(lastEventId.trim());
+            } catch (NumberFormatException ex) {
+                log.debug("잘못된 Last-Event-ID 무시: {}", lastEventId);
+            }
+        }
+        return goodsChangeStream.subscribe(from);
+    }
+    
+    /**
+     * 변경분 스트림 통계
+     */
+    @GetMapping("/stream/stats")
+    @Operation(summary = "변경분 스트림 통계", description = "구독자 수, 발행/전송 건수, 대기열 초과 횟수를 반환합니다")
+    public ResponseEntity<Map<String, Object>> getStreamStats() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true); // 스트림 지표 응답도 동일 구조 사용
+        body.put("data", goodsChangeStream.stats());
+        return ResponseEntity.ok(body);
+    }
+    
+    /**
+     * 전체 카탈로그 동기화 시작
+     */
+    @PostMapping("/full-sync")
+    @Operation(summary = "전체 동기화 시작",
+            description = "카테고리 × 시도 샤드로 전체 카탈로그를 병렬 동기화합니다. resume=true 면 실패/취소된 마지막 작업을 체크포인트부터 재개합니다")
+    public ResponseEntity<Map<String, Object>> startFullSync(
+            @RequestParam(defaultValue = "true") @Parameter(description = "마지막 작업이 끝나지 않았으면 이어서 실행") boolean resume) {
+        SyncJobEntity job = fullCatalogSyncService.start(resume);
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true); // 작업은 백그라운드에서 진행되고 상태는 GET 으로 확인
+        body.put("data", job);
+        body.put("message", "전체 동기화 작업 " + job.getId() + "을(를) 시작했습니다.");
+        return ResponseEntity.accepted().body(body);
+    }
+    
+    /**
+     * 전체 카탈로그 동기화 진행 상황
+     */
+    @GetMapping("/full-sync")
+    @Operation(summary = "전체 동기화 상태", description = "마지막 전체 동기화 작업과 샤드별 체크포인트(저장 완료 페이지)를 반환합니다")
+    public ResponseEntity<Map<String, Object>> getFullSyncStatus() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true); // 진행 상황도 동일 구조 사용
+        body.put("data", fullCatalogSyncService.status());
+        return ResponseEntity.ok(body);
+    }
+    
+    /**
+     * 전체 카탈로그 동기화 취소
+     */
+    @DeleteMapping("/full-sync")
+    @Operation(summary = "전체 동기화 취소", description = "진행 중인 전체 동기화를 멈춥니다 (저장한 페이지까지 체크포인트가 남아 재개 가능)")
+    public ResponseEntity<Map<String, Object>> cancelFullSync() {
+        boolean cancelled = fullCatalogSyncService.cancel();
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true);
+        body.put("cancelled", cancelled);
+        body.put("message", cancelled ? "전체 동기화 취소를 요청했습니다." : "진행 중인 전체 동기화가 없습니다.");
+        return ResponseEntity.ok(body);
+    }
+    
+    /**
+     * 온비드 조회 캐시 통계
+     */
+    @GetMapping("/cache-stats")
+    @Operation(summary = "조회 캐시 통계",
+            description = "온비드 조회 캐시 적중/미스/합류(coalesced) 횟수와 DB 응답 본문 캐시(payload) 현황을 반환합니다")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true); // 통계 응답도 동일 구조 사용
+        body.put("data", onbidResponseCache.stats());
+        body.put("payload", goodsPayloadCache.stats());
+        return ResponseEntity.ok(body);
+    }
+    
+    /**
+     * 분류/지역별 물건 통계
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "분류/지역별 물건 통계",
+            description = "DB 물건의 건수, 최저입찰가/감정가/감정가 대비 최저입찰가 비율의 합계/평균/최소/최대/근사 분위수(p50/p90/p99), 상태별 건수를 "
+                    + "전체/분류(category)/지역(region)별로 반환합니다. 동기화 때마다 증분 갱신한 값을 그대로 돌려줍니다")
+    public ResponseEntity<Map<String, Object>> getGoodsStats(
+            @RequestParam(required = false) @Parameter(description = "category 또는 region (없으면 전체)") String dimension) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true); // 통계 응답도 동일 구조 사용
+        body.put("data", goodsStatsEngine.stats(dimension));
+        return ResponseEntity.ok(body);
+    }
+    
+    /**
+     * 온비드 호출 지연시간/커넥션 풀 통계
+     */
+    @GetMapping("/upstream-stats")
+    @Operation(summary = "온비드 호출 통계", description = "호출 수, 실패/시간 초과 수, 평균/최대 지연시간과 커넥션 풀 상태를 반환합니다")
+    public ResponseEntity<Map<String, Object>> getUpstreamStats() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true); // 통계 응답도 동일 구조 사용
+        body.put("data", onbidApiService.getUpstreamStats());
+        return ResponseEntity.ok(body);
+    }
+    
+    /**
+     * 미리 인코딩한 본문 응답 (클라이언트가 gzip 을 받으면 압축본을 그대로 보냄)
+     * ETag 가 있으면 매번 재검증(no-cache)하도록 해서 데이터가 바뀌지 않은 동안은 304 로 끝나게 한다.
+     * If-None-Match 비교와 응답 헤더 모두 실제로 보낼 본문(압축 여부 포함)의 ETag 하나만 쓴다.
+     */
+    private ResponseEntity<byte[]> payloadResponse(GoodsPayloadCache.Payload payload, boolean gzip, WebRequest webRequest) {
+        String etag = payload.etag(gzip);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        boolean compressed = gzip && payload.gzip() != null;
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (etag != null) {
+            builder.eTag(etag).cacheControl(CacheControl.noCache());
+        }
+        if (compressed) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(compressed ? payload.gzip() : payload.json());
+    }
+    
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
 }
-
@@ -1,8 +1,10 @@
 package com.onbid.controller;
 
 import com.onbid.domain.dto.Request.PurchaseRequest;
+import com.onbid.domain.dto.Response.PurchaseResult;
 import com.onbid.domain.entity.PurchaseEntity;
 import com.onbid.service.PurchaseService;
+import com.onbid.service.ResultStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,8 +20,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 매매(구매) REST API Controller
@@ -32,26 +37,48 @@ import org.springframework.web.bind.annotation.RestController;
 public class PurchaseApiController {
     
     private final PurchaseService purchaseService;
+    private final ResultStreamService resultStreamService;
     
     /**
      * 구매 생성
      */
     @PostMapping
-    @Operation(summary = "구매 생성", description = "물건을 구매합니다")
+    @Operation(summary = "구매 생성",
+            description = "물건을 구매합니다. 같은 Idempotency-Key 로 다시 요청하면 처음 구매 결과를 그대로 반환합니다")
     public ResponseEntity<Map<String, Object>> createPurchase(
-            @Valid @RequestBody PurchaseRequest request) {
+            @Valid @RequestBody PurchaseRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false)
+            @Parameter(description = "멱등 키 (재시도 시 같은 값 사용, 64자 이하)") String idempotencyKey) {
         
         log.info("구매 생성 API 호출 - historyNo: {}, price: {}",
                 request.getHistoryNo(), request.getPurchasePrice());
         
-        PurchaseEntity purchase = purchaseService.createPurchase(request);
+        PurchaseResult result = purchaseService.createPurchase(request, idempotencyKey);
         Map<String, Object> body = new HashMap<>();
         body.put("success", true); // 구매 요청이 정상 완료되었음을 알리는 플래그
-        body.put("purchase", purchase);
+        body.put("purchase", result.getPurchase());
+        body.put("replayed", result.isReplayed());
         body.put("message", "구매가 완료되었습니다.");
         return ResponseEntity.ok(body);
     }
     
+    /**
+     * 여러 물건의 구매 완료 여부 조회 (목록/상세 화면의 구매 가능 여부 표시용)
+     */
+    @GetMapping("/flags")
+    @Operation(summary = "구매 여부 일괄 조회",
+            description = "물건이력번호 목록(최대 1000건)의 구매 완료 여부를 DB 조회 없이 메모리 인덱스에서 반환합니다")
+    public ResponseEntity<Map<String, Object>> getPurchasedFlags(
+            @RequestParam @Parameter(description = "물건이력번호 목록 (쉼표 구분)") List<Long> historyNos) {
+        
+        Map<Long, Boolean> flags = purchaseService.getPurchasedFlags(historyNos);
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", true);
+        body.put("flags", flags);
+        body.put("count", flags.size());
+        return ResponseEntity.ok(body);
+    }
+    
     /**
      * 특정 물건의 구매 이력 조회 (이미 구매했으면 상세 페이지에서 구매 불가능)
      */
@@ -82,6 +109,20 @@ public class PurchaseApiController {
         return ResponseEntity.ok(body);
     }
     
+    /**
+     * 전체 구매 이력 스트리밍 조회
+     */
+    @GetMapping("/stream")
+    @Operation(summary = "전체 구매 이력 스트리밍 조회",
+            description = "DB 커서로 한 행씩 읽어 바로 응답에 씁니다. format=json 이면 전체 조회와 같은 구조, ndjson 이면 한 줄에 한 건")
+    public ResponseEntity<StreamingResponseBody> streamAllPurchases(
+            @RequestParam(defaultValue = "json") @Parameter(description = "json 또는 ndjson") String format) {
+        ResultStreamService.Format streamFormat = ResultStreamService.Format.from(format);
+        return ResponseEntity.ok()
+                .contentType(streamFormat.getMediaType())
+                .body(resultStreamService.purchases(streamFormat));
+    }
+    
     /**
      * 전체 구매 이력 초기화
      */
@@ -0,0 +1,69 @@
+package com.onbid.domain.dto.Request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * DB에 저장된 물건 목록 필터/정렬 조건 DTO
+ */
+@Data
+public class GoodsFilterRequest {
+
+    @Schema(description = "카테고리명 (정확히 일치)")
+    private String categoryName; // 카테고리명
+
+    @Schema(description = "물건상태명 (정확히 일치)")
+    private String statusName; // 물건상태명
+
+    @Schema(description = "최저입찰가 하한")
+    private Long minBidPriceFrom; // 최저입찰가 하한
+
+    @Schema(description = "최저입찰가 상한")
+    private Long minBidPriceTo; // 최저입찰가 상한
+
+    @Schema(description = "감정가 하한")
+    private Long appraisalPriceFrom; // 감정가 하한
+
+    @Schema(description = "감정가 상한")
+    private Long appraisalPriceTo; // 감정가 상한
+
+    @Schema(description = "입찰마감일시 시작 (YYYYMMDDHHmmss)")
+    private String bidCloseFrom; // 입찰마감일시 시작
+
+    @Schema(description = "입찰마감일시 끝 (YYYYMMDDHHmmss)")
+    private String bidCloseTo; // 입찰마감일시 끝
+
+    @Schema(description = "물건소재지 앞부분 (예: 서울특별시 강남구)")
+    private String addressPrefix; // 주소 접두어
+
+    @Schema(description = "정렬 기준 (createdAt, bidCloseDate, minBidPrice, appraisalPrice, inquiryCount, favoriteCount)"
+            + " - /db/page 는 createdAt, bidCloseDate, minBidPrice 만 지원",
+            defaultValue = "createdAt")
+    private String sort = "createdAt"; // 정렬 기준
+
+    @Schema(description = "정렬 방향 (asc, desc)", defaultValue = "desc")
+    private String direction = "desc"; // 정렬 방향
+
+    /**
+     * 필터 조건이 하나라도 있는지 여부
+     */
+    public boolean hasFilter() {
+        return hasText(categoryName) || hasText(statusName)
+                || minBidPriceFrom != null || minBidPriceTo != null
+                || appraisalPriceFrom != null || appraisalPriceTo != null
+                || hasText(bidCloseFrom) || hasText(bidCloseTo)
+                || hasText(addressPrefix);
+    }
+
+    /**
+     * 기본 정렬(등록일시 내림차순)과 다른지 여부
+     */
+    public boolean hasCustomSort() {
+        return (sort != null && !"createdAt".equals(sort))
+                || (direction != null && !"desc".equalsIgnoreCase(direction));
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
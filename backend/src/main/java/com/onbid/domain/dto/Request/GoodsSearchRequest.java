@@ -53,4 +53,35 @@ public class GoodsSearchRequest {
 
     @Schema(description = "물건관리번호")
     private String cltrMnmtNo; // 물건 관리번호
-}
\ No newline at end of file
+
+    /**
+     * 앞뒤 공백을 없애고 빈 값은 미지정(null)으로 바꾼 사본
+     * 캐시 키와 외부 호출이 같은 값을 보도록 둘 다 이 사본으로 만든다.
+     */
+    public GoodsSearchRequest normalized() {
+        GoodsSearchRequest copy = new GoodsSearchRequest();
+        copy.setPageNo(pageNo);
+        copy.setNumOfRows(numOfRows);
+        copy.setCtgrHirkId(normalize(ctgrHirkId));
+        copy.setSido(normalize(sido));
+        copy.setSgk(normalize(sgk));
+        copy.setEmd(normalize(emd));
+        copy.setGoodsPriceFrom(normalize(goodsPriceFrom));
+        copy.setGoodsPriceTo(normalize(goodsPriceTo));
+        copy.setOpenPriceFrom(normalize(openPriceFrom));
+        copy.setOpenPriceTo(normalize(openPriceTo));
+        copy.setCltrNm(normalize(cltrNm));
+        copy.setPbctBegnDtm(normalize(pbctBegnDtm));
+        copy.setPbctClsDtm(normalize(pbctClsDtm));
+        copy.setCltrMnmtNo(normalize(cltrMnmtNo));
+        return copy;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,26 @@
+package com.onbid.domain.dto.Request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * 여러 물건의 가격/인기도 이력 조회 요청 DTO
+ */
+@Data
+public class PriceHistoryRequest {
+
+    @Schema(description = "물건이력번호 목록 (최대 2000건)")
+    @NotEmpty(message = "물건이력번호 목록은 필수입니다.")
+    @Size(max = 2000, message = "한 번에 조회할 수 있는 물건은 최대 2000건입니다.")
+    private List<Long> historyNos; // 물건이력번호 목록
+
+    @Schema(description = "조회 시작 일시 (포함, 생략 시 처음부터)")
+    private LocalDateTime from; // 조회 시작
+
+    @Schema(description = "조회 끝 일시 (미포함, 생략 시 현재까지)")
+    private LocalDateTime to; // 조회 끝
+}
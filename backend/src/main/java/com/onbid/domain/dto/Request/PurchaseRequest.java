@@ -1,6 +1,7 @@
 package com.onbid.domain.dto.Request;
 
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -27,5 +28,12 @@ public class PurchaseRequest {
      */
     @NotNull(message = "구매가격은 필수입니다.")
     private Long purchasePrice;
+    
+    /**
+     * 멱등 키 (선택, Idempotency-Key 헤더로도 전달 가능)
+     * 같은 키로 다시 요청하면 새로 구매하지 않고 처음 구매 결과를 돌려준다.
+     */
+    @Size(max = 64, message = "멱등 키는 64자 이하여야 합니다.")
+    private String idempotencyKey;
 }
 
@@ -0,0 +1,85 @@
+package com.onbid.domain.dto.Response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 물건 카탈로그 내보내기 작업 상태 (상태가 바뀔 때마다 새 객체로 교체)
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJob {
+
+    /**
+     * 작업 ID
+     */
+    private String id;
+
+    /**
+     * 형식 (columnar, csv)
+     */
+    private String format;
+
+    /**
+     * 보관 테이블 포함 여부
+     */
+    private boolean includeArchived;
+
+    /**
+     * 상태 (QUEUED, RUNNING, COMPLETED, FAILED)
+     */
+    private String status;
+
+    /**
+     * 내려받을 파일 이름
+     */
+    private String fileName;
+
+    /**
+     * 내보낸 행 수
+     */
+    private long rowCount;
+
+    /**
+     * 파일 크기(byte)
+     */
+    private long sizeBytes;
+
+    /**
+     * 실패 사유
+     */
+    private String message;
+
+    /**
+     * 요청 시각
+     */
+    private LocalDateTime requestedAt;
+
+    /**
+     * 시작 시각
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * 완료(실패) 시각
+     */
+    private LocalDateTime finishedAt;
+
+    /**
+     * 처리 시간(ms)
+     */
+    private long elapsedMs;
+
+    /**
+     * 파일 경로 (서버 내부용, 응답에는 넣지 않음)
+     */
+    @JsonIgnore
+    private Path path;
+}
@@ -0,0 +1,61 @@
+package com.onbid.domain.dto.Response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.onbid.domain.entity.GoodsEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 읽기 모델 두 버전 사이의 변경분
+ * previousVersion 상태의 목록에 적용하면 version 상태가 된다.
+ * 적용: removed 삭제 -> changed 교체 -> inserted 추가 (모두 historyNo 기준이라 같은 변경분을 두 번 적용해도 결과가 같다)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoodsDelta {
+
+    /**
+     * 변경 후 데이터 버전
+     */
+    private long version;
+
+    /**
+     * 변경 전 데이터 버전
+     */
+    private long previousVersion;
+
+    /**
+     * 새로 생긴 물건
+     */
+    private List<GoodsEntity> inserted;
+
+    /**
+     * 필드가 바뀐 물건 (바뀐 뒤의 전체 값)
+     */
+    private List<GoodsEntity> changed;
+
+    /**
+     * 사라진 물건이력번호 (삭제/보관 이동)
+     */
+    private List<Long> removed;
+
+    /**
+     * 생성 시각
+     */
+    private LocalDateTime createdAt;
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return inserted.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+
+    public int size() {
+        return inserted.size() + changed.size() + removed.size();
+    }
+}
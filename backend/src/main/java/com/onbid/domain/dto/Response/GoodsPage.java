@@ -0,0 +1,33 @@
+package com.onbid.domain.dto.Response;
+
+import com.onbid.domain.entity.GoodsEntity;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 키셋 페이지 조회 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoodsPage {
+
+    /**
+     * 이번 페이지 물건 목록
+     */
+    private List<GoodsEntity> items;
+
+    /**
+     * 다음 페이지 요청 시 넘길 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+}
@@ -0,0 +1,46 @@
+package com.onbid.domain.dto.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스트리밍 조회 시 item 목록을 제외한 온비드 응답 요약 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoodsPageSummary {
+
+    /**
+     * 결과 코드 (00: 정상)
+     */
+    private String resultCode;
+
+    /**
+     * 결과 메시지
+     */
+    private String resultMsg;
+
+    /**
+     * 한 페이지에 요청한 결과 수
+     */
+    private Integer numOfRows;
+
+    /**
+     * 페이지 번호
+     */
+    private Integer pageNo;
+
+    /**
+     * 전체 결과 수
+     */
+    private Integer totalCount;
+
+    /**
+     * 이번 페이지에서 실제로 읽은 item 수
+     */
+    private int itemCount;
+}
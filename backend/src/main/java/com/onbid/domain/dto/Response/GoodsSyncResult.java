@@ -0,0 +1,122 @@
+package com.onbid.domain.dto.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 물건 목록 DB 동기화 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoodsSyncResult {
+
+    /**
+     * 요청으로 들어온 물건 수
+     */
+    private int requestedCount;
+
+    /**
+     * DB에 반영된 물건 수 (신규 + 변경)
+     */
+    private int syncedCount;
+
+    /**
+     * 새로 추가된 물건 수
+     */
+    private int newCount;
+
+    /**
+     * 기본정보 또는 가격정보가 바뀌어 다시 쓴 물건 수
+     */
+    private int changedCount;
+
+    /**
+     * 내용이 같아 쓰기를 건너뛴 물건 수
+     */
+    private int unchangedCount;
+
+    /**
+     * 실패한 청크에 포함되어 반영되지 못한 물건 수
+     */
+    private int failedCount;
+
+    /**
+     * 물건이력번호가 없거나 중복되어 건너뛴 물건 수
+     */
+    private int skippedCount;
+
+    /**
+     * 커밋 단위 청크 수
+     */
+    private int chunkCount;
+
+    /**
+     * 처리 시간(ms)
+     */
+    private long elapsedMs;
+
+    /**
+     * 실패한 청크 목록
+     */
+    @Builder.Default
+    private List<ChunkFailure> failures = new ArrayList<>();
+
+    public static GoodsSyncResult empty() {
+        return GoodsSyncResult.builder().build();
+    }
+
+    /**
+     * 다른 배치의 결과를 이 결과에 더함 (여러 번 나눠 저장한 동기화의 합계용, 처리 시간은 합산하지 않음)
+     */
+    public void merge(GoodsSyncResult other) {
+        requestedCount += other.requestedCount;
+        syncedCount += other.syncedCount;
+        newCount += other.newCount;
+        changedCount += other.changedCount;
+        unchangedCount += other.unchangedCount;
+        failedCount += other.failedCount;
+        skippedCount += other.skippedCount;
+        chunkCount += other.chunkCount;
+        failures.addAll(other.failures);
+    }
+
+    /**
+     * 청크 단위 실패 정보
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChunkFailure {
+        /**
+         * 청크 순번 (0부터 시작)
+         */
+        private int chunkIndex;
+
+        /**
+         * 청크에 포함된 물건 수
+         */
+        private int size;
+
+        /**
+         * 청크의 첫 물건이력번호
+         */
+        private Long firstHistoryNo;
+
+        /**
+         * 청크의 마지막 물건이력번호
+         */
+        private Long lastHistoryNo;
+
+        /**
+         * 실패 사유
+         */
+        private String message;
+    }
+}
@@ -0,0 +1,55 @@
+package com.onbid.domain.dto.Response;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 물건 하나의 가격/인기도 시계열 (열 단위 델타 인코딩)
+ * 각 배열의 첫 값은 실제 값이고, 이후 값은 직전 점과의 차이다.
+ * 값이 바뀔 때만 점이 쌓이므로 차이는 대부분 작은 수가 되어 JSON 크기가 줄어든다.
+ * 복원: value[i] = value[i-1] + delta[i], recordedAt[i] = startAt + (timeDeltas[0..i] 합)초
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceSeries {
+
+    /**
+     * 물건이력번호
+     */
+    private Long historyNo;
+
+    /**
+     * 점 개수
+     */
+    private int pointCount;
+
+    /**
+     * 첫 점 기록일시 (점이 없으면 null)
+     */
+    private LocalDateTime startAt;
+
+    /**
+     * 직전 점과의 시간 간격(초), 첫 값은 0
+     */
+    private long[] timeDeltas;
+
+    /**
+     * 최저입찰가 (첫 값 + 차이)
+     */
+    private long[] minBidPrice;
+
+    /**
+     * 조회수 (첫 값 + 차이)
+     */
+    private long[] inquiryCount;
+
+    /**
+     * 관심수 (첫 값 + 차이)
+     */
+    private long[] favoriteCount;
+}
@@ -0,0 +1,33 @@
+package com.onbid.domain.dto.Response;
+
+import com.onbid.domain.entity.PurchaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 구매 생성 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PurchaseResult {
+
+    /**
+     * 구매 정보
+     */
+    private PurchaseEntity purchase;
+
+    /**
+     * 같은 멱등 키의 이전 구매를 그대로 돌려준 경우 true
+     */
+    private boolean replayed;
+
+    public static PurchaseResult created(PurchaseEntity purchase) {
+        return new PurchaseResult(purchase, false);
+    }
+
+    public static PurchaseResult replayed(PurchaseEntity purchase) {
+        return new PurchaseResult(purchase, true);
+    }
+}
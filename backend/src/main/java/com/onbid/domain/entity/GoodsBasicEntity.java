@@ -23,7 +23,10 @@ public class GoodsBasicEntity {
     private String categoryName;
     private String bidStartDate;
     private String bidCloseDate;
+    private LocalDateTime bidStartAt;
+    private LocalDateTime bidCloseAt;
     private String address;
+    private Long contentHash;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -57,6 +57,16 @@ public class GoodsEntity {
      */
     private String bidCloseDate;
     
+    /**
+     * 입찰시작일시 (bidStartDate 를 변환한 값, 형식이 맞지 않으면 null)
+     */
+    private LocalDateTime bidStartAt;
+    
+    /**
+     * 입찰마감일시 (bidCloseDate 를 변환한 값, 형식이 맞지 않으면 null)
+     */
+    private LocalDateTime bidCloseAt;
+    
     /**
      * 물건소재지
      */
@@ -0,0 +1,20 @@
+package com.onbid.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 물건이력번호별 저장된 지문(content_hash) 조회용 엔티티
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoodsFingerprintEntity {
+
+    private Long historyNo;
+    private Long basicHash;
+    private Long priceHash;
+}
@@ -22,6 +22,7 @@ public class GoodsPriceEntity {
     private String feeRate;
     private Integer inquiryCount;
     private Integer favoriteCount;
+    private Long contentHash;
     private LocalDateTime updatedAt;
 }
 
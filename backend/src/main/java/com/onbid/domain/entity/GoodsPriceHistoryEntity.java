@@ -0,0 +1,23 @@
+package com.onbid.domain.entity;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공매 가격/인기도 이력 한 점 엔티티
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoodsPriceHistoryEntity {
+
+    private Long historyNo;
+    private LocalDateTime recordedAt;
+    private Long minBidPrice;
+    private Integer inquiryCount;
+    private Integer favoriteCount;
+}
@@ -40,6 +40,11 @@ public class PurchaseEntity {
      */
     private String purchaseStatus;
     
+    /**
+     * 클라이언트 멱등 키 (없으면 null)
+     */
+    private String idempotencyKey;
+    
     /**
      * 구매일시
      */
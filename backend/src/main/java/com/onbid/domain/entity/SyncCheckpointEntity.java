@@ -0,0 +1,29 @@
+package com.onbid.domain.entity;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전체 동기화 샤드별 체크포인트 엔티티 (lastPage 까지 저장 완료)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncCheckpointEntity {
+
+    private Long jobId;
+    private String shardKey;
+    private String ctgrHirkId;
+    private String sido;
+    private String status;
+    private Integer lastPage;
+    private Integer totalPages;
+    private Integer totalCount;
+    private Integer itemCount;
+    private String message;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,26 @@
+package com.onbid.domain.entity;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전체 카탈로그 동기화 작업 엔티티
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncJobEntity {
+
+    private Long id;
+    private String status;
+    private Integer pageSize;
+    private Integer shardCount;
+    private Integer expectedCount;
+    private String message;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -8,10 +8,16 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode {
     
     EXTERNAL_API_ERROR(HttpStatus.BAD_GATEWAY, "EXTERNAL_API_ERROR", "외부 온비드 API 호출 중 오류가 발생했습니다."),
+    UPSTREAM_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "UPSTREAM_CIRCUIT_OPEN", "온비드 API 장애로 호출을 잠시 차단했습니다. 잠시 후 다시 시도해주세요."),
+    UPSTREAM_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "UPSTREAM_OVERLOADED", "온비드 API 동시 호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
     XML_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "XML_PARSE_ERROR", "온비드 XML 응답을 파싱하지 못했습니다."),
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "INVALID_REQUEST", "요청 값이 올바르지 않습니다."),
     GOODS_NOT_FOUND(HttpStatus.NOT_FOUND, "GOODS_NOT_FOUND", "요청한 물건 정보를 찾을 수 없습니다."),
     DUPLICATED_PURCHASE(HttpStatus.CONFLICT, "DUPLICATED_PURCHASE", "이미 구매된 물건입니다."),
+    FULL_SYNC_IN_PROGRESS(HttpStatus.CONFLICT, "FULL_SYNC_IN_PROGRESS", "전체 동기화가 이미 진행 중입니다."),
+    STREAM_SUBSCRIBERS_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "STREAM_SUBSCRIBERS_EXCEEDED", "변경 스트림 구독자 수가 한도에 도달했습니다. 잠시 후 다시 시도해주세요."),
+    EXPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "EXPORT_NOT_FOUND", "요청한 내보내기 작업을 찾을 수 없습니다."),
+    EXPORT_NOT_READY(HttpStatus.CONFLICT, "EXPORT_NOT_READY", "내보내기 파일이 아직 준비되지 않았습니다."),
     DATABASE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "DATABASE_ERROR", "데이터베이스 처리 중 문제가 발생했습니다."),
     UNKNOWN_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "UNKNOWN_ERROR", "예상치 못한 서버 오류가 발생했습니다.");
     
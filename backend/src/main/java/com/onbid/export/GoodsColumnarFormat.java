@@ -0,0 +1,177 @@
+package com.onbid.export;
+
+import com.onbid.domain.entity.GoodsEntity;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 물건 카탈로그 열 단위(columnar) 바이너리 형식 정의 (.onbc)
+ *
+ * 파일 구조 (정수는 모두 LEB128 가변 길이, 부호 있는 값은 zigzag 후 가변 길이)
+ * - 헤더: "ONBIDCOL" 8바이트, 형식 버전 1바이트, 열 개수, 열마다 (이름, 타입 1바이트, 인코딩 1바이트)
+ * - 행 그룹 반복: 행 수 (0 이면 끝), 열마다 (본문 바이트 수, 본문) - 본문 바이트 수로 필요 없는 열은 건너뛸 수 있다.
+ *   본문 = 값 존재 비트맵 (ceil(행 수 / 8) 바이트, i 번째 비트가 1 이면 값 있음) + 값이 있는 행의 값들
+ * - 끝: 전체 행 수, "ONBIDEND" 8바이트
+ *
+ * 인코딩
+ * - DELTA: 행 그룹 안에서 직전 값(처음은 0)과의 차이. 일시는 UTC 기준 epoch 초로 바꿔 같은 방식으로 저장
+ * - DICTIONARY: 사전 크기, 사전 문자열들, 값마다 사전 번호
+ * - PLAIN: 정수는 zigzag 가변 길이, 문자열은 UTF-8 바이트 수 + 바이트
+ *
+ * 일시는 DB 의 DATETIME 값(시간대 없는 한국 시각)을 그대로 UTC 로 간주해 바꾸므로, 읽을 때도 UTC 로 되돌리면 같은 값이 된다.
+ */
+public final class GoodsColumnarFormat {
+
+    public static final byte[] MAGIC = "ONBIDCOL".getBytes(StandardCharsets.US_ASCII);
+    public static final byte[] END_MAGIC = "ONBIDEND".getBytes(StandardCharsets.US_ASCII);
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * 내보내는 열 (순서가 곧 파일 안의 열 순서)
+     * bid_start_date/bid_close_date 문자열은 같은 값을 가진 bid_start_at/bid_close_at 일시 열로 대신한다.
+     */
+    public static final List<Column> COLUMNS = List.of(
+            new Column("id", Type.LONG, Encoding.DELTA, GoodsEntity::getId, (g, v) -> g.setId((Long) v)),
+            new Column("history_no", Type.LONG, Encoding.DELTA,
+                    GoodsEntity::getHistoryNo, (g, v) -> g.setHistoryNo((Long) v)),
+            new Column("goods_name", Type.STRING, Encoding.PLAIN,
+                    GoodsEntity::getGoodsName, (g, v) -> g.setGoodsName((String) v)),
+            new Column("status_name", Type.STRING, Encoding.DICTIONARY,
+                    GoodsEntity::getStatusName, (g, v) -> g.setStatusName((String) v)),
+            new Column("sale_type_name", Type.STRING, Encoding.DICTIONARY,
+                    GoodsEntity::getSaleTypeName, (g, v) -> g.setSaleTypeName((String) v)),
+            new Column("category_name", Type.STRING, Encoding.DICTIONARY,
+                    GoodsEntity::getCategoryName, (g, v) -> g.setCategoryName((String) v)),
+            new Column("bid_start_at", Type.DATETIME, Encoding.DELTA,
+                    GoodsEntity::getBidStartAt, (g, v) -> g.setBidStartAt((LocalDateTime) v)),
+            new Column("bid_close_at", Type.DATETIME, Encoding.DELTA,
+                    GoodsEntity::getBidCloseAt, (g, v) -> g.setBidCloseAt((LocalDateTime) v)),
+            new Column("address", Type.STRING, Encoding.PLAIN,
+                    GoodsEntity::getAddress, (g, v) -> g.setAddress((String) v)),
+            new Column("min_bid_price", Type.LONG, Encoding.DELTA,
+                    GoodsEntity::getMinBidPrice, (g, v) -> g.setMinBidPrice((Long) v)),
+            new Column("appraisal_price", Type.LONG, Encoding.DELTA,
+                    GoodsEntity::getAppraisalPrice, (g, v) -> g.setAppraisalPrice((Long) v)),
+            new Column("fee_rate", Type.STRING, Encoding.DICTIONARY,
+                    GoodsEntity::getFeeRate, (g, v) -> g.setFeeRate((String) v)),
+            new Column("inquiry_count", Type.LONG, Encoding.PLAIN,
+                    g -> toLong(g.getInquiryCount()), (g, v) -> g.setInquiryCount(toInteger(v))),
+            new Column("favorite_count", Type.LONG, Encoding.PLAIN,
+                    g -> toLong(g.getFavoriteCount()), (g, v) -> g.setFavoriteCount(toInteger(v))),
+            new Column("created_at", Type.DATETIME, Encoding.DELTA,
+                    GoodsEntity::getCreatedAt, (g, v) -> g.setCreatedAt((LocalDateTime) v)),
+            new Column("updated_at", Type.DATETIME, Encoding.DELTA,
+                    GoodsEntity::getUpdatedAt, (g, v) -> g.setUpdatedAt((LocalDateTime) v)));
+
+    private GoodsColumnarFormat() {
+    }
+
+    /**
+     * 열 값 타입
+     */
+    public enum Type {
+        LONG(1), STRING(2), DATETIME(3);
+
+        final int code;
+
+        Type(int code) {
+            this.code = code;
+        }
+    }
+
+    /**
+     * 열 인코딩
+     */
+    public enum Encoding {
+        PLAIN(1), DELTA(2), DICTIONARY(3);
+
+        final int code;
+
+        Encoding(int code) {
+            this.code = code;
+        }
+    }
+
+    /**
+     * 열 정의
+     * @param name 열 이름 (DB 컬럼명)
+     * @param type 값 타입
+     * @param encoding 인코딩
+     * @param getter 물건에서 값 꺼내기 (LONG 은 Long, STRING 은 String, DATETIME 은 LocalDateTime)
+     * @param setter 읽은 값을 물건에 넣기
+     */
+    public record Column(String name, Type type, Encoding encoding,
+                         Function<GoodsEntity, Object> getter, BiConsumer<GoodsEntity, Object> setter) {
+    }
+
+    static long toEpochSecond(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static LocalDateTime fromEpochSecond(long value) {
+        return LocalDateTime.ofEpochSecond(value, 0, ZoneOffset.UTC);
+    }
+
+    static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static void writeZigZag(OutputStream out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static void writeString(OutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("가변 길이 정수를 읽는 중 파일이 끝났습니다.");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("가변 길이 정수가 너무 깁니다.");
+    }
+
+    static long readZigZag(InputStream in) throws IOException {
+        long raw = readVarLong(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    static String readString(InputStream in) throws IOException {
+        int length = Math.toIntExact(readVarLong(in));
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException("문자열을 읽는 중 파일이 끝났습니다.");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Long toLong(Integer value) {
+        return value != null ? value.longValue() : null;
+    }
+
+    private static Integer toInteger(Object value) {
+        return value != null ? Math.toIntExact((Long) value) : null;
+    }
+}
@@ -0,0 +1,124 @@
+package com.onbid.export;
+
+import static com.onbid.export.GoodsColumnarFormat.readString;
+import static com.onbid.export.GoodsColumnarFormat.readVarLong;
+import static com.onbid.export.GoodsColumnarFormat.readZigZag;
+
+import com.onbid.domain.entity.GoodsEntity;
+import com.onbid.export.GoodsColumnarFormat.Column;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 열 단위 바이너리 형식 읽기 ({@link GoodsColumnarFormat})
+ * 분석 도구에서 파일을 검증하거나 자바로 다시 읽을 때 쓰는 참조 구현이다.
+ */
+public final class GoodsColumnarReader {
+
+    private GoodsColumnarReader() {
+    }
+
+    /**
+     * 파일 전체를 행 그룹 단위로 읽어 물건마다 consumer 를 호출
+     * @return 읽은 행 수 (파일 끝에 기록된 전체 행 수와 다르면 IOException)
+     */
+    public static long read(InputStream in, Consumer<GoodsEntity> consumer) throws IOException {
+        List<Column> columns = readHeader(in);
+        long total = 0;
+        while (true) {
+            int rows = Math.toIntExact(readVarLong(in));
+            if (rows == 0) {
+                break;
+            }
+            GoodsEntity[] group = new GoodsEntity[rows];
+            for (int i = 0; i < rows; i++) {
+                group[i] = new GoodsEntity();
+            }
+            for (Column column : columns) {
+                int length = Math.toIntExact(readVarLong(in));
+                byte[] body = in.readNBytes(length);
+                if (body.length != length) {
+                    throw new IOException("열 본문을 읽는 중 파일이 끝났습니다: " + column.name());
+                }
+                decodeColumn(column, new ByteArrayInputStream(body), group);
+            }
+            Arrays.stream(group).forEach(consumer);
+            total += rows;
+        }
+        long recorded = readVarLong(in);
+        byte[] endMagic = in.readNBytes(GoodsColumnarFormat.END_MAGIC.length);
+        if (recorded != total || !Arrays.equals(endMagic, GoodsColumnarFormat.END_MAGIC)) {
+            throw new IOException("파일 끝 정보가 맞지 않습니다 (기록 " + recorded + "건, 읽음 " + total + "건)");
+        }
+        return total;
+    }
+
+    /**
+     * 헤더를 읽어 이 구현이 아는 열 정의와 맞춰 본다 (모르는 열 이름이나 타입이 다르면 IOException)
+     */
+    private static List<Column> readHeader(InputStream in) throws IOException {
+        byte[] magic = in.readNBytes(GoodsColumnarFormat.MAGIC.length);
+        if (!Arrays.equals(magic, GoodsColumnarFormat.MAGIC)) {
+            throw new IOException("열 단위 내보내기 파일이 아닙니다.");
+        }
+        int version = in.read();
+        if (version != GoodsColumnarFormat.FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 형식 버전입니다: " + version);
+        }
+        int count = Math.toIntExact(readVarLong(in));
+        List<Column> columns = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = readString(in);
+            int type = in.read();
+            int encoding = in.read();
+            Column column = GoodsColumnarFormat.COLUMNS.stream()
+                    .filter(candidate -> candidate.name().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IOException("알 수 없는 열입니다: " + name));
+            if (column.type().code != type || column.encoding().code != encoding) {
+                throw new IOException("열 정의가 맞지 않습니다: " + name);
+            }
+            columns.add(column);
+        }
+        return columns;
+    }
+
+    private static void decodeColumn(Column column, InputStream in, GoodsEntity[] group) throws IOException {
+        byte[] presence = in.readNBytes((group.length + 7) / 8);
+        String[] dictionary = null;
+        if (column.encoding() == GoodsColumnarFormat.Encoding.DICTIONARY) {
+            dictionary = new String[Math.toIntExact(readVarLong(in))];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString(in);
+            }
+        }
+        long previous = 0;
+        for (int i = 0; i < group.length; i++) {
+            if ((presence[i >> 3] & (1 << (i & 7))) == 0) {
+                continue;
+            }
+            Object value = switch (column.encoding()) {
+                case DICTIONARY -> dictionary[Math.toIntExact(readVarLong(in))];
+                case DELTA -> {
+                    previous += readZigZag(in);
+                    yield fromLong(column, previous);
+                }
+                case PLAIN -> column.type() == GoodsColumnarFormat.Type.STRING
+                        ? readString(in)
+                        : fromLong(column, readZigZag(in));
+            };
+            column.setter().accept(group[i], value);
+        }
+    }
+
+    private static Object fromLong(Column column, long value) {
+        return column.type() == GoodsColumnarFormat.Type.DATETIME
+                ? GoodsColumnarFormat.fromEpochSecond(value)
+                : Long.valueOf(value);
+    }
+}
@@ -0,0 +1,149 @@
+package com.onbid.export;
+
+import static com.onbid.export.GoodsColumnarFormat.COLUMNS;
+import static com.onbid.export.GoodsColumnarFormat.writeString;
+import static com.onbid.export.GoodsColumnarFormat.writeVarLong;
+import static com.onbid.export.GoodsColumnarFormat.writeZigZag;
+
+import com.onbid.domain.entity.GoodsEntity;
+import com.onbid.export.GoodsColumnarFormat.Column;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 열 단위 바이너리 형식 쓰기 ({@link GoodsColumnarFormat})
+ * 행을 row-group-size 건씩 모았다가 열마다 인코딩해 쓰므로 메모리에는 행 그룹 하나만 남는다.
+ */
+public class GoodsColumnarWriter implements GoodsExportWriter {
+
+    private final OutputStream out;
+    private final int rowGroupSize;
+    private final List<GoodsEntity> rowGroup;
+    // 열 본문을 인코딩하는 재사용 버퍼
+    private final ByteArrayOutputStream columnBuffer = new ByteArrayOutputStream(64 * 1024);
+    private long rowCount;
+
+    public GoodsColumnarWriter(OutputStream out, int rowGroupSize) throws IOException {
+        this.out = out;
+        this.rowGroupSize = Math.max(1, rowGroupSize);
+        this.rowGroup = new ArrayList<>(this.rowGroupSize);
+        writeHeader();
+    }
+
+    @Override
+    public void write(GoodsEntity goods) throws IOException {
+        rowGroup.add(goods);
+        if (rowGroup.size() >= rowGroupSize) {
+            flushRowGroup();
+        }
+    }
+
+    @Override
+    public long finish() throws IOException {
+        flushRowGroup();
+        writeVarLong(out, 0);
+        writeVarLong(out, rowCount);
+        out.write(GoodsColumnarFormat.END_MAGIC);
+        out.flush();
+        return rowCount;
+    }
+
+    private void writeHeader() throws IOException {
+        out.write(GoodsColumnarFormat.MAGIC);
+        out.write(GoodsColumnarFormat.FORMAT_VERSION);
+        writeVarLong(out, COLUMNS.size());
+        for (Column column : COLUMNS) {
+            writeString(out, column.name());
+            out.write(column.type().code);
+            out.write(column.encoding().code);
+        }
+    }
+
+    private void flushRowGroup() throws IOException {
+        if (rowGroup.isEmpty()) {
+            return;
+        }
+        writeVarLong(out, rowGroup.size());
+        for (Column column : COLUMNS) {
+            columnBuffer.reset();
+            encodeColumn(column, columnBuffer);
+            writeVarLong(out, columnBuffer.size());
+            columnBuffer.writeTo(out);
+        }
+        rowCount += rowGroup.size();
+        rowGroup.clear();
+    }
+
+    private void encodeColumn(Column column, ByteArrayOutputStream buffer) throws IOException {
+        int rows = rowGroup.size();
+        Object[] values = new Object[rows];
+        byte[] presence = new byte[(rows + 7) / 8];
+        for (int i = 0; i < rows; i++) {
+            values[i] = column.getter().apply(rowGroup.get(i));
+            if (values[i] != null) {
+                presence[i >> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        buffer.write(presence);
+        switch (column.encoding()) {
+            case DELTA -> encodeDelta(column, values, buffer);
+            case DICTIONARY -> encodeDictionary(values, buffer);
+            case PLAIN -> encodePlain(column, values, buffer);
+        }
+    }
+
+    private static void encodeDelta(Column column, Object[] values, OutputStream buffer) throws IOException {
+        long previous = 0;
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            long current = toLong(column, value);
+            writeZigZag(buffer, current - previous);
+            previous = current;
+        }
+    }
+
+    private static void encodeDictionary(Object[] values, OutputStream buffer) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Object value : values) {
+            if (value != null) {
+                dictionary.putIfAbsent((String) value, dictionary.size());
+            }
+        }
+        writeVarLong(buffer, dictionary.size());
+        for (String entry : dictionary.keySet()) {
+            writeString(buffer, entry);
+        }
+        for (Object value : values) {
+            if (value != null) {
+                writeVarLong(buffer, dictionary.get((String) value));
+            }
+        }
+    }
+
+    private static void encodePlain(Column column, Object[] values, OutputStream buffer) throws IOException {
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            if (column.type() == GoodsColumnarFormat.Type.STRING) {
+                writeString(buffer, (String) value);
+            } else {
+                writeZigZag(buffer, toLong(column, value));
+            }
+        }
+    }
+
+    private static long toLong(Column column, Object value) {
+        return column.type() == GoodsColumnarFormat.Type.DATETIME
+                ? GoodsColumnarFormat.toEpochSecond((LocalDateTime) value)
+                : (Long) value;
+    }
+}
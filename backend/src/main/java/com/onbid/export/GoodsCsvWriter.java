@@ -0,0 +1,74 @@
+package com.onbid.export;
+
+import com.onbid.domain.entity.GoodsEntity;
+import com.onbid.export.GoodsColumnarFormat.Column;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * CSV 내보내기 (RFC 4180, UTF-8)
+ * 열 구성은 열 단위 형식과 같고, 엑셀에서 한글이 깨지지 않도록 BOM 을 붙인다.
+ */
+public class GoodsCsvWriter implements GoodsExportWriter {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer writer;
+    private long rowCount;
+
+    public GoodsCsvWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write('\uFEFF');
+        writeLine(GoodsColumnarFormat.COLUMNS.stream().map(Column::name).toArray());
+    }
+
+    @Override
+    public void write(GoodsEntity goods) throws IOException {
+        Object[] values = new Object[GoodsColumnarFormat.COLUMNS.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = GoodsColumnarFormat.COLUMNS.get(i).getter().apply(goods);
+        }
+        writeLine(values);
+        rowCount++;
+    }
+
+    @Override
+    public long finish() throws IOException {
+        writer.flush();
+        return rowCount;
+    }
+
+    private void writeLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            writer.write(DATE_TIME_FORMAT.format(dateTime));
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,19 @@
+package com.onbid.export;
+
+import com.onbid.domain.entity.GoodsEntity;
+import java.io.IOException;
+
+/**
+ * 물건 내보내기 형식별 쓰기 (한 행씩 받아 형식에 맞게 출력 스트림에 씀)
+ * finish() 를 호출해야 파일이 완성되며, 출력 스트림은 호출한 쪽이 닫는다.
+ */
+public interface GoodsExportWriter {
+
+    void write(GoodsEntity goods) throws IOException;
+
+    /**
+     * 남은 버퍼와 파일 끝 정보를 쓴다.
+     * @return 쓴 행 수
+     */
+    long finish() throws IOException;
+}
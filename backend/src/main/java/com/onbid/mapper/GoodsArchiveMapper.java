@@ -0,0 +1,212 @@
+package com.onbid.mapper;
+
+import com.onbid.domain.entity.GoodsBasicEntity;
+import com.onbid.domain.entity.GoodsEntity;
+import com.onbid.domain.entity.GoodsFingerprintEntity;
+import com.onbid.domain.entity.GoodsPriceEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+/**
+ * 입찰이 끝난 물건 보관 테이블 매퍼 (goods_basic_archive, goods_price_archive)
+ * 서빙 테이블에서 옮기는 문장과, 서빙 테이블에 없을 때만 쓰는 보조 조회를 모아 둔다.
+ */
+@Mapper
+public interface GoodsArchiveMapper {
+
+    /**
+     * 입찰마감일시가 기준보다 이른 서빙 물건의 이력번호 (idx_bid_close_at 범위 조회, 마감이 오래된 순)
+     * @param cutoff 기준 일시
+     */
+    @Select("""
+            SELECT history_no
+            FROM goods_basic
+            WHERE bid_close_at < #{cutoff}
+            ORDER BY bid_close_at, id
+            LIMIT #{limit}
+            """)
+    List<Long> findClosedHistoryNos(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * 이미 보관된 행을 먼저 지움 (다시 서빙 테이블에 들어왔다가 옮겨지는 물건은 최신 값으로 덮어씀)
+     */
+    @Delete("""
+            <script>
+            DELETE FROM goods_basic_archive
+            WHERE history_no IN
+            <foreach collection="historyNos" item="historyNo" open="(" separator="," close=")">
+                #{historyNo}
+            </foreach>
+            </script>
+            """)
+    int deleteArchivedBasics(@Param("historyNos") List<Long> historyNos);
+
+    @Delete("""
+            <script>
+            DELETE FROM goods_price_archive
+            WHERE history_no IN
+            <foreach collection="historyNos" item="historyNo" open="(" separator="," close=")">
+                #{historyNo}
+            </foreach>
+            </script>
+            """)
+    int deleteArchivedPrices(@Param("historyNos") List<Long> historyNos);
+
+    @Insert("""
+            <script>
+            INSERT INTO goods_basic_archive
+                (history_no, id, goods_name, status_name, sale_type_name, category_name, bid_start_date, bid_close_date,
+                 bid_start_at, bid_close_at, address, content_hash, created_at, updated_at, archived_at)
+            SELECT
+                history_no, id, goods_name, status_name, sale_type_name, category_name, bid_start_date, bid_close_date,
+                bid_start_at, bid_close_at, address, content_hash, created_at, updated_at, #{archivedAt}
+            FROM goods_basic
+            WHERE history_no IN
+            <foreach collection="historyNos" item="historyNo" open="(" separator="," close=")">
+                #{historyNo}
+            </foreach>
+            </script>
+            """)
+    int copyBasicsToArchive(@Param("historyNos") List<Long> historyNos, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Insert("""
+            <script>
+            INSERT INTO goods_price_archive
+                (history_no, min_bid_price, appraisal_price, fee_rate, inquiry_count, favorite_count, content_hash, updated_at)
+            SELECT
+                history_no, min_bid_price, appraisal_price, fee_rate, inquiry_count, favorite_count, content_hash, updated_at
+            FROM goods_price
+            WHERE history_no IN
+            <foreach collection="historyNos" item="historyNo" open="(" separator="," close=")">
+                #{historyNo}
+            </foreach>
+            </script>
+            """)
+    int copyPricesToArchive(@Param("historyNos") List<Long> historyNos);
+
+    @Delete("""
+            <script>
+            DELETE FROM goods_price
+            WHERE history_no IN
+            <foreach collection="historyNos" item="historyNo" open="(" separator="," close=")">
+                #{historyNo}
+            </foreach>
+            </script>
+            """)
+    int deleteServingPrices(@Param("historyNos") List<Long> historyNos);
+
+    @Delete("""
+            <script>
+            DELETE FROM goods_basic
+            WHERE history_no IN
+            <foreach collection="historyNos" item="historyNo" open="(" separator="," close=")">
+                #{historyNo}
+            </foreach>
+            </script>
+            """)
+    int deleteServingBasics(@Param("historyNos") List<Long> historyNos);
+
+    /**
+     * 보관된 물건의 기본정보가 다시 바뀌었을 때 보관 테이블에 바로 반영
+     */
+    @Insert("""
+            <script>
+            INSERT INTO goods_basic_archive
+                (history_no, goods_name, status_name, sale_type_name, category_name, bid_start_date, bid_close_date,
+                 bid_start_at, bid_close_at, address, content_hash, updated_at)
+            VALUES
+            <foreach collection="list" item="e" separator=",">
+                (#{e.historyNo}, #{e.goodsName}, #{e.statusName}, #{e.saleTypeName}, #{e.categoryName},
+                 #{e.bidStartDate}, #{e.bidCloseDate}, #{e.bidStartAt}, #{e.bidCloseAt}, #{e.address}, #{e.contentHash},
+                 CURRENT_TIMESTAMP)
+            </foreach>
+            ON DUPLICATE KEY UPDATE
+                goods_name = VALUES(goods_name),
+                status_name = VALUES(status_name),
+                sale_type_name = VALUES(sale_type_name),
+                category_name = VALUES(category_name),
+                bid_start_date = VALUES(bid_start_date),
+                bid_close_date = VALUES(bid_close_date),
+                bid_start_at = VALUES(bid_start_at),
+                bid_close_at = VALUES(bid_close_at),
+                address = VALUES(address),
+                content_hash = VALUES(content_hash),
+                updated_at = CURRENT_TIMESTAMP
+            </script>
+            """)
+    int insertOrUpdateBasicBatch(@Param("list") List<GoodsBasicEntity> entities);
+
+    /**
+     * 보관된 물건의 가격정보가 다시 바뀌었을 때 보관 테이블에 바로 반영
+     */
+    @Insert("""
+            <script>
+            INSERT INTO goods_price_archive
+                (history_no, min_bid_price, appraisal_price, fee_rate, inquiry_count, favorite_count, content_hash, updated_at)
+            VALUES
+            <foreach collection="list" item="e" separator=",">
+                (#{e.historyNo}, #{e.minBidPrice}, #{e.appraisalPrice}, #{e.feeRate}, #{e.inquiryCount}, #{e.favoriteCount},
+                 #{e.contentHash}, CURRENT_TIMESTAMP)
+            </foreach>
+            ON DUPLICATE KEY UPDATE
+                min_bid_price = VALUES(min_bid_price),
+                appraisal_price = VALUES(appraisal_price),
+                fee_rate = VALUES(fee_rate),
+                inquiry_count = VALUES(inquiry_count),
+                favorite_count = VALUES(favorite_count),
+                content_hash = VALUES(content_hash),
+                updated_at = CURRENT_TIMESTAMP
+            </script>
+            """)
+    int insertOrUpdatePriceBatch(@Param("list") List<GoodsPriceEntity> entities);
+
+    @Select("""
+            SELECT
+                gb.id,
+                gb.history_no,
+                gb.goods_name,
+                gb.status_name,
+                gb.sale_type_name,
+                gb.category_name,
+                gb.bid_start_date,
+                gb.bid_close_date,
+                gb.bid_start_at,
+                gb.bid_close_at,
+                gb.address,
+                gb.created_at,
+                gb.updated_at,
+                gp.min_bid_price,
+                gp.appraisal_price,
+                gp.fee_rate,
+                gp.inquiry_count,
+                gp.favorite_count
+            FROM goods_basic_archive gb
+            LEFT JOIN goods_price_archive gp ON gp.history_no = gb.history_no
+            WHERE gb.history_no = #{historyNo}
+            """)
+    GoodsEntity findByHistoryNo(Long historyNo);
+
+    @Select("""
+            SELECT
+                gb.history_no,
+                gb.content_hash AS basic_hash,
+                gp.content_hash AS price_hash
+            FROM goods_basic_archive gb
+            LEFT JOIN goods_price_archive gp ON gp.history_no = gb.history_no
+            """)
+    List<GoodsFingerprintEntity> findFingerprints();
+
+    @Select("SELECT COUNT(*) FROM goods_basic_archive")
+    int count();
+
+    @Delete("DELETE FROM goods_price_archive")
+    int deleteAllPrices();
+
+    @Delete("DELETE FROM goods_basic_archive")
+    int deleteAllBasics();
+}
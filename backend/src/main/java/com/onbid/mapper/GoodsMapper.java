@@ -1,24 +1,34 @@
 package com.onbid.mapper;
 
+import com.onbid.domain.dto.Request.GoodsFilterRequest;
 import com.onbid.domain.entity.GoodsBasicEntity;
 import com.onbid.domain.entity.GoodsEntity;
+import com.onbid.domain.entity.GoodsFingerprintEntity;
 import com.onbid.domain.entity.GoodsPriceEntity;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 @Mapper
 public interface GoodsMapper {
 
     @Insert("""
+            <script>
             INSERT INTO goods_basic
-                (history_no, goods_name, status_name, sale_type_name, category_name, bid_start_date, bid_close_date, address)
+                (history_no, goods_name, status_name, sale_type_name, category_name, bid_start_date, bid_close_date,
+                 bid_start_at, bid_close_at, address, content_hash)
             VALUES
-                (#{historyNo}, #{goodsName}, #{statusName}, #{saleTypeName}, #{categoryName},
-                 #{bidStartDate}, #{bidCloseDate}, #{address})
+            <foreach collection="list" item="e" separator=",">
+                (#{e.historyNo}, #{e.goodsName}, #{e.statusName}, #{e.saleTypeName}, #{e.categoryName},
+                 #{e.bidStartDate}, #{e.bidCloseDate}, #{e.bidStartAt}, #{e.bidCloseAt}, #{e.address}, #{e.contentHash})
+            </foreach>
             ON DUPLICATE KEY UPDATE
                 goods_name = VALUES(goods_name),
                 status_name = VALUES(status_name),
@@ -26,27 +36,35 @@ public interface GoodsMapper {
                 category_name = VALUES(category_name),
                 bid_start_date = VALUES(bid_start_date),
                 bid_close_date = VALUES(bid_close_date),
+                bid_start_at = VALUES(bid_start_at),
+                bid_close_at = VALUES(bid_close_at),
                 address = VALUES(address),
+                content_hash = VALUES(content_hash),
                 updated_at = CURRENT_TIMESTAMP
+            </script>
             """)
-    @Options(useGeneratedKeys = true, keyProperty = "id")
-    int insertOrUpdateBasic(GoodsBasicEntity entity);
+    int insertOrUpdateBasicBatch(@Param("list") List<GoodsBasicEntity> entities);
 
     @Insert("""
+            <script>
             INSERT INTO goods_price
-                (history_no, min_bid_price, appraisal_price, fee_rate, inquiry_count, favorite_count)
+                (history_no, min_bid_price, appraisal_price, fee_rate, inquiry_count, favorite_count, content_hash)
             VALUES
-                (#{historyNo}, #{minBidPrice}, #{appraisalPrice}, #{feeRate}, #{inquiryCount}, #{favoriteCount})
+            <foreach collection="list" item="e" separator=",">
+                (#{e.historyNo}, #{e.minBidPrice}, #{e.appraisalPrice}, #{e.feeRate}, #{e.inquiryCount}, #{e.favoriteCount},
+                 #{e.contentHash})
+            </foreach>
             ON DUPLICATE KEY UPDATE
                 min_bid_price = VALUES(min_bid_price),
                 appraisal_price = VALUES(appraisal_price),
                 fee_rate = VALUES(fee_rate),
                 inquiry_count = VALUES(inquiry_count),
                 favorite_count = VALUES(favorite_count),
+                content_hash = VALUES(content_hash),
                 updated_at = CURRENT_TIMESTAMP
+            </script>
             """)
-    @Options(useGeneratedKeys = true, keyProperty = "id")
-    int insertOrUpdatePrice(GoodsPriceEntity entity);
+    int insertOrUpdatePriceBatch(@Param("list") List<GoodsPriceEntity> entities);
 
     @Select("""
             SELECT
@@ -58,6 +76,8 @@ public interface GoodsMapper {
                 gb.category_name,
                 gb.bid_start_date,
                 gb.bid_close_date,
+                gb.bid_start_at,
+                gb.bid_close_at,
                 gb.address,
                 gb.created_at,
                 gb.updated_at,
@@ -72,6 +92,11 @@ public interface GoodsMapper {
             """)
     List<GoodsEntity> findAll();
 
+    /**
+     * 전체 물건을 한 행씩 읽는 커서 (findAll 과 같은 순서)
+     * fetchSize 를 주면 드라이버가 결과를 나눠 받아 전체 목록을 메모리에 올리지 않는다.
+     * 커서는 트랜잭션(SqlSession) 안에서만 읽을 수 있다.
+     */
     @Select("""
             SELECT
                 gb.id,
@@ -82,6 +107,93 @@ public interface GoodsMapper {
                 gb.category_name,
                 gb.bid_start_date,
                 gb.bid_close_date,
+                gb.bid_start_at,
+                gb.bid_close_at,
+                gb.address,
+                gb.created_at,
+                gb.updated_at,
+                gp.min_bid_price,
+                gp.appraisal_price,
+                gp.fee_rate,
+                gp.inquiry_count,
+                gp.favorite_count
+            FROM goods_basic gb
+            LEFT JOIN goods_price gp ON gp.history_no = gb.history_no
+            ORDER BY gb.created_at DESC
+            """)
+    @Options(fetchSize = 1000, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<GoodsEntity> streamAll();
+
+    /**
+     * 내보내기용 커서 (history_no 순서)
+     * includeArchived 가 true 면 보관 테이블(goods_basic_archive, goods_price_archive)의 물건도 함께 읽는다.
+     * 보관할 때 서빙 테이블에서 지우므로 두 테이블에 같은 history_no 는 없다.
+     */
+    @Select("""
+            <script>
+            SELECT
+                gb.id,
+                gb.history_no,
+                gb.goods_name,
+                gb.status_name,
+                gb.sale_type_name,
+                gb.category_name,
+                gb.bid_start_date,
+                gb.bid_close_date,
+                gb.bid_start_at,
+                gb.bid_close_at,
+                gb.address,
+                gb.created_at,
+                gb.updated_at,
+                gp.min_bid_price,
+                gp.appraisal_price,
+                gp.fee_rate,
+                gp.inquiry_count,
+                gp.favorite_count
+            FROM goods_basic gb
+            LEFT JOIN goods_price gp ON gp.history_no = gb.history_no
+            <if test="includeArchived">
+            UNION ALL
+            SELECT
+                gb.id,
+                gb.history_no,
+                gb.goods_name,
+                gb.status_name,
+                gb.sale_type_name,
+                gb.category_name,
+                gb.bid_start_date,
+                gb.bid_close_date,
+                gb.bid_start_at,
+                gb.bid_close_at,
+                gb.address,
+                gb.created_at,
+                gb.updated_at,
+                gp.min_bid_price,
+                gp.appraisal_price,
+                gp.fee_rate,
+                gp.inquiry_count,
+                gp.favorite_count
+            FROM goods_basic_archive gb
+            LEFT JOIN goods_price_archive gp ON gp.history_no = gb.history_no
+            </if>
+            ORDER BY history_no
+            </script>
+            """)
+    @Options(fetchSize = 1000, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<GoodsEntity> streamForExport(@Param("includeArchived") boolean includeArchived);
+
+    @Select("""
+            SELECT
+                gb.id,
+                gb.history_no,
+                gb.goods_name,
+                gb.status_name,
+                gb.sale_type_name,
+                gb.category_name,
+                gb.bid_start_date,
+                gb.bid_close_date,
+                gb.bid_start_at,
+                gb.bid_close_at,
                 gb.address,
                 gb.created_at,
                 gb.updated_at,
@@ -96,6 +208,136 @@ public interface GoodsMapper {
             """)
     GoodsEntity findByHistoryNo(Long historyNo);
 
+    /**
+     * 키셋(커서) 페이지 조회
+     * sortColumn/cmp/dir 은 서비스의 허용 목록에서만 채워지므로 ${} 치환을 사용한다.
+     */
+    @Select("""
+            <script>
+            SELECT
+                gb.id,
+                gb.history_no,
+                gb.goods_name,
+                gb.status_name,
+                gb.sale_type_name,
+                gb.category_name,
+                gb.bid_start_date,
+                gb.bid_close_date,
+                gb.bid_start_at,
+                gb.bid_close_at,
+                gb.address,
+                gb.created_at,
+                gb.updated_at,
+                gp.min_bid_price,
+                gp.appraisal_price,
+                gp.fee_rate,
+                gp.inquiry_count,
+                gp.favorite_count
+            FROM goods_basic gb
+            <choose>
+                <when test="sortColumn == 'gp.min_bid_price'">JOIN</when>
+                <otherwise>LEFT JOIN</otherwise>
+            </choose>
+                goods_price gp ON gp.history_no = gb.history_no
+            <where>
+                <if test="f.categoryName != null and f.categoryName != ''">
+                    AND gb.category_name = #{f.categoryName}
+                </if>
+                <if test="f.statusName != null and f.statusName != ''">
+                    AND gb.status_name = #{f.statusName}
+                </if>
+                <if test="f.minBidPriceFrom != null">
+                    AND gp.min_bid_price &gt;= #{f.minBidPriceFrom}
+                </if>
+                <if test="f.minBidPriceTo != null">
+                    AND gp.min_bid_price &lt;= #{f.minBidPriceTo}
+                </if>
+                <if test="f.appraisalPriceFrom != null">
+                    AND gp.appraisal_price &gt;= #{f.appraisalPriceFrom}
+                </if>
+                <if test="f.appraisalPriceTo != null">
+                    AND gp.appraisal_price &lt;= #{f.appraisalPriceTo}
+                </if>
+                <if test="f.bidCloseFrom != null and f.bidCloseFrom != ''">
+                    AND gb.bid_close_date &gt;= #{f.bidCloseFrom}
+                </if>
+                <if test="f.bidCloseTo != null and f.bidCloseTo != ''">
+                    AND gb.bid_close_date &lt;= #{f.bidCloseTo}
+                </if>
+                <if test="addressLike != null">
+                    AND gb.address LIKE #{addressLike}
+                </if>
+                <if test="cursorId != null">
+                    <choose>
+                        <when test="sortColumn == 'gb.id'">
+                            AND gb.id ${cmp} #{cursorId}
+                        </when>
+                        <otherwise>
+                            AND (${sortColumn} ${cmp} #{cursorValue}
+                                 OR (${sortColumn} = #{cursorValue} AND gb.id ${cmp} #{cursorId}))
+                        </otherwise>
+                    </choose>
+                </if>
+            </where>
+            ORDER BY
+                <if test="sortColumn != 'gb.id'">${sortColumn} ${dir},</if>
+                gb.id ${dir}
+            LIMIT #{limit}
+            </script>
+            """)
+    List<GoodsEntity> findPage(@Param("f") GoodsFilterRequest filter,
+                               @Param("addressLike") String addressLike,
+                               @Param("sortColumn") String sortColumn,
+                               @Param("dir") String dir,
+                               @Param("cmp") String cmp,
+                               @Param("cursorValue") Object cursorValue,
+                               @Param("cursorId") Long cursorId,
+                               @Param("limit") int limit);
+
+    /**
+     * 입찰마감일시가 [from, to) 안에 드는 물건을 마감이 빠른 순으로 조회 (idx_bid_close_at 범위 조회)
+     */
+    @Select("""
+            SELECT
+                gb.id,
+                gb.history_no,
+                gb.goods_name,
+                gb.status_name,
+                gb.sale_type_name,
+                gb.category_name,
+                gb.bid_start_date,
+                gb.bid_close_date,
+                gb.bid_start_at,
+                gb.bid_close_at,
+                gb.address,
+                gb.created_at,
+                gb.updated_at,
+                gp.min_bid_price,
+                gp.appraisal_price,
+                gp.fee_rate,
+                gp.inquiry_count,
+                gp.favorite_count
+            FROM goods_basic gb
+            LEFT JOIN goods_price gp ON gp.history_no = gb.history_no
+            WHERE gb.bid_close_at >= #{from}
+              AND gb.bid_close_at < #{to}
+            ORDER BY gb.bid_close_at, gb.id
+            LIMIT #{limit}
+            """)
+    List<GoodsEntity> findClosingBetween(@Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to,
+                                         @Param("limit") int limit);
+
+    @Select("""
+            SELECT
+                gb.history_no,
+                gb.content_hash AS basic_hash,
+                gp.content_hash AS price_hash
+            FROM goods_basic gb
+            LEFT JOIN goods_price gp ON gp.history_no = gb.history_no
+            """)
+    List<GoodsFingerprintEntity> findFingerprints();
+
     @Select("SELECT COUNT(*) FROM goods_basic")
     int count();
 
@@ -0,0 +1,85 @@
+package com.onbid.mapper;
+
+import com.onbid.domain.entity.GoodsPriceHistoryEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+/**
+ * 가격/인기도 이력 매퍼 (goods_price_history, 추가 전용)
+ */
+@Mapper
+public interface GoodsPriceHistoryMapper {
+
+    /**
+     * 이력 점 다중 행 추가
+     * 같은 물건이 같은 초에 두 번 바뀌면 마지막 값으로 덮어쓴다.
+     */
+    @Insert("""
+            <script>
+            INSERT INTO goods_price_history
+                (history_no, recorded_at, min_bid_price, inquiry_count, favorite_count)
+            VALUES
+            <foreach collection="list" item="e" separator=",">
+                (#{e.historyNo}, #{e.recordedAt}, #{e.minBidPrice}, #{e.inquiryCount}, #{e.favoriteCount})
+            </foreach>
+            ON DUPLICATE KEY UPDATE
+                min_bid_price = VALUES(min_bid_price),
+                inquiry_count = VALUES(inquiry_count),
+                favorite_count = VALUES(favorite_count)
+            </script>
+            """)
+    int insertBatch(@Param("list") List<GoodsPriceHistoryEntity> points);
+
+    /**
+     * 물건별 현재 값 조회 (이력의 마지막 점과 같으므로 변경 감지 기준으로 사용)
+     * 보관 테이블로 옮겨진 물건도 포함 (옮기는 중에만 잠시 양쪽에 있고 두 값은 같다)
+     */
+    @Select("""
+            SELECT
+                history_no,
+                min_bid_price,
+                COALESCE(inquiry_count, 0) AS inquiry_count,
+                COALESCE(favorite_count, 0) AS favorite_count
+            FROM goods_price
+            UNION ALL
+            SELECT
+                history_no,
+                min_bid_price,
+                COALESCE(inquiry_count, 0) AS inquiry_count,
+                COALESCE(favorite_count, 0) AS favorite_count
+            FROM goods_price_archive
+            """)
+    List<GoodsPriceHistoryEntity> findCurrentValues();
+
+    /**
+     * 여러 물건의 이력 조회 (PK 범위 조회, 물건이력번호/기록일시 순)
+     */
+    @Select("""
+            <script>
+            SELECT history_no, recorded_at, min_bid_price, inquiry_count, favorite_count
+            FROM goods_price_history
+            WHERE history_no IN
+            <foreach collection="historyNos" item="historyNo" open="(" separator="," close=")">
+                #{historyNo}
+            </foreach>
+            <if test="from != null">
+                AND recorded_at &gt;= #{from}
+            </if>
+            <if test="to != null">
+                AND recorded_at &lt; #{to}
+            </if>
+            ORDER BY history_no, recorded_at
+            </script>
+            """)
+    List<GoodsPriceHistoryEntity> findSeries(@Param("historyNos") List<Long> historyNos,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to);
+
+    @Delete("DELETE FROM goods_price_history")
+    int deleteAll();
+}
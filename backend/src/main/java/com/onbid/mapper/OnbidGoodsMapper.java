@@ -45,6 +45,13 @@ public final class OnbidGoodsMapper {
                 .toList();
     }
     
+    /**
+     * 스트리밍으로 읽은 item 하나를 도메인 물건으로 변환
+     */
+    public static Goods toDomain(OnbidItemRaw raw) {
+        return raw == null ? null : mapItem(raw);
+    }
+    
     /**
      * 헤더 정보를 도메인 헤더로 변환
      */
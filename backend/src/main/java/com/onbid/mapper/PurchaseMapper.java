@@ -2,6 +2,8 @@ package com.onbid.mapper;
 
 import com.onbid.domain.entity.PurchaseEntity;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 import java.util.List;
 
@@ -14,12 +16,13 @@ public interface PurchaseMapper {
     
     /**
      * 구매 등록
+     * 같은 물건의 완료 구매나 같은 멱등 키가 이미 있으면 유니크 제약 위반(DuplicateKeyException)으로 실패한다.
      * @param purchase 구매 정보
      * @return 등록된 행의 수
      */
     @Insert("""
-            INSERT INTO purchases (history_no, purchase_price, purchase_status)
-            VALUES (#{historyNo}, #{purchasePrice}, #{purchaseStatus})
+            INSERT INTO purchases (history_no, purchase_price, purchase_status, idempotency_key)
+            VALUES (#{historyNo}, #{purchasePrice}, #{purchaseStatus}, #{idempotencyKey})
             """)
     @Options(useGeneratedKeys = true, keyProperty = "id")
     int insert(PurchaseEntity purchase);
@@ -30,7 +33,7 @@ public interface PurchaseMapper {
      * @return 구매 이력 목록
      */
     @Select("""
-            SELECT id, history_no, purchase_price, purchase_status, created_at
+            SELECT id, history_no, purchase_price, purchase_status, idempotency_key, created_at
             FROM purchases
             WHERE history_no = #{historyNo}
             ORDER BY created_at DESC
@@ -42,12 +45,24 @@ public interface PurchaseMapper {
      * @return 구매 이력 목록
      */
     @Select("""
-            SELECT id, history_no, purchase_price, purchase_status, created_at
+            SELECT id, history_no, purchase_price, purchase_status, idempotency_key, created_at
             FROM purchases
             ORDER BY created_at DESC
             """)
     List<PurchaseEntity> findAll();
 
+    /**
+     * 전체 구매 이력을 한 행씩 읽는 커서 (findAll 과 같은 순서, 트랜잭션 안에서만 사용)
+     * @return 구매 이력 커서
+     */
+    @Select("""
+            SELECT id, history_no, purchase_price, purchase_status, idempotency_key, created_at
+            FROM purchases
+            ORDER BY created_at DESC
+            """)
+    @Options(fetchSize = 1000, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<PurchaseEntity> streamAll();
+
     /**
      * 구매 데이터 초기화
      * @return 삭제된 행 수
@@ -56,9 +71,21 @@ public interface PurchaseMapper {
     int deleteAll();
 
     /**
-     * 특정 물건이 이미 구매되었는지 개수 반환
+     * 멱등 키로 구매 조회 (삽입이 유니크 제약에 걸렸을 때만 사용)
+     * @param idempotencyKey 클라이언트 멱등 키
+     * @return 구매 정보 (없으면 null)
      */
-    @Select("SELECT COUNT(*) FROM purchases WHERE history_no = #{historyNo}")
-    int countByHistoryNo(Long historyNo);
-}
+    @Select("""
+            SELECT id, history_no, purchase_price, purchase_status, idempotency_key, created_at
+            FROM purchases
+            WHERE idempotency_key = #{idempotencyKey}
+            """)
+    PurchaseEntity findByIdempotencyKey(String idempotencyKey);
 
+    /**
+     * 구매 완료된 물건이력번호 전체 조회 (구매 인덱스 적재용)
+     * @return 물건이력번호 목록
+     */
+    @Select("SELECT history_no FROM purchases WHERE purchase_status = 'COMPLETED'")
+    List<Long> findCompletedHistoryNos();
+}
@@ -0,0 +1,99 @@
+package com.onbid.mapper;
+
+import com.onbid.domain.entity.SyncCheckpointEntity;
+import com.onbid.domain.entity.SyncJobEntity;
+import java.util.List;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+/**
+ * 전체 동기화 작업/샤드 체크포인트 매퍼 (sync_job, sync_checkpoint)
+ */
+@Mapper
+public interface SyncJobMapper {
+
+    @Insert("""
+            INSERT INTO sync_job (status, page_size, shard_count, started_at)
+            VALUES (#{status}, #{pageSize}, #{shardCount}, #{startedAt})
+            """)
+    @Options(useGeneratedKeys = true, keyProperty = "id")
+    int insertJob(SyncJobEntity job);
+
+    /**
+     * 샤드 체크포인트 다중 행 추가 (모두 0페이지, PENDING 상태로 시작)
+     */
+    @Insert("""
+            <script>
+            INSERT INTO sync_checkpoint (job_id, shard_key, ctgr_hirk_id, sido, status)
+            VALUES
+            <foreach collection="list" item="c" separator=",">
+                (#{c.jobId}, #{c.shardKey}, #{c.ctgrHirkId}, #{c.sido}, 'PENDING')
+            </foreach>
+            </script>
+            """)
+    int insertCheckpoints(@Param("list") List<SyncCheckpointEntity> checkpoints);
+
+    @Select("""
+            SELECT id, status, page_size, shard_count, expected_count, message, started_at, finished_at
+            FROM sync_job
+            ORDER BY id DESC
+            LIMIT 1
+            """)
+    SyncJobEntity findLatestJob();
+
+    @Select("""
+            SELECT job_id, shard_key, ctgr_hirk_id, sido, status, last_page, total_pages,
+                   total_count, item_count, message, updated_at
+            FROM sync_checkpoint
+            WHERE job_id = #{jobId}
+            ORDER BY shard_key
+            """)
+    List<SyncCheckpointEntity> findCheckpoints(@Param("jobId") Long jobId);
+
+    @Update("""
+            UPDATE sync_job
+            SET status = #{status}, expected_count = #{expectedCount}, message = #{message}, finished_at = #{finishedAt}
+            WHERE id = #{id}
+            """)
+    int updateJob(SyncJobEntity job);
+
+    /**
+     * 작업을 다시 RUNNING 으로 돌림 (재개 시)
+     */
+    @Update("UPDATE sync_job SET status = 'RUNNING', message = NULL, finished_at = NULL WHERE id = #{id}")
+    int reopenJob(@Param("id") Long id);
+
+    /**
+     * 한 페이지 저장을 마친 뒤 체크포인트 전진 (전체 페이지/건수는 샤드의 첫 응답 기준으로 함께 기록)
+     */
+    @Update("""
+            UPDATE sync_checkpoint
+            SET status = 'RUNNING',
+                last_page = #{lastPage},
+                total_pages = #{totalPages},
+                total_count = #{totalCount},
+                item_count = item_count + #{itemCount},
+                message = NULL
+            WHERE job_id = #{jobId} AND shard_key = #{shardKey}
+            """)
+    int advanceCheckpoint(@Param("jobId") Long jobId,
+                          @Param("shardKey") String shardKey,
+                          @Param("lastPage") int lastPage,
+                          @Param("totalPages") int totalPages,
+                          @Param("totalCount") int totalCount,
+                          @Param("itemCount") int itemCount);
+
+    @Update("""
+            UPDATE sync_checkpoint
+            SET status = #{status}, message = #{message}
+            WHERE job_id = #{jobId} AND shard_key = #{shardKey}
+            """)
+    int updateCheckpointStatus(@Param("jobId") Long jobId,
+                               @Param("shardKey") String shardKey,
+                               @Param("status") String status,
+                               @Param("message") String message);
+}
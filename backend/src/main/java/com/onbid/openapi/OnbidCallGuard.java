@@ -0,0 +1,288 @@
+package com.onbid.openapi;
+
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 온비드 호출 보호 장치 (적응형 동시 호출 한도 + 서킷 브레이커)
+ * 컨트롤러, 스케줄러, 크롤러의 모든 온비드 호출이 하나의 한도를 나눠 쓴다.
+ *
+ * 동시 호출 한도 (AIMD)
+ * - 빠르게 성공하면 한도를 1/limit 씩 늘리고 (호출 limit 번마다 +1)
+ * - 실패하거나 지연시간이 기준을 넘으면 한도를 backoff-ratio 배로 줄인다.
+ * - 한도가 찬 상태에서는 acquire-timeout 동안만 기다리고 UPSTREAM_OVERLOADED 로 실패한다.
+ *
+ * 서킷 브레이커
+ * - CLOSED: 최근 window-size 건 중 실패 비율이 failure-rate 이상이면 OPEN
+ * - OPEN: open-seconds 동안 호출하지 않고 즉시 UPSTREAM_CIRCUIT_OPEN 으로 실패
+ * - HALF_OPEN: 시험 호출 half-open-calls 건이 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+@Slf4j
+@Component
+public class OnbidCallGuard {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdMs;
+    private final double backoffRatio;
+    private final long acquireTimeoutMs;
+    private final int minCalls;
+    private final double failureRate;
+    private final long openMillis;
+    private final int halfOpenCalls;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    // 아래 상태는 모두 lock 으로 보호
+    private double limit;
+    private int inFlight;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+    private final LongAdder circuitOpens = new LongAdder();
+
+    public OnbidCallGuard(
+            @Value("${onbid.guard.initial-limit:8}") int initialLimit,
+            @Value("${onbid.guard.min-limit:2}") int minLimit,
+            @Value("${onbid.guard.max-limit:32}") int maxLimit,
+            @Value("${onbid.guard.latency-threshold-ms:3000}") long latencyThresholdMs,
+            @Value("${onbid.guard.backoff-ratio:0.7}") double backoffRatio,
+            @Value("${onbid.guard.acquire-timeout-ms:500}") long acquireTimeoutMs,
+            @Value("${onbid.guard.window-size:20}") int windowSize,
+            @Value("${onbid.guard.min-calls:10}") int minCalls,
+            @Value("${onbid.guard.failure-rate:0.5}") double failureRate,
+            @Value("${onbid.guard.open-seconds:30}") long openSeconds,
+            @Value("${onbid.guard.half-open-calls:3}") int halfOpenCalls) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.latencyThresholdMs = latencyThresholdMs;
+        this.backoffRatio = backoffRatio;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minCalls = Math.min(window.length, Math.max(1, minCalls));
+        this.failureRate = failureRate;
+        this.openMillis = openSeconds * 1000;
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+    }
+
+    /**
+     * 한도와 서킷 상태를 확인한 뒤 호출을 실행하고 결과로 한도/서킷 상태를 갱신
+     * EXTERNAL_API_ERROR 만 온비드 장애로 보고, 그 밖의 예외(파싱 오류, 호출 측 중단 등)는 결과에 반영하지 않는다.
+     */
+    public <T> T execute(Supplier<T> call) {
+        boolean trial = acquire();
+        long start = System.currentTimeMillis();
+        Outcome outcome = Outcome.IGNORED;
+        try {
+            T result = call.get();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } catch (BusinessException ex) {
+            if (ex.getErrorCode() == ErrorCode.EXTERNAL_API_ERROR) {
+                outcome = Outcome.FAILURE;
+            }
+            throw ex;
+        } finally {
+            release(trial, outcome, System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 서킷이 열려 있어 호출이 차단되는 중인지 여부
+     */
+    public boolean isCircuitOpen() {
+        lock.lock();
+        try {
+            return state == State.OPEN && System.currentTimeMillis() - openedAt < openMillis;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 한도/서킷 상태 통계
+     */
+    public Map<String, Object> stats() {
+        lock.lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("state", state.name());
+            stats.put("limit", (int) limit);
+            stats.put("inFlight", inFlight);
+            stats.put("windowCalls", windowCount);
+            stats.put("windowFailures", windowFailures);
+            stats.put("rejected", rejected.sum());
+            stats.put("shortCircuited", shortCircuited.sum());
+            stats.put("circuitOpens", circuitOpens.sum());
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출 허가 획득
+     * @return HALF_OPEN 상태의 시험 호출이면 true
+     */
+    private boolean acquire() {
+        lock.lock();
+        boolean trial = false;
+        try {
+            trial = checkCircuit();
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+            while (inFlight >= (int) limit) {
+                if (remainingNanos <= 0) {
+                    rejected.increment();
+                    throw new BusinessException(ErrorCode.UPSTREAM_OVERLOADED,
+                            "온비드 API 동시 호출 한도(" + (int) limit + ")를 초과했습니다.");
+                }
+                remainingNanos = released.awaitNanos(remainingNanos);
+            }
+            inFlight++;
+            return trial;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            if (trial) {
+                halfOpenInFlight--;
+            }
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "온비드 호출 대기가 중단되었습니다.");
+        } catch (BusinessException ex) {
+            if (trial) {
+                // 한도 초과로 시험 호출을 못 했으면 자리를 돌려준다.
+                halfOpenInFlight--;
+            }
+            throw ex;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 서킷 상태 확인 (lock 보유 상태에서 호출)
+     */
+    private boolean checkCircuit() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openMillis) {
+                shortCircuited.increment();
+                throw new BusinessException(ErrorCode.UPSTREAM_CIRCUIT_OPEN, null);
+            }
+            state = State.HALF_OPEN;
+            halfOpenInFlight = 0;
+            halfOpenSuccesses = 0;
+            log.info("[Guard] 서킷 HALF_OPEN - 시험 호출 {}건 허용", halfOpenCalls);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight + halfOpenSuccesses >= halfOpenCalls) {
+                shortCircuited.increment();
+                throw new BusinessException(ErrorCode.UPSTREAM_CIRCUIT_OPEN, null);
+            }
+            halfOpenInFlight++;
+            return true;
+        }
+        return false;
+    }
+
+    private void release(boolean trial, Outcome outcome, long elapsedMs) {
+        lock.lock();
+        try {
+            inFlight--;
+            adjustLimit(outcome, elapsedMs);
+            if (trial) {
+                // 이전 HALF_OPEN 구간의 시험 호출이 늦게 끝나도 음수가 되지 않게 한다.
+                halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+            }
+            if (outcome != Outcome.IGNORED) {
+                recordOutcome(trial, outcome == Outcome.FAILURE);
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjustLimit(Outcome outcome, long elapsedMs) {
+        if (outcome == Outcome.FAILURE || (outcome == Outcome.SUCCESS && elapsedMs > latencyThresholdMs)) {
+            double next = Math.max(minLimit, limit * backoffRatio);
+            if ((int) next < (int) limit) {
+                log.warn("[Guard] 동시 호출 한도 축소 {} -> {} ({}ms)", (int) limit, (int) next, elapsedMs);
+            }
+            limit = next;
+        } else if (outcome == Outcome.SUCCESS) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    private void recordOutcome(boolean trial, boolean failed) {
+        if (state == State.HALF_OPEN) {
+            if (!trial) {
+                // OPEN 이전에 시작된 호출의 결과는 시험 결과로 보지 않는다.
+                return;
+            }
+            if (failed) {
+                open();
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+        if (windowCount == window.length && window[windowIndex]) {
+            windowFailures--;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+        windowCount = Math.min(window.length, windowCount + 1);
+        if (windowCount >= minCalls && windowFailures >= windowCount * failureRate) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        circuitOpens.increment();
+        log.warn("[Guard] 서킷 OPEN - 최근 {}건 중 {}건 실패, {}초간 호출 차단",
+                windowCount, windowFailures, openMillis / 1000);
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        log.info("[Guard] 서킷 CLOSED - 시험 호출 모두 성공");
+    }
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private enum Outcome {
+        SUCCESS, FAILURE, IGNORED
+    }
+}
@@ -0,0 +1,226 @@
+package com.onbid.openapi;
+
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 온비드 전용 HTTP 클라이언트
+ * - 커넥션 풀 + keep-alive 로 호출마다 TCP/TLS 연결을 새로 맺지 않음
+ * - Accept-Encoding: gzip 협상 후 자동 해제 (HttpClient 기본 동작)
+ * - 연결/풀 대기/읽기 타임아웃에 더해 호출 전체 마감시간이 지나면 요청을 강제로 끊음
+ * - 호출별 지연시간 기록 (onbid.upstream.call 타이머, outcome=success|failure|timeout)
+ */
+@Slf4j
+@Component
+public class OnbidHttpClient {
+
+    private final CloseableHttpClient httpClient;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final ScheduledThreadPoolExecutor deadlineTimer;
+    private final ExecutorService asyncExecutor;
+    private final long callTimeoutMs;
+    private final OnbidCallGuard callGuard;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalLatencyMs = new LongAdder();
+    private final LongAccumulator maxLatencyMs = new LongAccumulator(Long::max, 0L);
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Timer timeoutTimer;
+
+    public OnbidHttpClient(
+            @Value("${onbid.http.max-connections:50}") int maxConnections,
+            @Value("${onbid.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${onbid.http.read-timeout-ms:10000}") long readTimeoutMs,
+            @Value("${onbid.http.pool-timeout-ms:2000}") long poolTimeoutMs,
+            @Value("${onbid.http.call-timeout-ms:20000}") long callTimeoutMs,
+            @Value("${onbid.http.keep-alive-seconds:30}") long keepAliveSeconds,
+            OnbidCallGuard callGuard,
+            MeterRegistry meterRegistry) {
+        this.callTimeoutMs = callTimeoutMs;
+        this.callGuard = callGuard;
+        this.successTimer = callTimer(meterRegistry, "success");
+        this.failureTimer = callTimer(meterRegistry, "failure");
+        this.timeoutTimer = callTimer(meterRegistry, "timeout");
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                // 호출 대상이 온비드 한 곳뿐이므로 라우트당 상한도 전체 상한과 같게 둔다.
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAliveSeconds))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+                .build();
+        this.deadlineTimer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "onbid-http-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.deadlineTimer.setRemoveOnCancelPolicy(true);
+        this.asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * GET 요청을 보내고 응답 본문 스트림을 handler 에 넘긴다.
+     * 호출 전체 마감시간(call-timeout)을 넘기면 연결을 끊어 느린 응답이 스레드를 붙잡지 못하게 한다.
+     * 모든 호출은 {@link OnbidCallGuard} 의 동시 호출 한도와 서킷 브레이커를 거친다.
+     * @param uri 요청 URI
+     * @param handler 응답 본문 처리 (스트림은 handler 반환 후 자동으로 닫힘)
+     */
+    public <T> T get(URI uri, BodyHandler<T> handler) {
+        return callGuard.execute(() -> execute(uri, handler));
+    }
+
+    private <T> T execute(URI uri, BodyHandler<T> handler) {
+        HttpGet request = new HttpGet(uri);
+        AtomicBoolean expired = new AtomicBoolean();
+        ScheduledFuture<?> deadline = deadlineTimer.schedule(() -> {
+            expired.set(true);
+            request.cancel();
+        }, callTimeoutMs, TimeUnit.MILLISECONDS);
+
+        long start = System.currentTimeMillis();
+        boolean success = false;
+        try {
+            T result = httpClient.execute(request, response -> {
+                int status = response.getCode();
+                if (status < 200 || status >= 300) {
+                    throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "Onbid API 응답 오류: HTTP " + status);
+                }
+                HttpEntity entity = response.getEntity();
+                if (entity == null) {
+                    throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "Onbid API 응답 본문이 없습니다.");
+                }
+                try (InputStream body = entity.getContent()) {
+                    return handler.handle(body, charsetOf(entity));
+                }
+            });
+            success = true;
+            return result;
+        } catch (BusinessException ex) {
+            throw ex;
+        } catch (IOException | RuntimeException ex) {
+            if (expired.get()) {
+                timeouts.increment();
+                throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR,
+                        "Onbid API 호출 시간 초과 (" + callTimeoutMs + "ms)");
+            }
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "Onbid API 호출 실패: " + ex.getMessage());
+        } finally {
+            deadline.cancel(false);
+            record(System.currentTimeMillis() - start, success, expired.get());
+        }
+    }
+
+    /**
+     * {@link #get} 을 가상 스레드에서 실행해 호출 스레드를 막지 않는 비동기 버전
+     */
+    public <T> CompletableFuture<T> getAsync(URI uri, BodyHandler<T> handler) {
+        return CompletableFuture.supplyAsync(() -> get(uri, handler), asyncExecutor);
+    }
+
+    /**
+     * 호출 지연시간/풀 상태 통계
+     */
+    public Map<String, Object> stats() {
+        long count = calls.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("calls", count);
+        stats.put("failures", failures.sum());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("avgLatencyMs", count == 0 ? 0 : totalLatencyMs.sum() / count);
+        stats.put("maxLatencyMs", maxLatencyMs.get());
+        stats.put("leasedConnections", connectionManager.getTotalStats().getLeased());
+        stats.put("availableConnections", connectionManager.getTotalStats().getAvailable());
+        stats.put("pendingConnections", connectionManager.getTotalStats().getPending());
+        stats.put("guard", callGuard.stats());
+        return stats;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        asyncExecutor.shutdownNow();
+        deadlineTimer.shutdownNow();
+        httpClient.close();
+    }
+
+    private void record(long elapsedMs, boolean success, boolean expired) {
+        Timer timer = success ? successTimer : expired ? timeoutTimer : failureTimer;
+        timer.record(elapsedMs, TimeUnit.MILLISECONDS);
+        calls.increment();
+        totalLatencyMs.add(elapsedMs);
+        maxLatencyMs.accumulate(elapsedMs);
+        if (!success) {
+            failures.increment();
+        }
+        log.info("Onbid API 호출 {} - {}ms", success ? "완료" : "실패", elapsedMs);
+    }
+
+    private static Timer callTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("onbid.upstream.call")
+                .description("온비드 API 호출 시간 (응답 본문 처리 포함)")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Charset charsetOf(HttpEntity entity) {
+        ContentType contentType = ContentType.parseLenient(entity.getContentType());
+        Charset charset = contentType != null ? contentType.getCharset() : null;
+        return charset != null ? charset : StandardCharsets.UTF_8;
+    }
+
+    /**
+     * 응답 본문 처리기
+     */
+    @FunctionalInterface
+    public interface BodyHandler<T> {
+        T handle(InputStream body, Charset charset) throws IOException;
+    }
+}
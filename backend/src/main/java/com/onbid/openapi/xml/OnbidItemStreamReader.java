@@ -0,0 +1,84 @@
+package com.onbid.openapi.xml;
+
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.onbid.domain.dto.Response.GoodsPageSummary;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * 온비드 XML 응답을 StAX(Woodstox)로 앞에서부터 읽으며 item 노드를 하나씩 넘겨주는 리더
+ * 문서 전체를 문자열이나 Raw DTO 목록으로 만들지 않으므로 메모리 사용량이 페이지 크기와 무관하다.
+ */
+public class OnbidItemStreamReader {
+
+    private final XmlMapper xmlMapper;
+    private final XMLInputFactory inputFactory;
+
+    public OnbidItemStreamReader(XmlMapper xmlMapper) {
+        this.xmlMapper = xmlMapper;
+        this.inputFactory = xmlMapper.getFactory().getXMLInputFactory();
+    }
+
+    /**
+     * XML 스트림을 끝까지 읽으면서 item 을 consumer 에 전달하고 헤더/페이지 정보를 반환
+     * @param in 응답 본문 스트림 (호출자가 닫음)
+     * @param consumer item 하나가 완성될 때마다 호출되는 콜백
+     * @return 결과 코드와 페이지 정보 요약
+     */
+    public GoodsPageSummary read(InputStream in, Consumer<OnbidItemRaw> consumer) {
+        GoodsPageSummary.GoodsPageSummaryBuilder summary = GoodsPageSummary.builder();
+        int itemCount = 0;
+        XMLStreamReader reader = null;
+        try {
+            reader = inputFactory.createXMLStreamReader(in);
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                switch (reader.getLocalName()) {
+                    case "item" -> {
+                        // item 하위 트리만 기존 Raw DTO 매핑 규칙으로 바인딩 (END_ELEMENT 위치에서 반환됨)
+                        consumer.accept(xmlMapper.readValue(reader, OnbidItemRaw.class));
+                        itemCount++;
+                    }
+                    case "resultCode" -> summary.resultCode(reader.getElementText().trim());
+                    case "resultMsg" -> summary.resultMsg(reader.getElementText().trim());
+                    case "numOfRows" -> summary.numOfRows(parseInt(reader.getElementText()));
+                    case "pageNo" -> summary.pageNo(parseInt(reader.getElementText()));
+                    case "totalCount" -> summary.totalCount(parseInt(reader.getElementText()));
+                    default -> {
+                        // 나머지 노드는 필요 없으므로 건너뜀
+                    }
+                }
+            }
+            return summary.itemCount(itemCount).build();
+        } catch (XMLStreamException | IOException ex) {
+            throw new BusinessException(ErrorCode.XML_PARSE_ERROR, "XML 스트림 파싱 실패: " + ex.getMessage());
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    private Integer parseInt(String text) {
+        String trimmed = text == null ? "" : text.trim();
+        return trimmed.isEmpty() ? null : Integer.valueOf(trimmed);
+    }
+
+    private void closeQuietly(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException ignored) {
+            // 닫기 실패는 결과에 영향을 주지 않음
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.onbid.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동기화 다음 실행 시각을 정하는 적응형 트리거
+ * - 변경이 있으면 관측된 변경률(행/초, 지수 이동 평균)로 한 번에 target-changes-per-run 건 정도가 모이도록 간격을 정한다.
+ * - 변경이 없거나 실패하면 간격을 backoff-factor 배로 늘린다 (max-interval 까지).
+ * - 가장 가까운 입찰 마감이 closing-window 안이면 closing-interval 로 줄이고, 마감 직후 한 번은 꼭 실행한다.
+ * 다음 실행은 이전 실행이 끝난 시각을 기준으로 잡히므로 실행이 겹치지 않는다.
+ */
+@Slf4j
+@Component
+public class AdaptiveSyncTrigger implements Trigger {
+
+    private static final double RATE_SMOOTHING = 0.3;
+    private static final Duration CLOSE_GRACE = Duration.ofSeconds(5);
+
+    private final GoodsReadModel goodsReadModel;
+    private final GoodsSyncStatusService goodsSyncStatusService;
+    private final Duration minInterval;
+    private final Duration maxInterval;
+    private final double backoffFactor;
+    private final int targetChangesPerRun;
+    private final Duration closingWindow;
+    private final Duration closingInterval;
+
+    // 아래 상태는 모두 this 로 동기화
+    private Duration interval;
+    private double changeRatePerSecond = -1;
+    private Instant lastRunAt;
+    private String reason = "initial";
+
+    public AdaptiveSyncTrigger(
+            GoodsReadModel goodsReadModel,
+            GoodsSyncStatusService goodsSyncStatusService,
+            MeterRegistry meterRegistry,
+            @Value("${onbid.sync.schedule.initial-interval-seconds:60}") long initialIntervalSeconds,
+            @Value("${onbid.sync.schedule.min-interval-seconds:15}") long minIntervalSeconds,
+            @Value("${onbid.sync.schedule.max-interval-seconds:600}") long maxIntervalSeconds,
+            @Value("${onbid.sync.schedule.backoff-factor:2.0}") double backoffFactor,
+            @Value("${onbid.sync.schedule.target-changes-per-run:10}") int targetChangesPerRun,
+            @Value("${onbid.sync.schedule.closing-window-minutes:30}") long closingWindowMinutes,
+            @Value("${onbid.sync.schedule.closing-interval-seconds:15}") long closingIntervalSeconds) {
+        this.goodsReadModel = goodsReadModel;
+        this.goodsSyncStatusService = goodsSyncStatusService;
+        this.minInterval = Duration.ofSeconds(Math.max(1, minIntervalSeconds));
+        this.maxInterval = Duration.ofSeconds(Math.max(this.minInterval.getSeconds(), maxIntervalSeconds));
+        this.backoffFactor = Math.max(1.0, backoffFactor);
+        this.targetChangesPerRun = Math.max(1, targetChangesPerRun);
+        this.closingWindow = Duration.ofMinutes(closingWindowMinutes);
+        this.closingInterval = Duration.ofSeconds(Math.max(1, closingIntervalSeconds));
+        this.interval = clamp(Duration.ofSeconds(initialIntervalSeconds));
+        Gauge.builder("onbid.sync.interval", this, trigger -> trigger.currentInterval().getSeconds())
+                .description("적응형 동기화 기본 간격 (마감 임박 보정 전)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 동기화 성공 결과 반영
+     * @param changedRows 이번 실행에서 새로 쓰거나 바뀐 행 수
+     */
+    public synchronized void recordSuccess(int changedRows) {
+        Instant now = Instant.now();
+        if (lastRunAt != null) {
+            double elapsedSeconds = Math.max(1, Duration.between(lastRunAt, now).getSeconds());
+            double observed = changedRows / elapsedSeconds;
+            changeRatePerSecond = changeRatePerSecond < 0
+                    ? observed
+                    : RATE_SMOOTHING * observed + (1 - RATE_SMOOTHING) * changeRatePerSecond;
+        }
+        lastRunAt = now;
+        if (changedRows == 0) {
+            backOff("no changes");
+        } else if (changeRatePerSecond > 0) {
+            interval = clamp(Duration.ofSeconds(Math.round(targetChangesPerRun / changeRatePerSecond)));
+            reason = "change rate";
+        }
+    }
+
+    /**
+     * 동기화 실패 반영 (온비드 장애 중에 호출을 줄이기 위해 간격을 늘림)
+     */
+    public synchronized void recordFailure() {
+        lastRunAt = Instant.now();
+        backOff("failure");
+    }
+
+    /**
+     * 다음 실행 시각 (이전 실행 완료 시각 기준)
+     */
+    @Override
+    public Instant nextExecution(TriggerContext triggerContext) {
+        Instant now = Instant.now();
+        Instant base = triggerContext.lastCompletion() != null ? triggerContext.lastCompletion() : now;
+        Duration delay;
+        String why;
+        synchronized (this) {
+            delay = interval;
+            why = reason;
+        }
+
+        LocalDateTime nextClose = nextBidClose();
+        if (nextClose != null) {
+            Duration untilClose = Duration.between(LocalDateTime.now(), nextClose);
+            if (untilClose.compareTo(closingWindow) <= 0 && closingInterval.compareTo(delay) < 0) {
+                delay = closingInterval;
+                why = "closing soon";
+            }
+            Duration afterClose = untilClose.plus(CLOSE_GRACE);
+            if (afterClose.compareTo(delay) < 0) {
+                // 기본 간격 안에 마감이 있으면 마감 직후 최종 상태를 한 번 반영
+                delay = afterClose.compareTo(Duration.ofSeconds(1)) > 0 ? afterClose : Duration.ofSeconds(1);
+                why = "bid close";
+            }
+        }
+
+        Instant next = base.plus(delay);
+        goodsSyncStatusService.setNextSyncAt(LocalDateTime.ofInstant(next, ZoneId.systemDefault()));
+        log.info("[Scheduler] 다음 동기화 {}초 후 ({})", Duration.between(now, next).getSeconds(), why);
+        return next;
+    }
+
+    /**
+     * 트리거 상태 통계
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (this) {
+            stats.put("intervalSeconds", interval.getSeconds());
+            stats.put("reason", reason);
+            stats.put("changeRatePerMinute", changeRatePerSecond < 0 ? null : changeRatePerSecond * 60);
+        }
+        stats.put("nextBidClose", nextBidClose());
+        return stats;
+    }
+
+    private synchronized Duration currentInterval() {
+        return interval;
+    }
+
+    private void backOff(String why) {
+        long seconds = (long) Math.ceil(interval.getSeconds() * backoffFactor);
+        interval = clamp(Duration.ofSeconds(seconds));
+        reason = why;
+    }
+
+    private LocalDateTime nextBidClose() {
+        try {
+            return goodsReadModel.nextBidCloseAfter(LocalDateTime.now());
+        } catch (RuntimeException ex) {
+            // DB 가 준비되지 않았으면 마감 보정 없이 기본 간격 사용
+            log.warn("[Scheduler] 입찰 마감 시각 조회 실패: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private Duration clamp(Duration value) {
+        if (value.compareTo(minInterval) < 0) {
+            return minInterval;
+        }
+        return value.compareTo(maxInterval) > 0 ? maxInterval : value;
+    }
+}
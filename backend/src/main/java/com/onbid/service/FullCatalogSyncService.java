@@ -0,0 +1,368 @@
+package com.onbid.service;
+
+import com.onbid.domain.dto.Goods;
+import com.onbid.domain.dto.Response.GoodsResponse;
+import com.onbid.domain.dto.Response.GoodsSyncResult;
+import com.onbid.domain.entity.SyncCheckpointEntity;
+import com.onbid.domain.entity.SyncJobEntity;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import com.onbid.mapper.SyncJobMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 전체 카탈로그 동기화 작업 (카테고리 × 시도 샤드 병렬 실행 + 샤드별 체크포인트)
+ * - 샤드마다 페이지를 순서대로 읽어 저장하고, 저장이 끝난 페이지 번호를 sync_checkpoint 에 기록
+ * - 프로세스가 죽거나 재시작되면 RUNNING 으로 남은 작업을 마지막 체크포인트 다음 페이지부터 이어서 실행
+ * - 페이지 크기는 작업 생성 시 고정해 재개해도 페이지 경계가 어긋나지 않게 한다.
+ * - 저장과 체크포인트 기록 사이에 중단되면 그 페이지를 다시 읽지만, upsert 와 지문 비교로 결과는 같다.
+ * - 완료 시 샤드 전체 건수 합계를 필터 없는 전체 건수와 비교해 샤드 설정에서 빠진 물건이 있는지 기록
+ */
+@Slf4j
+@Service
+public class FullCatalogSyncService {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+    public static final String CANCELLED = "CANCELLED";
+    public static final String DONE = "DONE";
+
+    private static final String SHARD_SEPARATOR = "|";
+
+    /**
+     * onbid.full-sync.sidos 를 지정하지 않았을 때 쓰는 시도 목록 (온비드 SIDO 파라미터 값)
+     */
+    private static final String[] DEFAULT_SIDOS = {
+            "서울특별시", "부산광역시", "대구광역시", "인천광역시", "광주광역시", "대전광역시",
+            "울산광역시", "세종특별자치시", "경기도", "강원특별자치도", "충청북도", "충청남도",
+            "전북특별자치도", "전라남도", "경상북도", "경상남도", "제주특별자치도"};
+
+    private final SyncJobMapper syncJobMapper;
+    private final OnbidApiService onbidApiService;
+    private final OnbidCatalogCrawler onbidCatalogCrawler;
+    private final GoodsService goodsService;
+    private final int shardConcurrency;
+    private final List<String> categories;
+    private final List<String> sidos;
+
+    /**
+     * 이 프로세스에서 실행 중인 작업 (없으면 null)
+     */
+    private final AtomicReference<ActiveJob> active = new AtomicReference<>();
+
+    public FullCatalogSyncService(
+            SyncJobMapper syncJobMapper,
+            OnbidApiService onbidApiService,
+            OnbidCatalogCrawler onbidCatalogCrawler,
+            GoodsService goodsService,
+            @Value("${onbid.full-sync.shard-concurrency:4}") int shardConcurrency,
+            @Value("${onbid.full-sync.categories:}") String[] categories,
+            @Value("${onbid.full-sync.sidos:#{null}}") String[] sidos) {
+        this.syncJobMapper = syncJobMapper;
+        this.onbidApiService = onbidApiService;
+        this.onbidCatalogCrawler = onbidCatalogCrawler;
+        this.goodsService = goodsService;
+        this.shardConcurrency = Math.max(1, shardConcurrency);
+        this.categories = normalize(categories);
+        this.sidos = normalize(sidos != null ? sidos : DEFAULT_SIDOS);
+    }
+
+    /**
+     * 기동 시 RUNNING 상태로 남아 있는 작업(비정상 종료)을 체크포인트부터 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        SyncJobEntity latest = syncJobMapper.findLatestJob();
+        if (latest != null && RUNNING.equals(latest.getStatus())) {
+            log.info("[FullSync] 중단된 작업 {} 재개", latest.getId());
+            launch(latest);
+        }
+    }
+
+    /**
+     * 전체 동기화 시작
+     * @param resume true 면 마지막 작업이 실패/중단 상태일 때 새 작업 대신 그 작업을 체크포인트부터 이어서 실행
+     * @return 시작(또는 재개)한 작업
+     */
+    public synchronized SyncJobEntity start(boolean resume) {
+        if (active.get() != null) {
+            throw new BusinessException(ErrorCode.FULL_SYNC_IN_PROGRESS,
+                    "전체 동기화 작업 " + active.get().jobId() + "이(가) 이미 진행 중입니다.");
+        }
+        SyncJobEntity latest = syncJobMapper.findLatestJob();
+        if (resume && latest != null && !COMPLETED.equals(latest.getStatus())) {
+            syncJobMapper.reopenJob(latest.getId());
+            latest.setStatus(RUNNING);
+            log.info("[FullSync] 작업 {} 재개", latest.getId());
+            launch(latest);
+            return latest;
+        }
+        return launch(createJob());
+    }
+
+    /**
+     * 실행 중인 작업 취소 요청 (샤드는 진행 중인 페이지까지만 저장하고 멈춤)
+     * @return 취소할 작업이 있었으면 true
+     */
+    public boolean cancel() {
+        ActiveJob job = active.get();
+        if (job == null) {
+            return false;
+        }
+        job.cancelled().set(true);
+        log.info("[FullSync] 작업 {} 취소 요청", job.jobId());
+        return true;
+    }
+
+    /**
+     * 이 프로세스에서 전체 동기화 작업이 실행 중인지 여부
+     * 샤드가 저장하는 동안 정기 동기화나 일괄 저장이 같은 물건을 함께 쓰지 않도록 확인하는 데 사용한다.
+     */
+    public boolean isRunning() {
+        return active.get() != null;
+    }
+
+    /**
+     * 마지막 작업 상태와 샤드별 진행 상황
+     */
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        SyncJobEntity latest = syncJobMapper.findLatestJob();
+        ActiveJob job = active.get();
+        status.put("running", job != null);
+        status.put("cancelRequested", job != null && job.cancelled().get());
+        status.put("job", latest);
+        if (latest == null) {
+            status.put("shards", List.of());
+            return status;
+        }
+        List<SyncCheckpointEntity> shards = syncJobMapper.findCheckpoints(latest.getId());
+        int donePages = shards.stream().mapToInt(SyncCheckpointEntity::getLastPage).sum();
+        int knownPages = shards.stream()
+                .mapToInt(shard -> Optional.ofNullable(shard.getTotalPages()).orElse(0))
+                .sum();
+        status.put("shardsDone", shards.stream().filter(shard -> DONE.equals(shard.getStatus())).count());
+        status.put("pagesDone", donePages);
+        // 아직 첫 페이지를 읽지 않은 샤드는 전체 페이지 수를 모르므로 알려진 페이지 기준 진행률
+        status.put("pagesKnown", knownPages);
+        status.put("itemCount", shards.stream().mapToInt(SyncCheckpointEntity::getItemCount).sum());
+        status.put("shards", shards);
+        return status;
+    }
+
+    /**
+     * 샤드 설정으로 새 작업과 PENDING 체크포인트 생성
+     */
+    private SyncJobEntity createJob() {
+        List<SyncCheckpointEntity> shards = new ArrayList<>();
+        for (String category : categories.isEmpty() ? Arrays.asList((String) null) : categories) {
+            for (String sido : sidos.isEmpty() ? Arrays.asList((String) null) : sidos) {
+                shards.add(SyncCheckpointEntity.builder()
+                        .shardKey(Optional.ofNullable(category).orElse("*") + SHARD_SEPARATOR
+                                + Optional.ofNullable(sido).orElse("*"))
+                        .ctgrHirkId(category)
+                        .sido(sido)
+                        .build());
+            }
+        }
+        SyncJobEntity job = SyncJobEntity.builder()
+                .status(RUNNING)
+                .pageSize(onbidCatalogCrawler.getCurrentPageSize())
+                .shardCount(shards.size())
+                .startedAt(LocalDateTime.now())
+                .build();
+        syncJobMapper.insertJob(job);
+        shards.forEach(shard -> shard.setJobId(job.getId()));
+        syncJobMapper.insertCheckpoints(shards);
+        log.info("[FullSync] 작업 {} 생성 - 샤드 {}개, 페이지당 {}건", job.getId(), shards.size(), job.getPageSize());
+        return job;
+    }
+
+    private SyncJobEntity launch(SyncJobEntity job) {
+        ActiveJob activeJob = new ActiveJob(job.getId(), new AtomicBoolean());
+        if (!active.compareAndSet(null, activeJob)) {
+            throw new BusinessException(ErrorCode.FULL_SYNC_IN_PROGRESS, null);
+        }
+        Thread.ofPlatform().name("onbid-full-sync-" + job.getId()).daemon(true).start(() -> {
+            try {
+                run(job, activeJob.cancelled());
+            } catch (RuntimeException ex) {
+                log.error("[FullSync] 작업 {} 처리 중 오류", job.getId(), ex);
+                finish(job, FAILED, null, ex.getMessage());
+            } finally {
+                active.set(null);
+            }
+        });
+        return job;
+    }
+
+    /**
+     * 끝나지 않은 샤드를 shard-concurrency 개씩 병렬로 실행하고 작업 결과 기록
+     */
+    private void run(SyncJobEntity job, AtomicBoolean cancelled) {
+        long start = System.currentTimeMillis();
+        List<SyncCheckpointEntity> pending = syncJobMapper.findCheckpoints(job.getId()).stream()
+                .filter(shard -> !DONE.equals(shard.getStatus()))
+                .toList();
+        log.info("[FullSync] 작업 {} 실행 - 남은 샤드 {}개 (동시 {}개)", job.getId(), pending.size(), shardConcurrency);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(shardConcurrency, runnable ->
+                new Thread(runnable, "onbid-full-sync-shard-" + threadIndex.incrementAndGet()));
+        int failedShards = 0;
+        try {
+            List<Future<?>> futures = new ArrayList<>(pending.size());
+            for (SyncCheckpointEntity shard : pending) {
+                futures.add(executor.submit(() -> runShard(job, shard, cancelled)));
+            }
+            for (Future<?> future : futures) {
+                if (!await(future)) {
+                    failedShards++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (cancelled.get()) {
+            finish(job, CANCELLED, null, "사용자 요청으로 취소되었습니다.");
+        } else if (failedShards > 0) {
+            finish(job, FAILED, null, failedShards + "개 샤드 실패 (다시 시작하면 체크포인트부터 재개)");
+        } else {
+            finishCompleted(job);
+        }
+        goodsService.refreshReadModel();
+        log.info("[FullSync] 작업 {} 종료 - {}ms", job.getId(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 한 샤드를 체크포인트 다음 페이지부터 마지막 페이지까지 순서대로 저장
+     * 전체 페이지 수는 매 페이지 응답의 totalCount 로 다시 계산해 진행 중 늘어난 페이지도 읽는다.
+     */
+    private void runShard(SyncJobEntity job, SyncCheckpointEntity shard, AtomicBoolean cancelled) {
+        int rows = job.getPageSize();
+        int pageNo = shard.getLastPage() + 1;
+        int totalPages = Optional.ofNullable(shard.getTotalPages()).orElse(Integer.MAX_VALUE);
+        int totalCount = Optional.ofNullable(shard.getTotalCount()).orElse(0);
+        int itemCount = shard.getItemCount();
+        try {
+            while (pageNo <= totalPages) {
+                if (cancelled.get()) {
+                    syncJobMapper.updateCheckpointStatus(job.getId(), shard.getShardKey(), CANCELLED, null);
+                    return;
+                }
+                int page = pageNo;
+                GoodsResponse response = onbidCatalogCrawler.withRetry(page, () ->
+                        onbidApiService.getGoodsListParsed(page, rows, shard.getCtgrHirkId(), shard.getSido()));
+                List<Goods> items = Optional.ofNullable(response.getBody())
+                        .map(GoodsResponse.Body::getItems)
+                        .orElse(List.of());
+                totalCount = Optional.ofNullable(response.getBody())
+                        .map(GoodsResponse.Body::getTotalCount)
+                        .orElse(items.size());
+                totalPages = Math.max(1, (int) Math.ceil((double) totalCount / rows));
+
+                GoodsSyncResult result = goodsService.saveGoodsListToDB(items);
+                if (result.getFailedCount() > 0) {
+                    // 일부 청크가 롤백된 페이지는 체크포인트를 넘기지 않아야 재개 시 다시 저장된다.
+                    throw new BusinessException(ErrorCode.DATABASE_ERROR, page + "페이지 저장 실패: "
+                            + result.getFailures().get(0).getMessage());
+                }
+                syncJobMapper.advanceCheckpoint(job.getId(), shard.getShardKey(), page, totalPages, totalCount, items.size());
+                itemCount += items.size();
+                pageNo++;
+            }
+            // 진행 중 목록이 바뀌어 페이지 경계가 밀리면 일부 물건을 놓칠 수 있으므로 차이를 남긴다.
+            String message = itemCount < totalCount
+                    ? "저장 " + itemCount + "건 < 전체 " + totalCount + "건 (동기화 중 목록 변동)"
+                    : null;
+            syncJobMapper.updateCheckpointStatus(job.getId(), shard.getShardKey(), DONE, message);
+            log.info("[FullSync] 샤드 {} 완료 - {}페이지, {}건", shard.getShardKey(), totalPages, itemCount);
+        } catch (RuntimeException ex) {
+            log.error("[FullSync] 샤드 {} 실패 - {}페이지: {}", shard.getShardKey(), pageNo, ex.getMessage());
+            syncJobMapper.updateCheckpointStatus(job.getId(), shard.getShardKey(), FAILED, truncate(ex.getMessage()));
+            throw ex;
+        }
+    }
+
+    /**
+     * 모든 샤드가 끝났으면 샤드 전체 건수 합계를 필터 없는 전체 건수와 비교해 기록
+     */
+    private void finishCompleted(SyncJobEntity job) {
+        int shardTotal = syncJobMapper.findCheckpoints(job.getId()).stream()
+                .mapToInt(shard -> Optional.ofNullable(shard.getTotalCount()).orElse(0))
+                .sum();
+        Integer expected = null;
+        String message = null;
+        try {
+            GoodsResponse response = onbidCatalogCrawler.withRetry(1, () ->
+                    onbidApiService.getGoodsListParsed(1, 1, null, null));
+            expected = Optional.ofNullable(response.getBody()).map(GoodsResponse.Body::getTotalCount).orElse(null);
+            if (expected != null && expected > shardTotal) {
+                message = "샤드 합계 " + shardTotal + "건이 전체 " + expected
+                        + "건보다 적습니다 (onbid.full-sync.categories/sidos 에 없는 물건)";
+                log.warn("[FullSync] 작업 {} - {}", job.getId(), message);
+            }
+        } catch (BusinessException ex) {
+            message = "전체 건수 확인 실패: " + ex.getMessage();
+        }
+        finish(job, COMPLETED, expected, message);
+    }
+
+    private void finish(SyncJobEntity job, String status, Integer expectedCount, String message) {
+        job.setStatus(status);
+        job.setExpectedCount(expectedCount);
+        job.setMessage(truncate(message));
+        job.setFinishedAt(LocalDateTime.now());
+        syncJobMapper.updateJob(job);
+    }
+
+    /**
+     * 샤드 결과 대기 (샤드 실패는 체크포인트에 이미 기록되어 있으므로 성공 여부만 반환)
+     */
+    private boolean await(Future<?> future) {
+        try {
+            future.get();
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException ex) {
+            return false;
+        }
+    }
+
+    private static List<String> normalize(String[] values) {
+        return Arrays.stream(values == null ? new String[0] : values)
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static String truncate(String message) {
+        return message == null || message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+
+    private record ActiveJob(Long jobId, AtomicBoolean cancelled) {
+    }
+}
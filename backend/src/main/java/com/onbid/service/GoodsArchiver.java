@@ -0,0 +1,128 @@
+package com.onbid.service;
+
+import com.onbid.mapper.GoodsArchiveMapper;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 입찰이 끝난 물건을 서빙 테이블에서 보관 테이블로 옮기는 백그라운드 작업
+ * - 입찰마감일시가 grace-hours 보다 오래된 물건을 batch-size 건씩 (보관 테이블 복사 → 서빙 테이블 삭제) 한 트랜잭션으로 이동
+ * - 서빙 테이블에는 진행 중이거나 막 끝난 물건만 남아 읽기 모델 적재/키셋 페이지 조회가 활성 물건만 읽는다.
+ * - 단건 조회와 구매 이력은 보관 테이블까지 확인하므로 옮겨진 물건도 그대로 조회된다.
+ */
+@Slf4j
+@Service
+public class GoodsArchiver {
+
+    private final GoodsArchiveMapper goodsArchiveMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final GoodsFingerprintCache goodsFingerprintCache;
+    private final GoodsReadModel goodsReadModel;
+    private final GoodsStatsEngine goodsStatsEngine;
+    private final boolean enabled;
+    private final long graceHours;
+    private final int batchSize;
+
+    private final LongAdder archivedTotal = new LongAdder();
+    private final AtomicReference<LocalDateTime> lastRunAt = new AtomicReference<>();
+
+    public GoodsArchiver(
+            GoodsArchiveMapper goodsArchiveMapper,
+            TransactionTemplate transactionTemplate,
+            GoodsFingerprintCache goodsFingerprintCache,
+            GoodsReadModel goodsReadModel,
+            GoodsStatsEngine goodsStatsEngine,
+            @Value("${onbid.archive.enabled:true}") boolean enabled,
+            @Value("${onbid.archive.grace-hours:24}") long graceHours,
+            @Value("${onbid.archive.batch-size:500}") int batchSize) {
+        this.goodsArchiveMapper = goodsArchiveMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.goodsFingerprintCache = goodsFingerprintCache;
+        this.goodsReadModel = goodsReadModel;
+        this.goodsStatsEngine = goodsStatsEngine;
+        this.enabled = enabled;
+        this.graceHours = Math.max(0, graceHours);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(initialDelayString = "${onbid.archive.interval-ms:600000}",
+            fixedDelayString = "${onbid.archive.interval-ms:600000}")
+    public void archiveOnSchedule() {
+        if (enabled) {
+            archiveClosed();
+        }
+    }
+
+    /**
+     * 마감 기준이 지난 물건을 더 옮길 것이 없을 때까지 배치 단위로 이동
+     * 동기화와 같은 행을 동시에 건드리면 배치 트랜잭션이 실패할 수 있어 실패한 배치는 다음 실행에 다시 시도한다.
+     * @return 옮긴 물건 수
+     */
+    public synchronized int archiveClosed() {
+        long start = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusHours(graceHours);
+        int moved = 0;
+        try {
+            while (true) {
+                List<Long> historyNos = goodsArchiveMapper.findClosedHistoryNos(cutoff, batchSize);
+                if (historyNos.isEmpty()) {
+                    break;
+                }
+                transactionTemplate.executeWithoutResult(status -> moveBatch(historyNos, now));
+                // 커밋 뒤에 표시해야 롤백된 배치의 물건이 보관 테이블 쪽으로 쓰이지 않는다.
+                goodsFingerprintCache.markArchived(historyNos);
+                goodsStatsEngine.remove(historyNos);
+                moved += historyNos.size();
+                if (historyNos.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.error("[Archive] 보관 이동 실패 - 이번 실행 {}건 이동 후 중단: {}", moved, ex.getMessage());
+        } finally {
+            lastRunAt.set(now);
+            archivedTotal.add(moved);
+        }
+        if (moved > 0) {
+            goodsReadModel.refresh();
+            log.info("[Archive] 마감 {} 이전 물건 {}건 보관 테이블로 이동 ({}ms)",
+                    cutoff, moved, System.currentTimeMillis() - start);
+        }
+        return moved;
+    }
+
+    /**
+     * 보관 현황
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("graceHours", graceHours);
+        stats.put("archivedCount", goodsArchiveMapper.count());
+        stats.put("archivedSinceStart", archivedTotal.sum());
+        stats.put("lastRunAt", lastRunAt.get());
+        return stats;
+    }
+
+    /**
+     * 한 배치 이동 (goods_price 가 goods_basic 을 참조하므로 가격 → 기본 순서로 삭제)
+     */
+    private void moveBatch(List<Long> historyNos, LocalDateTime archivedAt) {
+        goodsArchiveMapper.deleteArchivedPrices(historyNos);
+        goodsArchiveMapper.deleteArchivedBasics(historyNos);
+        goodsArchiveMapper.copyBasicsToArchive(historyNos, archivedAt);
+        goodsArchiveMapper.copyPricesToArchive(historyNos);
+        goodsArchiveMapper.deleteServingPrices(historyNos);
+        goodsArchiveMapper.deleteServingBasics(historyNos);
+    }
+}
@@ -0,0 +1,318 @@
+package com.onbid.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onbid.domain.dto.Response.GoodsDelta;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 읽기 모델 변경분 SSE 스트림
+ * - 변경분은 발행 시 한 번만 JSON 으로 만들고 모든 구독자가 같은 문자열을 보낸다.
+ * - 대기 중인 구독자는 비동기 요청만 남아 있어 서블릿 스레드를 잡지 않고, 보낼 것이 생겼을 때만 가상 스레드에서 전송한다.
+ * - 구독자마다 queue-capacity 크기의 전송 대기열을 두고, 넘치면 대기열을 비운 뒤 resync 이벤트 하나로 대신한다.
+ *   느린 클라이언트가 메모리를 쌓거나 다른 구독자의 전송을 늦추지 않게 하기 위함이다.
+ * - 최근 replay-size 개 변경분을 보관해 재연결(Last-Event-ID) 시 놓친 변경분만 다시 보낸다.
+ *
+ * 이벤트 종류
+ * - hello: 연결 직후 현재 데이터 버전 ({"version": n})
+ * - delta: {@link GoodsDelta} (이벤트 id = 변경 후 버전)
+ * - resync: 이어서 적용할 변경분이 없으므로 /api/goods/db 를 다시 받아야 함
+ */
+@Slf4j
+@Component
+public class GoodsChangeStream {
+
+    private static final String EVENT_HELLO = "hello";
+    private static final String EVENT_DELTA = "delta";
+    private static final String EVENT_RESYNC = "resync";
+
+    private final ObjectMapper objectMapper;
+    private final GoodsReadModel goodsReadModel;
+    private final long timeoutMs;
+    private final int maxSubscribers;
+    private final int queueCapacity;
+    private final int replaySize;
+    private final int maxDeltaItems;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // 최근 변경분 (오래된 것부터, replay 로 보호)
+    private final Deque<Encoded> replay = new ArrayDeque<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder disconnects = new LongAdder();
+
+    public GoodsChangeStream(
+            ObjectMapper objectMapper,
+            GoodsReadModel goodsReadModel,
+            @Value("${onbid.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${onbid.stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${onbid.stream.queue-capacity:16}") int queueCapacity,
+            @Value("${onbid.stream.replay-size:32}") int replaySize,
+            @Value("${onbid.stream.max-delta-items:5000}") int maxDeltaItems) {
+        this.objectMapper = objectMapper;
+        this.goodsReadModel = goodsReadModel;
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = Math.max(1, maxSubscribers);
+        this.queueCapacity = Math.max(2, queueCapacity);
+        this.replaySize = Math.max(0, replaySize);
+        this.maxDeltaItems = Math.max(1, maxDeltaItems);
+    }
+
+    /**
+     * 구독 시작
+     * @param since 클라이언트가 가진 데이터 버전 (Last-Event-ID 또는 since 파라미터, 없으면 null)
+     *              보관 중인 변경분으로 이어갈 수 있으면 놓친 변경분을, 아니면 resync 를 먼저 보낸다.
+     */
+    public SseEmitter subscribe(Long since) {
+        if (subscribers.size() >= maxSubscribers) {
+            rejected.increment();
+            throw new BusinessException(ErrorCode.STREAM_SUBSCRIBERS_EXCEEDED,
+                    "변경 스트림 구독자 수가 한도(" + maxSubscribers + ")에 도달했습니다.");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, queueCapacity);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        synchronized (replay) {
+            // 버전 확인, hello, 구독자 등록, 보관분 조회를 모두 같은 잠금 안에서 해야 그 사이 발행된 변경분을 놓치지 않는다.
+            // 읽기 모델은 스냅샷을 바꾼 뒤에 변경분을 발행하므로, 발행된 마지막 버전을 기준으로 삼아
+            // 아직 발행 전인 변경분은 등록 뒤 대기열로 받게 한다.
+            long version = replay.isEmpty() ? goodsReadModel.current().version() : replay.peekLast().version();
+            subscriber.offer(Encoded.hello(version, "{\"version\":" + version + "}"));
+            subscribers.add(subscriber);
+            if (since != null && since != version) {
+                List<Encoded> missed = missedSince(since);
+                if (missed == null) {
+                    subscriber.offer(Encoded.resync(version));
+                } else {
+                    missed.forEach(subscriber::offer);
+                }
+            }
+        }
+        drain(subscriber);
+        return emitter;
+    }
+
+    /**
+     * 읽기 모델 변경분을 한 번 인코딩해 모든 구독자 대기열에 넣는다.
+     */
+    @EventListener
+    public void onDelta(GoodsDelta delta) {
+        Encoded event;
+        if (delta.size() > maxDeltaItems) {
+            // 전체 재적재 수준의 변경은 목록을 다시 받는 편이 싸다.
+            event = Encoded.resync(delta.getVersion());
+        } else {
+            try {
+                event = new Encoded(delta.getVersion(), delta.getPreviousVersion(), EVENT_DELTA,
+                        objectMapper.writeValueAsString(delta));
+            } catch (JsonProcessingException ex) {
+                log.error("변경분 인코딩 실패 - v{}", delta.getVersion(), ex);
+                event = Encoded.resync(delta.getVersion());
+            }
+        }
+        synchronized (replay) {
+            replay.addLast(event);
+            while (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            published.increment();
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(event);
+            }
+        }
+        for (Subscriber subscriber : subscribers) {
+            drain(subscriber);
+        }
+        log.info("변경분 발행 - v{} (추가 {}, 변경 {}, 삭제 {}), 구독자 {}명", delta.getVersion(),
+                delta.getInserted().size(), delta.getChanged().size(), delta.getRemoved().size(), subscribers.size());
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 대기열이 빈 구독자에게만 주석 한 줄을 보낸다.
+     */
+    @Scheduled(initialDelayString = "${onbid.stream.heartbeat-ms:25000}",
+            fixedDelayString = "${onbid.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.isEmpty()) {
+                subscriber.offer(Encoded.HEARTBEAT);
+                drain(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 스트림 통계
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("subscribers", subscribers.size());
+        stats.put("maxSubscribers", maxSubscribers);
+        stats.put("published", published.sum());
+        stats.put("delivered", delivered.sum());
+        stats.put("overflows", overflows.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("disconnects", disconnects.sum());
+        synchronized (replay) {
+            stats.put("replayFrom", replay.isEmpty() ? null : replay.peekFirst().previousVersion());
+            stats.put("replayTo", replay.isEmpty() ? null : replay.peekLast().version());
+        }
+        return stats;
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        sender.shutdownNow();
+    }
+
+    /**
+     * since 버전 다음부터 이어지는 보관 변경분 (이어갈 수 없으면 null, replay 잠금 보유 상태에서 호출)
+     * 읽기 모델은 내용이 바뀔 때만 버전을 올리므로 보관분은 previousVersion -> version 으로 빈틈 없이 이어진다.
+     */
+    private List<Encoded> missedSince(long since) {
+        List<Encoded> missed = new ArrayList<>();
+        boolean found = false;
+        for (Encoded event : replay) {
+            if (!found && event.previousVersion() == since) {
+                found = true;
+            }
+            if (found) {
+                missed.add(event);
+            }
+        }
+        return found ? missed : null;
+    }
+
+    /**
+     * 구독자 대기열을 비우는 전송 작업을 예약 (구독자당 동시에 하나만 실행)
+     */
+    private void drain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> send(subscriber));
+        } catch (RuntimeException ex) {
+            // 종료 중이라 실행기가 작업을 받지 않음
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        while (true) {
+            try {
+                Encoded event;
+                while ((event = subscriber.poll()) != null) {
+                    subscriber.emitter.send(event.toSse());
+                    delivered.increment();
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // 클라이언트가 연결을 끊었거나 이미 완료된 emitter
+                disconnects.increment();
+                subscribers.remove(subscriber);
+                subscriber.emitter.completeWithError(ex);
+                return;
+            } finally {
+                subscriber.draining.set(false);
+            }
+            // 전송을 마친 직후 들어온 이벤트는 다른 스레드가 drain 을 양보했을 수 있으므로 다시 확인한다.
+            if (subscriber.queue.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 구독자 하나의 emitter 와 전송 대기열
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<Encoded> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        /**
+         * 대기열이 넘치면 쌓인 변경분을 버리고 resync 하나만 남긴다.
+         */
+        private synchronized void offer(Encoded event) {
+            if (queue.offer(event)) {
+                return;
+            }
+            overflows.increment();
+            queue.clear();
+            queue.offer(Encoded.resync(event.version()));
+        }
+
+        private synchronized Encoded poll() {
+            return queue.poll();
+        }
+    }
+
+    /**
+     * 미리 인코딩한 이벤트
+     * @param version 이벤트 id 로 쓰는 데이터 버전 (재연결 시 Last-Event-ID 로 돌아옴)
+     * @param previousVersion 변경 전 버전 (delta 에서만 의미 있음)
+     * @param name 이벤트 이름 (null 이면 하트비트 주석)
+     * @param data JSON 본문
+     */
+    private record Encoded(long version, long previousVersion, String name, String data) {
+
+        static final Encoded HEARTBEAT = new Encoded(0, 0, null, null);
+
+        static Encoded hello(long version, String data) {
+            return new Encoded(version, version, EVENT_HELLO, data);
+        }
+
+        static Encoded resync(long version) {
+            return new Encoded(version, version, EVENT_RESYNC, "{\"version\":" + version + "}");
+        }
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (name == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().name(name).data(data);
+            // 버전을 모르는 resync(하트비트 자리에서 넘친 경우)는 id 를 비워 클라이언트의 마지막 id 를 유지한다.
+            return version > 0 ? builder.id(String.valueOf(version)) : builder;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.onbid.service;
+
+import com.onbid.domain.dto.Response.ExportJob;
+import com.onbid.domain.entity.GoodsEntity;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import com.onbid.export.GoodsColumnarWriter;
+import com.onbid.export.GoodsCsvWriter;
+import com.onbid.export.GoodsExportWriter;
+import com.onbid.mapper.GoodsMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 물건 카탈로그 내보내기 서비스 (분석용 파일)
+ * goods_basic + goods_price (요청 시 보관 테이블 포함)를 history_no 순서로 MyBatis 커서로 한 행씩 읽어
+ * 열 단위 바이너리(.onbc) 또는 CSV 파일로 쓴다.
+ * JSON 직렬화를 거치지 않고 메모리에는 행 그룹 하나만 남으므로 /api/goods/db 보다 작고 빠르게 만들어진다.
+ *
+ * - 작업은 백그라운드 스레드(concurrency 개)에서 실행되고, 완료된 파일은 dir 아래에 남아 내려받을 수 있다.
+ * - 쓰는 중에는 .part 파일에 쓰고 끝난 뒤 이름을 바꾸므로 완료 전 파일이 내려가지 않는다.
+ * - 작업 상태는 메모리에만 두며, retention-hours 가 지난 작업과 파일은 주기적으로 지운다.
+ */
+@Slf4j
+@Service
+public class GoodsExportService {
+
+    public static final String QUEUED = "QUEUED";
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private static final DateTimeFormatter ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final GoodsMapper goodsMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path directory;
+    private final int rowGroupSize;
+    private final long retentionHours;
+    private final ExecutorService executor;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public GoodsExportService(
+            GoodsMapper goodsMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${onbid.export.dir:${java.io.tmpdir}/onbid-exports}") String directory,
+            @Value("${onbid.export.concurrency:1}") int concurrency,
+            @Value("${onbid.export.row-group-size:4096}") int rowGroupSize,
+            @Value("${onbid.export.retention-hours:24}") long retentionHours) {
+        this.goodsMapper = goodsMapper;
+        // 커서는 SqlSession 이 열려 있는 동안만 읽을 수 있어 읽기 전용 트랜잭션으로 묶는다.
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.directory = Path.of(directory);
+        this.rowGroupSize = rowGroupSize;
+        this.retentionHours = retentionHours;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "goods-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 내보내기 작업 등록
+     * @param format columnar(기본) 또는 csv
+     * @param includeArchived true 면 입찰이 끝나 보관 테이블로 옮겨진 물건도 포함
+     */
+    public ExportJob start(String format, boolean includeArchived) {
+        Format exportFormat = Format.from(format);
+        LocalDateTime now = LocalDateTime.now();
+        String id = now.format(ID_FORMAT) + "-" + Integer.toHexString(ThreadLocalRandom.current().nextInt(0x1000, 0x10000));
+        ExportJob job = ExportJob.builder()
+                .id(id)
+                .format(exportFormat.name().toLowerCase())
+                .includeArchived(includeArchived)
+                .status(QUEUED)
+                .fileName("goods-" + id + exportFormat.extension)
+                .requestedAt(now)
+                .build();
+        jobs.put(id, job);
+        executor.execute(() -> run(id, exportFormat, includeArchived));
+        log.info("[Export] 작업 등록 - {} ({}, 보관 포함 {})", id, job.getFormat(), includeArchived);
+        return job;
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public ExportJob get(String id) {
+        ExportJob job = jobs.get(id);
+        if (job == null) {
+            throw new BusinessException(ErrorCode.EXPORT_NOT_FOUND, "내보내기 작업이 없습니다: " + id);
+        }
+        return job;
+    }
+
+    /**
+     * 전체 작업 목록 (최근 요청 순)
+     */
+    public List<ExportJob> list() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(ExportJob::getRequestedAt).reversed())
+                .toList();
+    }
+
+    /**
+     * 완료된 작업의 파일
+     */
+    public ExportJob getCompleted(String id) {
+        ExportJob job = get(id);
+        if (!COMPLETED.equals(job.getStatus()) || job.getPath() == null || !Files.exists(job.getPath())) {
+            throw new BusinessException(ErrorCode.EXPORT_NOT_READY,
+                    "내보내기 작업 " + id + " 상태: " + job.getStatus());
+        }
+        return job;
+    }
+
+    /**
+     * 작업과 파일 삭제 (실행 중인 작업은 끝난 뒤 지워짐)
+     */
+    public void delete(String id) {
+        ExportJob job = get(id);
+        jobs.remove(id);
+        deleteFile(job.getPath());
+        log.info("[Export] 작업 삭제 - {}", id);
+    }
+
+    /**
+     * 보관 기간이 지난 작업과 파일 정리
+     */
+    @Scheduled(initialDelayString = "${onbid.export.cleanup-interval-ms:3600000}",
+            fixedDelayString = "${onbid.export.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        jobs.values().stream()
+                .filter(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff))
+                .toList()
+                .forEach(job -> {
+                    jobs.remove(job.getId());
+                    deleteFile(job.getPath());
+                    log.info("[Export] 보관 기간이 지난 작업 정리 - {}", job.getId());
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(String id, Format format, boolean includeArchived) {
+        ExportJob queued = jobs.get(id);
+        if (queued == null) {
+            // 실행 전에 삭제됨
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Path target = directory.resolve(queued.getFileName());
+        Path part = directory.resolve(queued.getFileName() + ".part");
+        update(id, job -> job.toBuilder().status(RUNNING).startedAt(LocalDateTime.now()).build());
+        try {
+            Files.createDirectories(directory);
+            long rows;
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part), 256 * 1024)) {
+                rows = readOnlyTransaction.execute(status -> export(out, format, includeArchived));
+            }
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            long size = Files.size(target);
+            long elapsed = System.currentTimeMillis() - start;
+            ExportJob done = update(id, job -> job.toBuilder()
+                    .status(COMPLETED)
+                    .rowCount(rows)
+                    .sizeBytes(size)
+                    .path(target)
+                    .finishedAt(LocalDateTime.now())
+                    .elapsedMs(elapsed)
+                    .build());
+            if (done == null) {
+                // 실행 중에 삭제 요청이 들어온 작업
+                deleteFile(target);
+            }
+            log.info("[Export] 작업 완료 - {}: {}건, {}byte, {}ms", id, rows, size, elapsed);
+        } catch (IOException | RuntimeException ex) {
+            deleteFile(part);
+            Throwable cause = ex instanceof UncheckedIOException unchecked ? unchecked.getCause() : ex;
+            update(id, job -> job.toBuilder()
+                    .status(FAILED)
+                    .message(cause.getMessage())
+                    .finishedAt(LocalDateTime.now())
+                    .elapsedMs(System.currentTimeMillis() - start)
+                    .build());
+            log.error("[Export] 작업 실패 - {}", id, cause);
+        }
+    }
+
+    private long export(OutputStream out, Format format, boolean includeArchived) {
+        try (Cursor<GoodsEntity> cursor = goodsMapper.streamForExport(includeArchived)) {
+            GoodsExportWriter writer = format == Format.CSV
+                    ? new GoodsCsvWriter(out)
+                    : new GoodsColumnarWriter(out, rowGroupSize);
+            for (GoodsEntity goods : cursor) {
+                writer.write(goods);
+            }
+            return writer.finish();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * 작업 상태 교체 (삭제된 작업이면 null)
+     */
+    private ExportJob update(String id, UnaryOperator<ExportJob> change) {
+        return jobs.computeIfPresent(id, (key, job) -> change.apply(job));
+    }
+
+    private void deleteFile(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("[Export] 파일 삭제 실패 - {}: {}", path, ex.getMessage());
+        }
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    private enum Format {
+        COLUMNAR(".onbc"),
+        CSV(".csv");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        static Format from(String format) {
+            if (format == null || format.isBlank() || "columnar".equalsIgnoreCase(format)) {
+                return COLUMNAR;
+            }
+            if ("csv".equalsIgnoreCase(format)) {
+                return CSV;
+            }
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "지원하지 않는 내보내기 형식입니다: " + format);
+        }
+    }
+}
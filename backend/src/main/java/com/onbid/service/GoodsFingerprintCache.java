@@ -0,0 +1,163 @@
+package com.onbid.service;
+
+import com.onbid.domain.dto.Goods;
+import com.onbid.domain.entity.GoodsFingerprintEntity;
+import com.onbid.mapper.GoodsArchiveMapper;
+import com.onbid.mapper.GoodsMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 물건이력번호별 기본정보/가격정보 지문(64bit 해시) 캐시
+ * DB의 content_hash 컬럼과 같은 값을 메모리에 들고 있어 바뀌지 않은 행은 쓰기를 건너뛸 수 있게 한다.
+ * 보관 테이블로 옮겨진 물건의 지문도 함께 들고 있어, 목록에 계속 나오는 마감 물건이 서빙 테이블로 되돌아오지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoodsFingerprintCache {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final GoodsMapper goodsMapper;
+    private final GoodsArchiveMapper goodsArchiveMapper;
+
+    private final Map<Long, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * 저장된 지문 조회 (처음 호출 시 DB에서 한 번 적재)
+     * @return 지문, 없으면 null
+     */
+    public Fingerprint get(Long historyNo) {
+        ensureLoaded();
+        return fingerprints.get(historyNo);
+    }
+
+    /**
+     * 커밋이 끝난 행의 지문을 갱신
+     */
+    public void put(Long historyNo, long basicHash, long priceHash) {
+        put(historyNo, basicHash, priceHash, false);
+    }
+
+    /**
+     * 커밋이 끝난 행의 지문을 갱신
+     * @param archived 보관 테이블에 있는 행이면 true
+     */
+    public void put(Long historyNo, long basicHash, long priceHash, boolean archived) {
+        fingerprints.put(historyNo, new Fingerprint(basicHash, priceHash, archived));
+    }
+
+    /**
+     * 보관 테이블로 옮긴 물건 표시 (이후 변경은 보관 테이블에 반영)
+     */
+    public void markArchived(Collection<Long> historyNos) {
+        for (Long historyNo : historyNos) {
+            fingerprints.computeIfPresent(historyNo,
+                    (key, stored) -> new Fingerprint(stored.basicHash(), stored.priceHash(), true));
+        }
+    }
+
+    /**
+     * 지정한 물건들의 지문 제거 (DB에서 빠진 행이 다시 들어오면 새로 쓰도록)
+     */
+    public void evict(Collection<Long> historyNos) {
+        historyNos.forEach(fingerprints::remove);
+    }
+
+    /**
+     * 전체 삭제 후 호출 (빈 상태를 적재 완료로 간주)
+     */
+    public void clear() {
+        fingerprints.clear();
+        loaded = true;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            List<GoodsFingerprintEntity> rows = goodsMapper.findFingerprints();
+            rows.forEach(row -> putLoaded(row, false));
+            // 서빙 테이블과 보관 테이블에 같은 물건이 있으면 서빙 테이블 쪽을 기준으로 한다.
+            List<GoodsFingerprintEntity> archived = goodsArchiveMapper.findFingerprints();
+            archived.forEach(row -> putLoaded(row, true));
+            loaded = true;
+            log.info("물건 지문 {}건 적재 완료 (보관 {}건)", rows.size() + archived.size(), archived.size());
+        }
+    }
+
+    private void putLoaded(GoodsFingerprintEntity row, boolean archived) {
+        // 지문 컬럼이 비어 있는 예전 행은 0 으로 두어 다음 동기화 때 한 번 다시 쓰게 한다.
+        fingerprints.putIfAbsent(row.getHistoryNo(), new Fingerprint(
+                row.getBasicHash() != null ? row.getBasicHash() : 0L,
+                row.getPriceHash() != null ? row.getPriceHash() : 0L,
+                archived));
+    }
+
+    /**
+     * goods_basic 에 저장되는 필드의 지문
+     */
+    public static long basicHash(Goods goods) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, goods.getGoodsName());
+        hash = mix(hash, goods.getStatusName());
+        hash = mix(hash, goods.getSaleTypeName());
+        hash = mix(hash, goods.getCategoryName());
+        hash = mix(hash, goods.getBidStartDate());
+        hash = mix(hash, goods.getBidCloseDate());
+        hash = mix(hash, goods.getAddress());
+        return nonZero(hash);
+    }
+
+    /**
+     * goods_price 에 저장되는 필드의 지문
+     */
+    public static long priceHash(Goods goods) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, goods.getMinBidPrice());
+        hash = mix(hash, goods.getAppraisalPrice());
+        hash = mix(hash, goods.getFeeRate());
+        hash = mix(hash, goods.getInquiryCount());
+        hash = mix(hash, goods.getFavoriteCount());
+        return nonZero(hash);
+    }
+
+    /**
+     * FNV-1a 로 값을 섞음 (null 과 빈 문자열을 구분하고 필드 경계를 구분자로 표시)
+     */
+    private static long mix(long hash, Object value) {
+        if (value == null) {
+            return (hash ^ 0xFF) * FNV_PRIME;
+        }
+        for (byte b : String.valueOf(value).getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+        }
+        return (hash ^ 0x1F) * FNV_PRIME;
+    }
+
+    /**
+     * 0 은 "지문 없음" 표시로 쓰므로 실제 해시가 0 이 되지 않게 보정
+     */
+    private static long nonZero(long hash) {
+        return hash == 0L ? 1L : hash;
+    }
+
+    /**
+     * 기본정보/가격정보 지문 쌍 (0 은 저장된 지문이 없다는 뜻, archived 는 보관 테이블에 있는 행)
+     */
+    public record Fingerprint(long basicHash, long priceHash, boolean archived) {
+    }
+}
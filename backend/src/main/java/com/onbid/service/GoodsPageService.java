@@ -0,0 +1,144 @@
+package com.onbid.service;
+
+import com.onbid.domain.dto.Request.GoodsFilterRequest;
+import com.onbid.domain.dto.Response.GoodsPage;
+import com.onbid.domain.entity.GoodsEntity;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import com.onbid.mapper.GoodsMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * DB 키셋(커서) 페이지 조회 서비스
+ * OFFSET 없이 마지막 행의 (정렬값, id) 이후만 읽으므로 조회 비용이 테이블 크기가 아니라 페이지 크기에 비례한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class GoodsPageService {
+
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 200;
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final GoodsMapper goodsMapper;
+
+    /**
+     * 필터 조건과 커서로 한 페이지 조회
+     * @param filter 필터/정렬 조건 (정렬은 createdAt, bidCloseDate, minBidPrice 만, 방향은 asc/desc 만 지원)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1~200)
+     */
+    public GoodsPage getPage(GoodsFilterRequest filter, String cursor, Integer size) {
+        int limit = size == null ? DEFAULT_SIZE : Math.min(MAX_SIZE, Math.max(1, size));
+        SortKey sortKey = SortKey.from(filter.getSort());
+        boolean descending = isDescending(filter.getDirection());
+        Cursor decoded = decodeCursor(cursor, sortKey);
+
+        // 한 건 더 읽어 다음 페이지 존재 여부를 판단
+        List<GoodsEntity> rows = goodsMapper.findPage(
+                filter,
+                toLikePrefix(filter.getAddressPrefix()),
+                sortKey.column,
+                descending ? "DESC" : "ASC",
+                descending ? "<" : ">",
+                decoded != null ? decoded.value() : null,
+                decoded != null ? decoded.id() : null,
+                limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<GoodsEntity> items = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? encodeCursor(items.get(items.size() - 1), sortKey) : null;
+        return GoodsPage.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private static boolean isDescending(String direction) {
+        if (direction == null || "desc".equalsIgnoreCase(direction)) {
+            return true;
+        }
+        if ("asc".equalsIgnoreCase(direction)) {
+            return false;
+        }
+        throw new BusinessException(ErrorCode.INVALID_REQUEST, "지원하지 않는 정렬 방향입니다: " + direction);
+    }
+
+    private String encodeCursor(GoodsEntity last, SortKey sortKey) {
+        String value = switch (sortKey) {
+            case CREATED_AT -> "";
+            case BID_CLOSE_DATE -> last.getBidCloseDate();
+            case MIN_BID_PRICE -> String.valueOf(last.getMinBidPrice());
+        };
+        String raw = sortKey.name() + CURSOR_SEPARATOR + value + CURSOR_SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Cursor decodeCursor(String cursor, SortKey sortKey) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !sortKey.name().equals(parts[0])) {
+                throw new IllegalArgumentException("정렬 기준과 커서가 맞지 않음");
+            }
+            Object value = switch (sortKey) {
+                case CREATED_AT -> null;
+                case BID_CLOSE_DATE -> parts[1];
+                case MIN_BID_PRICE -> Long.valueOf(parts[1]);
+            };
+            return new Cursor(value, Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "잘못된 커서입니다: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * 주소 접두어를 LIKE 패턴으로 변환 (와일드카드 문자는 이스케이프)
+     */
+    private String toLikePrefix(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return null;
+        }
+        String escaped = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return escaped + "%";
+    }
+
+    /**
+     * 키셋 페이지에서 허용하는 정렬 기준 (NULL 이 없는 컬럼만 허용해야 커서 비교가 성립)
+     */
+    private enum SortKey {
+        CREATED_AT("gb.id"),
+        BID_CLOSE_DATE("gb.bid_close_date"),
+        MIN_BID_PRICE("gp.min_bid_price");
+
+        private final String column;
+
+        SortKey(String column) {
+            this.column = column;
+        }
+
+        static SortKey from(String sort) {
+            if (sort == null || "createdAt".equals(sort)) {
+                // id 는 등록 순서대로 증가하므로 created_at 정렬과 같은 순서를 준다.
+                return CREATED_AT;
+            }
+            return switch (sort) {
+                case "bidCloseDate" -> BID_CLOSE_DATE;
+                case "minBidPrice" -> MIN_BID_PRICE;
+                default -> throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                        "페이지 조회에서 지원하지 않는 정렬 기준입니다: " + sort);
+            };
+        }
+    }
+
+    private record Cursor(Object value, Long id) {
+    }
+}
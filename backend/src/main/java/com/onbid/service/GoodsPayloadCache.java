@@ -0,0 +1,242 @@
+package com.onbid.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onbid.domain.dto.Request.GoodsFilterRequest;
+import com.onbid.domain.dto.Response.GoodsDelta;
+import com.onbid.domain.entity.GoodsEntity;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 물건 목록/단건 응답의 미리 인코딩한 JSON(+gzip) 캐시
+ * - 응답 본문은 읽기 모델 버전마다 한 번만 직렬화/압축하고, 같은 버전 동안은 바이트 배열을 그대로 내려준다.
+ * - ETag 는 (기동 구분값, 데이터 버전, 요청 키, 실제 압축 여부) 로 정해진다. 데이터 버전은 기동할 때마다 1부터 다시 세므로
+ *   기동 구분값을 함께 넣어, 재기동 전에 받은 ETag 가 다른 내용에 304 로 맞지 않게 한다.
+ * - 버전이 바뀌면 이전 버전 본문은 통째로 버리고, 필터 없는 전체 목록은 변경분 이벤트를 받는 즉시 다시 만든다.
+ */
+@Slf4j
+@Component
+public class GoodsPayloadCache {
+
+    private static final String LIST_KEY = "list";
+
+    private final ObjectMapper objectMapper;
+    private final GoodsReadModel goodsReadModel;
+    private final GoodsService goodsService;
+    private final int maxEntries;
+    private final int gzipMinBytes;
+
+    // 기동마다 달라지는 ETag 구분값 (데이터 버전은 프로세스 안에서만 유일함)
+    private final String bootEpoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicReference<Generation> generationRef = new AtomicReference<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder uncached = new LongAdder();
+
+    public GoodsPayloadCache(
+            ObjectMapper objectMapper,
+            GoodsReadModel goodsReadModel,
+            GoodsService goodsService,
+            @Value("${onbid.payload.max-entries:2000}") int maxEntries,
+            @Value("${onbid.payload.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.goodsReadModel = goodsReadModel;
+        this.goodsService = goodsService;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.gzipMinBytes = Math.max(0, gzipMinBytes);
+    }
+
+    /**
+     * 목록 요청 키 (필터가 없으면 공용 전체 목록 키)
+     */
+    public static String listKey(GoodsFilterRequest filter) {
+        if (filter == null || (!filter.hasFilter() && !filter.hasCustomSort())) {
+            return LIST_KEY;
+        }
+        return LIST_KEY + "?" + filter;
+    }
+
+    /**
+     * 단건 요청 키
+     */
+    public static String detailKey(Long historyNo) {
+        return "detail/" + historyNo;
+    }
+
+    /**
+     * 목록 응답 본문 ({"success", "items", "count", "version"})
+     */
+    public Payload list(GoodsFilterRequest filter) {
+        GoodsReadModel.Snapshot snapshot = goodsReadModel.current();
+        return cached(snapshot, listKey(filter), () -> {
+            List<GoodsEntity> items = goodsReadModel.query(snapshot, filter);
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("success", true);
+            body.put("items", items);
+            body.put("count", items.size());
+            body.put("version", snapshot.version());
+            return body;
+        });
+    }
+
+    /**
+     * 단건 응답 본문 ({"success", "data"})
+     * 읽기 모델에 없는 물건(반영 전 또는 보관됨)은 DB 에서 찾아 캐시 없이(ETag 없이) 인코딩한다.
+     * 같은 버전의 본문이 이미 있으면 만들어 둔 것을 돌려주므로 If-None-Match 확인도 바이트 배열 조회로 끝난다.
+     */
+    public Payload detail(Long historyNo) {
+        GoodsReadModel.Snapshot snapshot = goodsReadModel.current();
+        GoodsEntity goods = snapshot.byHistoryNo().get(historyNo);
+        if (goods == null) {
+            uncached.increment();
+            return encode(null, detailBody(goodsService.getGoodsByHistoryNo(historyNo)));
+        }
+        return cached(snapshot, detailKey(historyNo), () -> detailBody(goods));
+    }
+
+    /**
+     * 데이터가 바뀌면 이전 버전 본문을 버리고 가장 많이 읽히는 전체 목록을 미리 만든다.
+     */
+    @EventListener
+    public void onDelta(GoodsDelta delta) {
+        try {
+            list(null);
+        } catch (RuntimeException ex) {
+            // 다음 요청 때 다시 만든다.
+            log.warn("전체 목록 응답 미리 인코딩 실패 - v{}: {}", delta.getVersion(), ex.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public Map<String, Object> stats() {
+        Generation generation = generationRef.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("version", generation != null ? generation.version() : null);
+        stats.put("entries", generation != null ? generation.payloads().size() : 0);
+        stats.put("bytes", generation != null ? generation.payloads().values().stream()
+                .mapToLong(payload -> payload.json().length + (payload.gzip() != null ? payload.gzip().length : 0))
+                .sum() : 0);
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("uncached", uncached.sum());
+        return stats;
+    }
+
+    private Payload cached(GoodsReadModel.Snapshot snapshot, String key, Supplier<Object> body) {
+        Generation generation = generationOf(snapshot.version());
+        if (generation == null) {
+            // 더 새로운 버전이 이미 캐시를 차지했으면 이 요청만 따로 인코딩한다.
+            uncached.increment();
+            return encode(etagBase(snapshot.version(), key), body.get());
+        }
+        Payload payload = generation.payloads().get(key);
+        if (payload != null) {
+            hits.increment();
+            return payload;
+        }
+        misses.increment();
+        payload = encode(etagBase(snapshot.version(), key), body.get());
+        if (generation.payloads().size() < maxEntries) {
+            Payload raced = generation.payloads().putIfAbsent(key, payload);
+            return raced != null ? raced : payload;
+        }
+        return payload;
+    }
+
+    /**
+     * 해당 버전의 본문 보관소 (현재 보관소보다 오래된 버전이면 null)
+     */
+    private Generation generationOf(long version) {
+        while (true) {
+            Generation current = generationRef.get();
+            if (current != null && current.version() == version) {
+                return current;
+            }
+            if (current != null && current.version() > version) {
+                return null;
+            }
+            Generation next = new Generation(version, new ConcurrentHashMap<>());
+            if (generationRef.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private Payload encode(String etagBase, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = json.length >= gzipMinBytes ? gzip(json) : null;
+            return new Payload(etagBase, json, gzip);
+        } catch (JsonProcessingException ex) {
+            throw new BusinessException(ErrorCode.UNKNOWN_ERROR, "응답 직렬화 실패: " + ex.getMessage());
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            // 메모리 스트림이라 실제로는 발생하지 않음
+            throw new IllegalStateException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    private static Map<String, Object> detailBody(GoodsEntity goods) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", true);
+        body.put("data", goods);
+        return body;
+    }
+
+    private String etagBase(long version, String key) {
+        return bootEpoch + "-v" + version + "-" + Integer.toHexString(key.hashCode());
+    }
+
+    /**
+     * 미리 인코딩한 응답 본문
+     * @param etagBase 인코딩 구분 전 ETag 값 (캐시하지 않는 본문이면 null)
+     * @param json JSON 바이트
+     * @param gzip gzip 압축 바이트 (gzip-min-bytes 보다 작으면 null)
+     */
+    public record Payload(String etagBase, byte[] json, byte[] gzip) {
+
+        /**
+         * 실제로 보낼 본문 기준 강한 ETag (gzip 본문은 바이트가 다르므로 다른 값을 쓰고,
+         * 작아서 압축하지 않은 본문은 클라이언트가 gzip 을 받더라도 원본 ETag 를 쓴다)
+         * @param acceptsGzip 클라이언트가 gzip 을 받는지
+         */
+        public String etag(boolean acceptsGzip) {
+            if (etagBase == null) {
+                return null;
+            }
+            return "\"" + etagBase + (acceptsGzip && gzip != null ? "-gz" : "") + "\"";
+        }
+    }
+
+    /**
+     * 한 데이터 버전의 본문 보관소
+     */
+    private record Generation(long version, Map<String, Payload> payloads) {
+    }
+}
@@ -0,0 +1,185 @@
+package com.onbid.service;
+
+import com.onbid.domain.dto.Goods;
+import com.onbid.domain.dto.Response.PriceSeries;
+import com.onbid.domain.entity.GoodsPriceHistoryEntity;
+import com.onbid.mapper.GoodsPriceHistoryMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 가격/인기도 이력 서비스
+ * goods_price 는 최신 값으로 덮어쓰이므로, 최저입찰가/조회수/관심수 중 하나라도 바뀐 경우에만
+ * goods_price_history 에 한 점을 추가해 과거 값을 남긴다.
+ * 변경 여부는 물건별 마지막 기록 값을 메모리에 두고 비교해 DB 조회 없이 판단한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GoodsPriceHistoryService {
+
+    // IN 목록이 너무 길어지지 않도록 나눠서 조회
+    private static final int QUERY_CHUNK_SIZE = 500;
+
+    private final GoodsPriceHistoryMapper goodsPriceHistoryMapper;
+
+    private final Map<Long, LastValues> lastValues = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * 마지막 기록 값과 달라진 물건만 이력 점으로 변환
+     * @param goods 가격정보를 다시 쓰는 물건 목록
+     * @param recordedAt 기록일시 (동기화 시각)
+     */
+    public List<GoodsPriceHistoryEntity> changedPoints(List<Goods> goods, LocalDateTime recordedAt) {
+        ensureLoaded();
+        List<GoodsPriceHistoryEntity> points = new ArrayList<>();
+        for (Goods item : goods) {
+            if (item.getMinBidPrice() == null) {
+                continue;
+            }
+            LastValues current = LastValues.of(item.getMinBidPrice(), item.getInquiryCount(), item.getFavoriteCount());
+            if (current.equals(lastValues.get(item.getHistoryNo()))) {
+                continue;
+            }
+            points.add(GoodsPriceHistoryEntity.builder()
+                    .historyNo(item.getHistoryNo())
+                    .recordedAt(recordedAt)
+                    .minBidPrice(current.minBidPrice())
+                    .inquiryCount(current.inquiryCount())
+                    .favoriteCount(current.favoriteCount())
+                    .build());
+        }
+        return points;
+    }
+
+    /**
+     * 이력 점 추가 (goods_price 를 쓰는 청크 트랜잭션 안에서 호출)
+     */
+    public void append(List<GoodsPriceHistoryEntity> points) {
+        if (!points.isEmpty()) {
+            goodsPriceHistoryMapper.insertBatch(points);
+        }
+    }
+
+    /**
+     * 커밋이 끝난 점을 마지막 기록 값으로 반영
+     */
+    public void markRecorded(List<GoodsPriceHistoryEntity> points) {
+        for (GoodsPriceHistoryEntity point : points) {
+            lastValues.put(point.getHistoryNo(),
+                    LastValues.of(point.getMinBidPrice(), point.getInquiryCount(), point.getFavoriteCount()));
+        }
+    }
+
+    /**
+     * 이력 전체 삭제 (전체 물건 삭제 트랜잭션 안에서 호출)
+     */
+    public int deleteAll() {
+        return goodsPriceHistoryMapper.deleteAll();
+    }
+
+    /**
+     * 전체 삭제가 커밋된 뒤 호출 (빈 상태를 적재 완료로 간주)
+     */
+    public void clear() {
+        lastValues.clear();
+        loaded = true;
+    }
+
+    /**
+     * 여러 물건의 이력을 델타 인코딩된 시계열로 조회
+     * @param historyNos 물건이력번호 목록 (중복은 한 번만 조회)
+     * @param from 조회 시작 (포함, null 이면 처음부터)
+     * @param to 조회 끝 (미포함, null 이면 현재까지)
+     * @return 요청 순서대로 물건별 시계열 (이력이 없으면 점 0개)
+     */
+    public List<PriceSeries> getSeries(List<Long> historyNos, LocalDateTime from, LocalDateTime to) {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(historyNos));
+        Map<Long, List<GoodsPriceHistoryEntity>> byHistoryNo = new LinkedHashMap<>();
+        distinct.forEach(historyNo -> byHistoryNo.put(historyNo, new ArrayList<>()));
+        for (int start = 0; start < distinct.size(); start += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = distinct.subList(start, Math.min(start + QUERY_CHUNK_SIZE, distinct.size()));
+            for (GoodsPriceHistoryEntity point : goodsPriceHistoryMapper.findSeries(chunk, from, to)) {
+                byHistoryNo.get(point.getHistoryNo()).add(point);
+            }
+        }
+        List<PriceSeries> series = new ArrayList<>(byHistoryNo.size());
+        byHistoryNo.forEach((historyNo, points) -> series.add(encode(historyNo, points)));
+        return series;
+    }
+
+    /**
+     * 기록일시 순으로 정렬된 점들을 열 단위 델타로 인코딩
+     */
+    private PriceSeries encode(Long historyNo, List<GoodsPriceHistoryEntity> points) {
+        int size = points.size();
+        long[] timeDeltas = new long[size];
+        long[] minBidPrice = new long[size];
+        long[] inquiryCount = new long[size];
+        long[] favoriteCount = new long[size];
+        GoodsPriceHistoryEntity previous = null;
+        for (int i = 0; i < size; i++) {
+            GoodsPriceHistoryEntity point = points.get(i);
+            if (previous == null) {
+                minBidPrice[i] = point.getMinBidPrice();
+                inquiryCount[i] = point.getInquiryCount();
+                favoriteCount[i] = point.getFavoriteCount();
+            } else {
+                timeDeltas[i] = Duration.between(previous.getRecordedAt(), point.getRecordedAt()).toSeconds();
+                minBidPrice[i] = point.getMinBidPrice() - previous.getMinBidPrice();
+                inquiryCount[i] = (long) point.getInquiryCount() - previous.getInquiryCount();
+                favoriteCount[i] = (long) point.getFavoriteCount() - previous.getFavoriteCount();
+            }
+            previous = point;
+        }
+        return PriceSeries.builder()
+                .historyNo(historyNo)
+                .pointCount(size)
+                .startAt(size > 0 ? points.get(0).getRecordedAt() : null)
+                .timeDeltas(timeDeltas)
+                .minBidPrice(minBidPrice)
+                .inquiryCount(inquiryCount)
+                .favoriteCount(favoriteCount)
+                .build();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            List<GoodsPriceHistoryEntity> rows = goodsPriceHistoryMapper.findCurrentValues();
+            for (GoodsPriceHistoryEntity row : rows) {
+                lastValues.putIfAbsent(row.getHistoryNo(),
+                        LastValues.of(row.getMinBidPrice(), row.getInquiryCount(), row.getFavoriteCount()));
+            }
+            loaded = true;
+            log.info("가격 이력 기준값 {}건 적재 완료", rows.size());
+        }
+    }
+
+    /**
+     * 물건별 마지막 기록 값 (조회수/관심수가 비어 있으면 0 으로 기록)
+     */
+    private record LastValues(long minBidPrice, int inquiryCount, int favoriteCount) {
+
+        static LastValues of(Long minBidPrice, Integer inquiryCount, Integer favoriteCount) {
+            return new LastValues(minBidPrice,
+                    inquiryCount != null ? inquiryCount : 0,
+                    favoriteCount != null ? favoriteCount : 0);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.onbid.service;
+
+import com.onbid.domain.dto.Request.GoodsFilterRequest;
+import com.onbid.domain.dto.Response.GoodsDelta;
+import com.onbid.domain.entity.GoodsEntity;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import com.onbid.mapper.GoodsMapper;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 물건 목록의 메모리 읽기 모델
+ * 동기화가 끝날 때마다 goods_basic + goods_price 를 한 번 읽어 스냅샷을 만들고 원자적으로 교체한다.
+ * 조회는 스냅샷 참조만 읽으므로 잠금 없이 처리되고, DB 부하는 요청 수와 무관해진다.
+ * 새 스냅샷은 직전 스냅샷과 비교해 변경분({@link GoodsDelta})을 이벤트로 발행하고, 바뀐 것이 없으면 버전을 올리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoodsReadModel {
+
+    private static final DateTimeFormatter BID_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final GoodsMapper goodsMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicReference<Snapshot> snapshotRef = new AtomicReference<>();
+    // invalidate() 후에도 변경분 계산 기준으로 남겨 두는 마지막 스냅샷 (refresh 안에서만 접근)
+    private Snapshot lastBuilt;
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    /**
+     * DB에서 전체 목록을 다시 읽어 스냅샷 교체
+     * 동시에 여러 번 호출되어도 한 번에 하나씩만 DB를 읽는다. (동기화 직후처럼 명시적으로 다시 만들 때 사용)
+     * 직전 스냅샷과 달라진 것이 없으면 기존 스냅샷을 그대로 유지한다.
+     */
+    public synchronized Snapshot refresh() {
+        long start = System.currentTimeMillis();
+        List<GoodsEntity> items = goodsMapper.findAll();
+        Snapshot previous = lastBuilt;
+        GoodsDelta delta = previous != null ? diff(previous, items) : null;
+        if (delta != null && delta.isEmpty()) {
+            snapshotRef.set(previous);
+            log.info("읽기 모델 변경 없음 - v{} 유지, {}ms", previous.version(), System.currentTimeMillis() - start);
+            return previous;
+        }
+        Snapshot next = Snapshot.of(versionSequence.incrementAndGet(), items);
+        lastBuilt = next;
+        snapshotRef.set(next);
+        log.info("읽기 모델 갱신 - v{}, {}건, {}ms", next.version(), items.size(),
+                System.currentTimeMillis() - start);
+        if (delta != null) {
+            delta.setVersion(next.version());
+            delta.setCreatedAt(next.builtAt());
+            eventPublisher.publishEvent(delta);
+        }
+        return next;
+    }
+
+    /**
+     * 스냅샷을 버려 다음 조회 때 다시 만들도록 함 (트랜잭션 완료 콜백처럼 DB를 바로 읽기 곤란한 곳에서 사용)
+     */
+    public void invalidate() {
+        snapshotRef.set(null);
+    }
+
+    /**
+     * 현재 스냅샷 (아직 한 번도 만들지 않았다면 지금 생성)
+     */
+    public Snapshot current() {
+        Snapshot snapshot = snapshotRef.get();
+        return snapshot != null ? snapshot : loadIfAbsent();
+    }
+
+    /**
+     * 스냅샷이 비었을 때만 다시 생성
+     * invalidate() 직후 여러 조회가 동시에 들어와도 락을 먼저 잡은 스레드만 DB를 읽고,
+     * 나머지는 락 안에서 다시 확인한 스냅샷을 그대로 쓴다.
+     */
+    private synchronized Snapshot loadIfAbsent() {
+        Snapshot snapshot = snapshotRef.get();
+        return snapshot != null ? snapshot : refresh();
+    }
+
+    /**
+     * 지정 시각 이후 가장 가까운 입찰마감일시 (없으면 null)
+     */
+    public LocalDateTime nextBidCloseAfter(LocalDateTime now) {
+        String from = now.format(BID_DATE_FORMAT);
+        String nearest = null;
+        for (GoodsEntity goods : current().items()) {
+            String close = goods.getBidCloseDate();
+            // YYYYMMDDHHmmss 는 문자열 비교가 시간 순서와 같다.
+            if (close != null && close.length() == 14 && close.compareTo(from) > 0
+                    && (nearest == null || close.compareTo(nearest) < 0)) {
+                nearest = close;
+            }
+        }
+        try {
+            return nearest != null ? LocalDateTime.parse(nearest, BID_DATE_FORMAT) : null;
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 조건에 맞는 물건 목록 (조건이 없으면 등록일시 내림차순 전체 목록을 그대로 반환)
+     */
+    public List<GoodsEntity> query(GoodsFilterRequest filter) {
+        return query(current(), filter);
+    }
+
+    /**
+     * 지정한 스냅샷에서 조건에 맞는 물건 목록 (응답과 버전을 같은 스냅샷에서 만들어야 할 때 사용)
+     */
+    public List<GoodsEntity> query(Snapshot snapshot, GoodsFilterRequest filter) {
+        if (filter == null || (!filter.hasFilter() && !filter.hasCustomSort())) {
+            return snapshot.items();
+        }
+        return snapshot.items().stream()
+                .filter(toPredicate(filter))
+                .sorted(toComparator(filter))
+                .toList();
+    }
+
+    /**
+     * 물건이력번호로 단건 조회
+     * @return 스냅샷에 없으면 null
+     */
+    public GoodsEntity findByHistoryNo(Long historyNo) {
+        return current().byHistoryNo().get(historyNo);
+    }
+
+    /**
+     * 직전 스냅샷 대비 추가/변경/삭제 계산 (version, createdAt 은 새 스냅샷이 정해진 뒤 채움)
+     */
+    private static GoodsDelta diff(Snapshot previous, List<GoodsEntity> items) {
+        List<GoodsEntity> inserted = new ArrayList<>();
+        List<GoodsEntity> changed = new ArrayList<>();
+        Map<Long, GoodsEntity> before = previous.byHistoryNo();
+        for (GoodsEntity goods : items) {
+            GoodsEntity old = before.get(goods.getHistoryNo());
+            if (old == null) {
+                inserted.add(goods);
+            } else if (!old.equals(goods)) {
+                changed.add(goods);
+            }
+        }
+        List<Long> removed = new ArrayList<>();
+        if (before.size() + inserted.size() != items.size()) {
+            // 추가분을 빼고도 건수가 맞지 않을 때만 사라진 물건을 찾는다.
+            Map<Long, Boolean> present = new HashMap<>(items.size() * 2);
+            items.forEach(goods -> present.put(goods.getHistoryNo(), Boolean.TRUE));
+            for (GoodsEntity old : previous.items()) {
+                if (!present.containsKey(old.getHistoryNo())) {
+                    removed.add(old.getHistoryNo());
+                }
+            }
+        }
+        return GoodsDelta.builder()
+                .previousVersion(previous.version())
+                .inserted(inserted)
+                .changed(changed)
+                .removed(removed)
+                .build();
+    }
+
+    private Predicate<GoodsEntity> toPredicate(GoodsFilterRequest filter) {
+        Predicate<GoodsEntity> predicate = goods -> true;
+        if (hasText(filter.getCategoryName())) {
+            predicate = predicate.and(goods -> filter.getCategoryName().equals(goods.getCategoryName()));
+        }
+        if (hasText(filter.getStatusName())) {
+            predicate = predicate.and(goods -> filter.getStatusName().equals(goods.getStatusName()));
+        }
+        if (filter.getMinBidPriceFrom() != null || filter.getMinBidPriceTo() != null) {
+            predicate = predicate.and(goods -> inRange(goods.getMinBidPrice(),
+                    filter.getMinBidPriceFrom(), filter.getMinBidPriceTo()));
+        }
+        if (filter.getAppraisalPriceFrom() != null || filter.getAppraisalPriceTo() != null) {
+            predicate = predicate.and(goods -> inRange(goods.getAppraisalPrice(),
+                    filter.getAppraisalPriceFrom(), filter.getAppraisalPriceTo()));
+        }
+        if (hasText(filter.getBidCloseFrom())) {
+            // YYYYMMDDHHmmss 고정 길이 문자열이라 사전순 비교가 시간 순서와 같다.
+            predicate = predicate.and(goods -> goods.getBidCloseDate() != null
+                    && goods.getBidCloseDate().compareTo(filter.getBidCloseFrom()) >= 0);
+        }
+        if (hasText(filter.getBidCloseTo())) {
+            predicate = predicate.and(goods -> goods.getBidCloseDate() != null
+                    && goods.getBidCloseDate().compareTo(filter.getBidCloseTo()) <= 0);
+        }
+        if (hasText(filter.getAddressPrefix())) {
+            predicate = predicate.and(goods -> goods.getAddress() != null
+                    && goods.getAddress().startsWith(filter.getAddressPrefix()));
+        }
+        return predicate;
+    }
+
+    private Comparator<GoodsEntity> toComparator(GoodsFilterRequest filter) {
+        boolean descending = filter.getDirection() == null || "desc".equalsIgnoreCase(filter.getDirection());
+        String sort = filter.getSort() != null ? filter.getSort() : "createdAt";
+        return switch (sort) {
+            case "createdAt" -> by(GoodsEntity::getCreatedAt, descending);
+            case "bidCloseDate" -> by(GoodsEntity::getBidCloseDate, descending);
+            case "minBidPrice" -> by(GoodsEntity::getMinBidPrice, descending);
+            case "appraisalPrice" -> by(GoodsEntity::getAppraisalPrice, descending);
+            case "inquiryCount" -> by(GoodsEntity::getInquiryCount, descending);
+            case "favoriteCount" -> by(GoodsEntity::getFavoriteCount, descending);
+            default -> throw new BusinessException(ErrorCode.INVALID_REQUEST, "지원하지 않는 정렬 기준입니다: " + sort);
+        };
+    }
+
+    /**
+     * 방향과 관계없이 값이 없는 물건은 항상 뒤로 보내는 비교자
+     */
+    private static <T extends Comparable<? super T>> Comparator<GoodsEntity> by(
+            Function<GoodsEntity, T> keyExtractor, boolean descending) {
+        Comparator<T> order = descending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        return Comparator.comparing(keyExtractor, Comparator.nullsLast(order));
+    }
+
+    private static boolean inRange(Long value, Long from, Long to) {
+        return value != null && (from == null || value >= from) && (to == null || value <= to);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * 한 시점의 불변 조회 스냅샷
+     * @param version 내용이 바뀔 때마다 1씩 증가하는 데이터 버전
+     * @param items 등록일시 내림차순 목록 (findAll 과 같은 순서)
+     * @param byHistoryNo 물건이력번호 색인
+     * @param builtAt 생성 시각
+     */
+    public record Snapshot(long version, List<GoodsEntity> items, Map<Long, GoodsEntity> byHistoryNo,
+                           LocalDateTime builtAt) {
+
+        static Snapshot of(long version, List<GoodsEntity> items) {
+            Map<Long, GoodsEntity> index = new HashMap<>(items.size() * 2);
+            items.forEach(goods -> index.put(goods.getHistoryNo(), goods));
+            return new Snapshot(version, List.copyOf(items), Map.copyOf(index), LocalDateTime.now());
+        }
+    }
+}
@@ -1,19 +1,34 @@
 package com.onbid.service;
 
 import com.onbid.domain.dto.Goods;
+import com.onbid.domain.dto.Request.GoodsFilterRequest;
+import com.onbid.domain.dto.Response.GoodsSyncResult;
 import com.onbid.domain.entity.GoodsBasicEntity;
 import com.onbid.domain.entity.GoodsEntity;
 import com.onbid.domain.entity.GoodsPriceEntity;
+import com.onbid.domain.entity.GoodsPriceHistoryEntity;
 import com.onbid.exception.BusinessException;
 import com.onbid.exception.ErrorCode;
 import com.onbid.exception.GoodsNotFoundException;
+import com.onbid.mapper.GoodsArchiveMapper;
 import com.onbid.mapper.GoodsMapper;
 import com.onbid.mapper.PurchaseMapper;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 물건 서비스
@@ -24,26 +39,64 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class GoodsService {
     
+    private static final DateTimeFormatter BID_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final int DEFAULT_CLOSING_WINDOW_MINUTES = 60;
+    private static final int MAX_CLOSING_WINDOW_MINUTES = 7 * 24 * 60;
+    private static final int DEFAULT_CLOSING_LIMIT = 100;
+    private static final int MAX_CLOSING_LIMIT = 500;
+    
     private final GoodsMapper goodsMapper;
+    private final GoodsArchiveMapper goodsArchiveMapper;
     private final PurchaseMapper purchaseMapper;
+    private final PurchasedItemIndex purchasedItemIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final GoodsFingerprintCache goodsFingerprintCache;
+    private final GoodsReadModel goodsReadModel;
+    private final GoodsPriceHistoryService goodsPriceHistoryService;
+    private final GoodsStatsEngine goodsStatsEngine;
+
+    @Value("${onbid.sync.batch-size:500}")
+    private int batchSize;
     
     /**
-     * DB에서 전체 물건 조회
+     * 읽기 모델에서 전체 물건 조회 (DB를 직접 읽지 않음)
      * @return 물건 목록
      */
     public List<GoodsEntity> getAllGoods() {
-        log.info("DB에서 전체 물건 조회");
-        return goodsMapper.findAll();
+        return goodsReadModel.query(null);
+    }
+
+    /**
+     * 읽기 모델에서 조건에 맞는 물건 조회
+     * @param filter 필터/정렬 조건
+     * @return 물건 목록
+     */
+    public List<GoodsEntity> getGoods(GoodsFilterRequest filter) {
+        return goodsReadModel.query(filter);
+    }
+    
+    /**
+     * 현재 읽기 모델 데이터 버전 (변경분 스트림의 since 기준)
+     */
+    public long getDataVersion() {
+        return goodsReadModel.current().version();
     }
     
     /**
-     * 물건이력번호로 물건 조회
+     * 물건이력번호로 물건 조회 (읽기 모델에 없으면 아직 반영 전일 수 있어 DB 확인, 서빙 테이블에도 없으면 보관 테이블 확인)
      * @param historyNo 물건이력번호
      * @return 물건 정보
      */
     public GoodsEntity getGoodsByHistoryNo(Long historyNo) {
-        log.info("물건이력번호로 물건 조회: {}", historyNo);
+        GoodsEntity cached = goodsReadModel.findByHistoryNo(historyNo);
+        if (cached != null) {
+            return cached;
+        }
+        log.info("읽기 모델에 없어 DB에서 물건 조회: {}", historyNo);
         GoodsEntity entity = goodsMapper.findByHistoryNo(historyNo);
+        if (entity == null) {
+            entity = goodsArchiveMapper.findByHistoryNo(historyNo);
+        }
         if (entity == null) {
             // 주어진 물건이력번호에 해당하는 데이터가 없음을 명시적으로 알림
             throw new GoodsNotFoundException(historyNo);
@@ -52,39 +105,98 @@ public class GoodsService {
     }
     
     /**
-     * 물건 목록을 DB에 저장 (기존 데이터 삭제 후 저장)
+     * 지금부터 windowMinutes 안에 입찰이 마감되는 물건 (마감이 빠른 순)
+     * 문자열 마감일시 대신 bid_close_at 인덱스 범위 조회로 창 안의 행만 읽는다.
+     * @param windowMinutes 조회 창 (분, 1~10080, 기본 60)
+     * @param limit 최대 건수 (1~500, 기본 100)
+     */
+    public List<GoodsEntity> getClosingSoon(Integer windowMinutes, Integer limit) {
+        int window = windowMinutes == null ? DEFAULT_CLOSING_WINDOW_MINUTES : windowMinutes;
+        if (window < 1 || window > MAX_CLOSING_WINDOW_MINUTES) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    "조회 창은 1~" + MAX_CLOSING_WINDOW_MINUTES + "분이어야 합니다.");
+        }
+        int size = limit == null ? DEFAULT_CLOSING_LIMIT : Math.min(MAX_CLOSING_LIMIT, Math.max(1, limit));
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        return goodsMapper.findClosingBetween(now, now.plusMinutes(window), size);
+    }
+    
+    /**
+     * 물건 목록을 청크 단위 다중 행 upsert 로 DB에 저장
+     * 저장된 지문과 비교해 바뀐 묶음(기본정보/가격정보)만 쓰고, 바뀌지 않은 행은 건너뛴다.
+     * 청크마다 개별 트랜잭션으로 커밋하며, 실패한 청크는 롤백 후 결과에 기록하고 다음 청크를 계속 처리한다.
      * @param goods 저장할 물건 목록
-     * @return 저장된 물건 개수
+     * @return 신규/변경/미변경/실패 건수와 실패 청크 정보
      */
-    @Transactional
-    public int saveGoodsListToDB(List<Goods> goods) {
+    public GoodsSyncResult saveGoodsListToDB(List<Goods> goods) {
         log.info("=== 물건 데이터 동기화 시작 ===");
 
         if (goods == null || goods.isEmpty()) {
             // 동기화할 데이터가 없으면 조용히 0건 처리로 반환
             log.warn("저장할 물건 목록이 비어 있어 동기화를 건너뜁니다.");
-            return 0;
+            return GoodsSyncResult.empty();
         }
 
-        int syncedCount = 0;
-        for (Goods item : goods) {
-            if (item.getHistoryNo() == null) {
-                log.warn("물건이력번호가 없어 건너뜁니다: {}", item.getGoodsName());
-                continue;
+        long start = System.currentTimeMillis();
+        LocalDateTime recordedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<Goods> distinct = distinctByHistoryNo(goods);
+        GoodsSyncResult result = GoodsSyncResult.builder()
+                .requestedCount(goods.size())
+                .skippedCount(goods.size() - distinct.size())
+                .build();
+
+        List<PlannedWrite> writes = new ArrayList<>();
+        for (Goods item : distinct) {
+            PlannedWrite write = planWrite(item);
+            if (write.isUnchanged()) {
+                result.setUnchangedCount(result.getUnchangedCount() + 1);
+            } else {
+                writes.add(write);
             }
+        }
 
+        int chunkSize = Math.max(1, batchSize);
+        for (int from = 0; from < writes.size(); from += chunkSize) {
+            List<PlannedWrite> chunk = writes.subList(from, Math.min(from + chunkSize, writes.size()));
+            int chunkIndex = result.getChunkCount();
+            result.setChunkCount(chunkIndex + 1);
             try {
-                goodsMapper.insertOrUpdateBasic(convertToBasicEntity(item));
-                goodsMapper.insertOrUpdatePrice(convertToPriceEntity(item));
-                syncedCount++;
+                // 가격정보를 다시 쓰는 행 중 이력 값(최저입찰가/조회수/관심수)이 바뀐 것만 이력에 추가
+                List<GoodsPriceHistoryEntity> points = goodsPriceHistoryService.changedPoints(
+                        chunk.stream().filter(PlannedWrite::writePrice).map(PlannedWrite::goods).toList(), recordedAt);
+                transactionTemplate.executeWithoutResult(status -> writeChunk(chunk, points));
+                // 커밋이 끝난 뒤에만 지문을 갱신해야 롤백된 행이 다음 동기화에서 다시 쓰인다.
+                chunk.forEach(write -> goodsFingerprintCache.put(
+                        write.goods().getHistoryNo(), write.basicHash(), write.priceHash(), write.archived()));
+                goodsPriceHistoryService.markRecorded(points);
+                applyStats(chunk);
+                countCommitted(result, chunk);
             } catch (Exception e) {
-                log.error("물건 동기화 실패 - historyNo: {}, 오류: {}",
-                        item.getHistoryNo(), e.getMessage());
+                log.error("물건 동기화 청크 실패 - chunk: {}, 건수: {}, 오류: {}",
+                        chunkIndex, chunk.size(), e.getMessage());
+                result.setFailedCount(result.getFailedCount() + chunk.size());
+                result.getFailures().add(GoodsSyncResult.ChunkFailure.builder()
+                        .chunkIndex(chunkIndex)
+                        .size(chunk.size())
+                        .firstHistoryNo(chunk.get(0).goods().getHistoryNo())
+                        .lastHistoryNo(chunk.get(chunk.size() - 1).goods().getHistoryNo())
+                        .message(e.getMessage())
+                        .build());
             }
         }
 
-        log.info("=== 물건 데이터 동기화 완료: {}개 반영 ===", syncedCount);
-        return syncedCount;
+        result.setElapsedMs(System.currentTimeMillis() - start);
+        log.info("=== 물건 데이터 동기화 완료: 신규 {}개, 변경 {}개, 미변경 {}개, 실패 {}개, 건너뜀 {}개 ({}청크, {}ms) ===",
+                result.getNewCount(), result.getChangedCount(), result.getUnchangedCount(),
+                result.getFailedCount(), result.getSkippedCount(), result.getChunkCount(), result.getElapsedMs());
+        return result;
+    }
+    
+    /**
+     * DB 반영 후 읽기 모델 스냅샷 재생성
+     */
+    public void refreshReadModel() {
+        goodsReadModel.refresh();
     }
     
     /**
@@ -97,9 +209,23 @@ public class GoodsService {
         
         try {
             purchaseMapper.deleteAll();
+            goodsPriceHistoryService.deleteAll();
             goodsMapper.deleteAllPrices();
             int deletedBasic = goodsMapper.deleteAllBasics();
+            goodsArchiveMapper.deleteAllPrices();
+            deletedBasic += goodsArchiveMapper.deleteAllBasics();
             log.info("기본 정보 {}개 삭제 완료", deletedBasic);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // 삭제가 커밋된 뒤에 지문을 비워야 다음 동기화가 전부 신규로 다시 쓴다.
+                    goodsFingerprintCache.clear();
+                    goodsReadModel.invalidate();
+                    purchasedItemIndex.clear();
+                    goodsPriceHistoryService.clear();
+                    goodsStatsEngine.clear();
+                }
+            });
             return deletedBasic;
         } catch (Exception e) {
             log.error("물건 데이터 삭제 실패", e);
@@ -107,7 +233,97 @@ public class GoodsService {
         }
     }
 
-    private GoodsBasicEntity convertToBasicEntity(Goods goods) {
+    /**
+     * 저장된 지문과 비교해 어떤 묶음을 써야 하는지 결정
+     */
+    private PlannedWrite planWrite(Goods item) {
+        long basicHash = GoodsFingerprintCache.basicHash(item);
+        long priceHash = GoodsFingerprintCache.priceHash(item);
+        GoodsFingerprintCache.Fingerprint stored = goodsFingerprintCache.get(item.getHistoryNo());
+        if (stored == null) {
+            return new PlannedWrite(item, basicHash, priceHash, true, false, true, true);
+        }
+        return new PlannedWrite(item, basicHash, priceHash, false, stored.archived(),
+                stored.basicHash() != basicHash, stored.priceHash() != priceHash);
+    }
+
+    /**
+     * 한 청크를 goods_basic → goods_price 순서로 다중 행 upsert (FK 때문에 순서 고정)
+     * 바뀐 묶음이 있는 행만 각 문장에 포함되고, 가격 이력 점도 같은 트랜잭션에서 추가한다.
+     * 이미 보관 테이블로 옮겨진 물건은 서빙 테이블로 되돌리지 않고 보관 테이블에 반영한다.
+     */
+    private void writeChunk(List<PlannedWrite> chunk, List<GoodsPriceHistoryEntity> points) {
+        List<GoodsBasicEntity> basics = new ArrayList<>();
+        List<GoodsPriceEntity> prices = new ArrayList<>();
+        List<GoodsBasicEntity> archivedBasics = new ArrayList<>();
+        List<GoodsPriceEntity> archivedPrices = new ArrayList<>();
+        for (PlannedWrite write : chunk) {
+            if (write.writeBasic()) {
+                (write.archived() ? archivedBasics : basics).add(convertToBasicEntity(write.goods(), write.basicHash()));
+            }
+            if (write.writePrice()) {
+                (write.archived() ? archivedPrices : prices).add(convertToPriceEntity(write.goods(), write.priceHash()));
+            }
+        }
+        if (!basics.isEmpty()) {
+            goodsMapper.insertOrUpdateBasicBatch(basics);
+        }
+        if (!prices.isEmpty()) {
+            goodsMapper.insertOrUpdatePriceBatch(prices);
+        }
+        if (!archivedBasics.isEmpty()) {
+            goodsArchiveMapper.insertOrUpdateBasicBatch(archivedBasics);
+        }
+        if (!archivedPrices.isEmpty()) {
+            goodsArchiveMapper.insertOrUpdatePriceBatch(archivedPrices);
+        }
+        goodsPriceHistoryService.append(points);
+    }
+
+    /**
+     * 커밋된 청크를 통계에 반영 (보관 테이블에 쓴 물건은 서빙 통계에서 뺀다)
+     */
+    private void applyStats(List<PlannedWrite> chunk) {
+        List<Goods> serving = new ArrayList<>();
+        List<Long> archived = new ArrayList<>();
+        for (PlannedWrite write : chunk) {
+            if (write.archived()) {
+                archived.add(write.goods().getHistoryNo());
+            } else {
+                serving.add(write.goods());
+            }
+        }
+        goodsStatsEngine.apply(serving);
+        goodsStatsEngine.remove(archived);
+    }
+
+    private void countCommitted(GoodsSyncResult result, List<PlannedWrite> chunk) {
+        for (PlannedWrite write : chunk) {
+            if (write.isNew()) {
+                result.setNewCount(result.getNewCount() + 1);
+            } else {
+                result.setChangedCount(result.getChangedCount() + 1);
+            }
+        }
+        result.setSyncedCount(result.getSyncedCount() + chunk.size());
+    }
+
+    /**
+     * 물건이력번호가 없는 항목을 제외하고, 같은 물건이력번호는 마지막 항목만 남김
+     */
+    private List<Goods> distinctByHistoryNo(List<Goods> goods) {
+        Map<Long, Goods> byHistoryNo = new LinkedHashMap<>();
+        for (Goods item : goods) {
+            if (item.getHistoryNo() == null) {
+                log.warn("물건이력번호가 없어 건너뜁니다: {}", item.getGoodsName());
+                continue;
+            }
+            byHistoryNo.put(item.getHistoryNo(), item);
+        }
+        return new ArrayList<>(byHistoryNo.values());
+    }
+
+    private GoodsBasicEntity convertToBasicEntity(Goods goods, long contentHash) {
         return GoodsBasicEntity.builder()
                 .historyNo(goods.getHistoryNo())
                 .goodsName(goods.getGoodsName())
@@ -116,11 +332,28 @@ public class GoodsService {
                 .categoryName(goods.getCategoryName())
                 .bidStartDate(goods.getBidStartDate())
                 .bidCloseDate(goods.getBidCloseDate())
+                .bidStartAt(parseBidDate(goods.getBidStartDate()))
+                .bidCloseAt(parseBidDate(goods.getBidCloseDate()))
                 .address(goods.getAddress())
+                .contentHash(contentHash)
                 .build();
     }
 
-    private GoodsPriceEntity convertToPriceEntity(Goods goods) {
+    /**
+     * 온비드 일시 문자열(YYYYMMDDHHmmss)을 DATETIME 값으로 변환 (비어 있거나 형식이 다르면 null)
+     */
+    private static LocalDateTime parseBidDate(String value) {
+        if (value == null || value.length() != 14) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value, BID_DATE_FORMAT);
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    private GoodsPriceEntity convertToPriceEntity(Goods goods, long contentHash) {
         return GoodsPriceEntity.builder()
                 .historyNo(goods.getHistoryNo())
                 .minBidPrice(goods.getMinBidPrice())
@@ -128,7 +361,19 @@ public class GoodsService {
                 .feeRate(goods.getFeeRate())
                 .inquiryCount(goods.getInquiryCount())
                 .favoriteCount(goods.getFavoriteCount())
+                .contentHash(contentHash)
                 .build();
     }
+
+    /**
+     * 한 물건에 대해 계산된 지문과 써야 할 묶음
+     */
+    private record PlannedWrite(Goods goods, long basicHash, long priceHash,
+                                boolean isNew, boolean archived, boolean writeBasic, boolean writePrice) {
+
+        boolean isUnchanged() {
+            return !writeBasic && !writePrice;
+        }
+    }
 }
 
@@ -0,0 +1,523 @@
+package com.onbid.service;
+
+import com.onbid.domain.dto.Goods;
+import com.onbid.domain.entity.GoodsEntity;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import com.onbid.mapper.GoodsMapper;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분류(category_name)/지역별 물건 통계를 메모리에서 증분 유지하는 엔진
+ * 건수, 최저입찰가/감정가/감정가 대비 최저입찰가 비율의 합계/평균/최소/최대/근사 분위수, 상태별 건수를 들고 있어
+ * 매번 테이블 전체를 읽지 않고 통계를 바로 돌려준다.
+ *
+ * - 처음 조회할 때 서빙 테이블(goods_basic + goods_price)에서 한 번 적재하고, 이후에는 동기화가 커밋한 행만 반영한다.
+ * - 물건이력번호마다 마지막으로 반영한 값을 들고 있어, 같은 물건이 다시 들어오면 이전 값을 빼고 새 값을 더한다.
+ * - 분위수는 로그 구간 스케치(상대 오차 relative-accuracy)로 계산하며, 구간별 건수라 값을 뺄 수도 있다.
+ * - 응답용 통계는 변경이 있을 때마다 다시 만들어 두므로 조회는 만들어 둔 Map 을 그대로 돌려준다.
+ */
+@Slf4j
+@Component
+public class GoodsStatsEngine {
+
+    public static final String UNCLASSIFIED = "미분류";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private final GoodsMapper goodsMapper;
+    private final double relativeAccuracy;
+
+    // 아래 상태는 모두 this 로 잠근 상태에서만 바꾼다.
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private final Group total;
+    private final Map<String, Group> byCategory = new HashMap<>();
+    private final Map<String, Group> byRegion = new HashMap<>();
+    private long updateCount;
+    private volatile boolean loaded;
+    private volatile Map<String, Object> view = Map.of();
+
+    public GoodsStatsEngine(
+            GoodsMapper goodsMapper,
+            @Value("${onbid.stats.relative-accuracy:0.01}") double relativeAccuracy) {
+        this.goodsMapper = goodsMapper;
+        this.relativeAccuracy = relativeAccuracy;
+        this.total = new Group(relativeAccuracy);
+    }
+
+    /**
+     * 전체 통계 (total, byCategory, byRegion)
+     */
+    public Map<String, Object> stats() {
+        ensureLoaded();
+        return view;
+    }
+
+    /**
+     * 차원별 통계
+     * @param dimension category 또는 region (없으면 전체)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> stats(String dimension) {
+        Map<String, Object> current = stats();
+        if (dimension == null || dimension.isBlank()) {
+            return current;
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("updatedAt", current.get("updatedAt"));
+        body.put("count", ((Map<String, Object>) current.get("total")).get("count"));
+        if ("category".equalsIgnoreCase(dimension)) {
+            body.put("byCategory", current.get("byCategory"));
+        } else if ("region".equalsIgnoreCase(dimension)) {
+            body.put("byRegion", current.get("byRegion"));
+        } else {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    "지원하지 않는 통계 차원입니다: " + dimension);
+        }
+        return body;
+    }
+
+    /**
+     * 커밋이 끝난 물건 반영 (적재 전이면 나중에 DB에서 함께 읽으므로 건너뜀)
+     * 적재 여부는 잠근 뒤에 확인해야, 적재 중 DB 를 읽은 뒤에 커밋된 물건이 적재가 끝날 때까지 기다렸다가 반영된다.
+     */
+    public void apply(Collection<Goods> goods) {
+        if (goods.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                return;
+            }
+            for (Goods item : goods) {
+                put(item.getHistoryNo(), Contribution.of(item.getCategoryName(), item.getAddress(),
+                        item.getStatusName(), item.getMinBidPrice(), item.getAppraisalPrice()));
+            }
+            rebuildView();
+        }
+    }
+
+    /**
+     * 서빙 테이블에서 빠진 물건 제거 (보관 이동 등)
+     */
+    public void remove(Collection<Long> historyNos) {
+        if (historyNos.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                return;
+            }
+            boolean changed = false;
+            for (Long historyNo : historyNos) {
+                Contribution old = contributions.remove(historyNo);
+                if (old != null) {
+                    subtract(old);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                rebuildView();
+            }
+        }
+    }
+
+    /**
+     * 전체 삭제 후 호출 (빈 상태를 적재 완료로 간주)
+     */
+    public synchronized void clear() {
+        contributions.clear();
+        total.reset();
+        byCategory.clear();
+        byRegion.clear();
+        loaded = true;
+        rebuildView();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            long start = System.currentTimeMillis();
+            List<GoodsEntity> rows = goodsMapper.findAll();
+            for (GoodsEntity row : rows) {
+                put(row.getHistoryNo(), Contribution.of(row.getCategoryName(), row.getAddress(),
+                        row.getStatusName(), row.getMinBidPrice(), row.getAppraisalPrice()));
+            }
+            loaded = true;
+            rebuildView();
+            log.info("물건 통계 {}건 적재 완료 (분류 {}개, 지역 {}개, {}ms)",
+                    rows.size(), byCategory.size(), byRegion.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    private void put(Long historyNo, Contribution contribution) {
+        if (historyNo == null) {
+            return;
+        }
+        Contribution old = contributions.put(historyNo, contribution);
+        if (contribution.equals(old)) {
+            return;
+        }
+        if (old != null) {
+            subtract(old);
+        }
+        total.add(contribution);
+        byCategory.computeIfAbsent(contribution.category(), key -> new Group(relativeAccuracy)).add(contribution);
+        byRegion.computeIfAbsent(contribution.region(), key -> new Group(relativeAccuracy)).add(contribution);
+    }
+
+    private void subtract(Contribution old) {
+        total.subtract(old);
+        subtractFrom(byCategory, old.category(), old);
+        subtractFrom(byRegion, old.region(), old);
+    }
+
+    private static void subtractFrom(Map<String, Group> groups, String key, Contribution old) {
+        Group group = groups.get(key);
+        if (group == null) {
+            return;
+        }
+        group.subtract(old);
+        if (group.count == 0) {
+            groups.remove(key);
+        }
+    }
+
+    /**
+     * 응답용 통계 다시 만들기
+     */
+    private void rebuildView() {
+        updateCount++;
+        refreshExtremes();
+        Map<String, Object> next = new LinkedHashMap<>();
+        next.put("updatedAt", LocalDateTime.now());
+        next.put("updateCount", updateCount);
+        next.put("relativeAccuracy", relativeAccuracy);
+        next.put("total", total.toMap());
+        next.put("byCategory", toMap(byCategory));
+        next.put("byRegion", toMap(byRegion));
+        view = Collections.unmodifiableMap(next);
+    }
+
+    /**
+     * 최소/최대값이 빠진 묶음만 반영된 값을 한 번 훑어 다시 계산
+     * 최소/최대값인 물건이 빠지거나 바뀔 때만 일어나므로 평소 갱신은 전체 물건을 다시 훑지 않는다.
+     */
+    private void refreshExtremes() {
+        boolean totalStale = total.hasStaleExtremes();
+        if (totalStale) {
+            total.resetExtremes();
+        }
+        Map<String, Group> staleCategories = stale(byCategory);
+        Map<String, Group> staleRegions = stale(byRegion);
+        if (!totalStale && staleCategories.isEmpty() && staleRegions.isEmpty()) {
+            return;
+        }
+        for (Contribution contribution : contributions.values()) {
+            if (totalStale) {
+                total.observeExtremes(contribution);
+            }
+            Group category = staleCategories.get(contribution.category());
+            if (category != null) {
+                category.observeExtremes(contribution);
+            }
+            Group region = staleRegions.get(contribution.region());
+            if (region != null) {
+                region.observeExtremes(contribution);
+            }
+        }
+    }
+
+    private static Map<String, Group> stale(Map<String, Group> groups) {
+        Map<String, Group> result = new HashMap<>();
+        groups.forEach((key, group) -> {
+            if (group.hasStaleExtremes()) {
+                group.resetExtremes();
+                result.put(key, group);
+            }
+        });
+        return result;
+    }
+
+    private static Map<String, Object> toMap(Map<String, Group> groups) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        groups.entrySet().stream()
+                .sorted(Map.Entry.<String, Group>comparingByValue((a, b) -> Long.compare(b.count, a.count))
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue().toMap()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * 물건 하나가 통계에 더한 값
+     * @param region 주소의 첫 단어 (시/도)
+     * @param ratio 감정가 대비 최저입찰가 비율 (감정가가 없거나 0 이면 null)
+     */
+    private record Contribution(String category, String region, String status,
+                                Double minBidPrice, Double appraisalPrice, Double ratio) {
+
+        static Contribution of(String category, String address, String status, Long minBidPrice, Long appraisalPrice) {
+            Double ratio = minBidPrice != null && appraisalPrice != null && appraisalPrice > 0
+                    ? minBidPrice.doubleValue() / appraisalPrice
+                    : null;
+            return new Contribution(orUnclassified(category), region(address), orUnclassified(status),
+                    minBidPrice != null ? minBidPrice.doubleValue() : null,
+                    appraisalPrice != null ? appraisalPrice.doubleValue() : null,
+                    ratio);
+        }
+
+        private static String region(String address) {
+            if (address == null || address.isBlank()) {
+                return UNCLASSIFIED;
+            }
+            String trimmed = address.strip();
+            int space = trimmed.indexOf(' ');
+            return space > 0 ? trimmed.substring(0, space) : trimmed;
+        }
+
+        private static String orUnclassified(String value) {
+            return value == null || value.isBlank() ? UNCLASSIFIED : value;
+        }
+    }
+
+    /**
+     * 한 묶음(전체/분류/지역)의 집계
+     */
+    private static final class Group {
+
+        private long count;
+        private final Metric minBidPrice;
+        private final Metric appraisalPrice;
+        private final Metric ratio;
+        private final Map<String, Long> statusCounts = new HashMap<>();
+
+        Group(double relativeAccuracy) {
+            this.minBidPrice = new Metric(relativeAccuracy);
+            this.appraisalPrice = new Metric(relativeAccuracy);
+            this.ratio = new Metric(relativeAccuracy);
+        }
+
+        void add(Contribution contribution) {
+            count++;
+            minBidPrice.add(contribution.minBidPrice());
+            appraisalPrice.add(contribution.appraisalPrice());
+            ratio.add(contribution.ratio());
+            statusCounts.merge(contribution.status(), 1L, Long::sum);
+        }
+
+        void subtract(Contribution contribution) {
+            count--;
+            minBidPrice.subtract(contribution.minBidPrice());
+            appraisalPrice.subtract(contribution.appraisalPrice());
+            ratio.subtract(contribution.ratio());
+            statusCounts.computeIfPresent(contribution.status(), (key, value) -> value > 1 ? value - 1 : null);
+        }
+
+        void reset() {
+            count = 0;
+            minBidPrice.reset();
+            appraisalPrice.reset();
+            ratio.reset();
+            statusCounts.clear();
+        }
+
+        boolean hasStaleExtremes() {
+            return minBidPrice.staleExtremes || appraisalPrice.staleExtremes || ratio.staleExtremes;
+        }
+
+        void resetExtremes() {
+            minBidPrice.resetExtremes();
+            appraisalPrice.resetExtremes();
+            ratio.resetExtremes();
+        }
+
+        void observeExtremes(Contribution contribution) {
+            minBidPrice.observeExtremes(contribution.minBidPrice());
+            appraisalPrice.observeExtremes(contribution.appraisalPrice());
+            ratio.observeExtremes(contribution.ratio());
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("count", count);
+            result.put("minBidPrice", minBidPrice.toMap(false));
+            result.put("appraisalPrice", appraisalPrice.toMap(false));
+            result.put("ratio", ratio.toMap(true));
+            Map<String, Long> statuses = new LinkedHashMap<>();
+            statusCounts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .forEach(entry -> statuses.put(entry.getKey(), entry.getValue()));
+            result.put("status", Collections.unmodifiableMap(statuses));
+            return Collections.unmodifiableMap(result);
+        }
+    }
+
+    /**
+     * 한 값의 건수/합계/최소/최대와 분위수 스케치
+     * 최소/최대값이 빠지면 staleExtremes 로 표시해 두고 통계를 다시 만들 때 보정한다.
+     */
+    private static final class Metric {
+
+        private long count;
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private boolean staleExtremes;
+        private final LogSketch sketch;
+
+        Metric(double relativeAccuracy) {
+            this.sketch = new LogSketch(relativeAccuracy);
+        }
+
+        void add(Double value) {
+            if (value == null) {
+                return;
+            }
+            count++;
+            sum += value;
+            observeExtremes(value);
+            sketch.add(value);
+        }
+
+        void subtract(Double value) {
+            if (value == null) {
+                return;
+            }
+            count--;
+            sum -= value;
+            sketch.subtract(value);
+            if (count == 0) {
+                reset();
+            } else if (value <= min || value >= max) {
+                staleExtremes = true;
+            }
+        }
+
+        void observeExtremes(Double value) {
+            if (value == null) {
+                return;
+            }
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        void resetExtremes() {
+            min = Double.POSITIVE_INFINITY;
+            max = Double.NEGATIVE_INFINITY;
+            staleExtremes = false;
+        }
+
+        void reset() {
+            count = 0;
+            sum = 0;
+            resetExtremes();
+            sketch.reset();
+        }
+
+        Map<String, Object> toMap(boolean fraction) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("count", count);
+            if (count == 0) {
+                return Collections.unmodifiableMap(result);
+            }
+            result.put("sum", round(sum, fraction));
+            result.put("avg", round(sum / count, fraction));
+            result.put("min", round(min, fraction));
+            result.put("max", round(max, fraction));
+            for (double quantile : QUANTILES) {
+                // 스케치 값은 구간 대표값이라 실제 최소/최대 밖으로 나가지 않게 자른다.
+                double estimate = Math.max(min, Math.min(max, sketch.quantile(quantile, count)));
+                result.put("p" + Math.round(quantile * 100), round(estimate, fraction));
+            }
+            return Collections.unmodifiableMap(result);
+        }
+
+        private static Object round(double value, boolean fraction) {
+            return fraction ? Math.round(value * 10000) / 10000.0 : (Object) Math.round(value);
+        }
+    }
+
+    /**
+     * 로그 구간 분위수 스케치
+     * 양수 값 v 를 ceil(log_gamma(v)) 구간에 세고 (gamma = (1 + a) / (1 - a)), 구간 대표값을 돌려주므로
+     * 상대 오차 a 안의 근사 분위수를 얻는다. 구간별 건수만 들고 있어 값을 뺄 수 있다. 0 이하 값은 따로 센다.
+     */
+    private static final class LogSketch {
+
+        private final double gamma;
+        private final double logGamma;
+        private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+        private long nonPositiveCount;
+
+        LogSketch(double relativeAccuracy) {
+            this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+            this.logGamma = Math.log(gamma);
+        }
+
+        void add(double value) {
+            if (value <= 0) {
+                nonPositiveCount++;
+            } else {
+                buckets.merge(index(value), 1L, Long::sum);
+            }
+        }
+
+        void subtract(double value) {
+            if (value <= 0) {
+                nonPositiveCount = Math.max(0, nonPositiveCount - 1);
+            } else {
+                buckets.computeIfPresent(index(value), (key, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+
+        void reset() {
+            buckets.clear();
+            nonPositiveCount = 0;
+        }
+
+        /**
+         * @param quantile 0~1
+         * @param count 스케치에 들어간 전체 건수
+         */
+        double quantile(double quantile, long count) {
+            long rank = (long) Math.floor(quantile * (count - 1));
+            if (rank < nonPositiveCount) {
+                return 0;
+            }
+            long seen = nonPositiveCount;
+            for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+                seen += bucket.getValue();
+                if (seen > rank) {
+                    return representative(bucket.getKey());
+                }
+            }
+            return buckets.isEmpty() ? 0 : representative(buckets.lastKey());
+        }
+
+        /**
+         * 구간 (gamma^(i-1), gamma^i] 의 대표값 (양 끝과의 상대 오차가 같아지는 지점)
+         */
+        private double representative(int index) {
+            return 2 * Math.pow(gamma, index) / (gamma + 1);
+        }
+
+        private int index(double value) {
+            return (int) Math.ceil(Math.log(value) / logGamma);
+        }
+    }
+}
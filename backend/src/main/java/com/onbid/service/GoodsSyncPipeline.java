@@ -0,0 +1,277 @@
+package com.onbid.service;
+
+import com.onbid.domain.dto.Goods;
+import com.onbid.domain.dto.Response.GoodsSyncResult;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 온비드 동기화 단계별 파이프라인 (수집 → 저장)
+ * - 수집: fetch-workers 개의 가상 스레드가 {@link OnbidCatalogCrawler#fetchPage} 로 페이지를 받으면서
+ *   응답 스트림을 item 단위로 파싱해 저장 큐에 넣음 (크롤러의 동시성 상한과 재시도 정책을 그대로 따름)
+ * - 저장: 호출 스레드 하나가 페이지를 받아 처리 (전체 동기화는 write-batch-size 단위로 DB 저장)
+ * 저장 큐는 queue-capacity 로 크기가 제한되어, 저장이 밀리면 수집이 멈춘다.
+ * 단계가 겹쳐 실행되므로 전체 소요 시간은 두 단계의 합이 아니라 느린 단계에 가까워진다.
+ * 실행이 끝나면 평균 페이지 지연시간을 크롤러에 알려 다음 실행의 페이지 크기를 조정한다.
+ */
+@Slf4j
+@Service
+public class GoodsSyncPipeline {
+
+    private static final ParsedPage END_OF_PARSED = new ParsedPage(-1, List.of(), 0L);
+
+    private final OnbidCatalogCrawler onbidCatalogCrawler;
+    private final GoodsService goodsService;
+    private final int fetchWorkers;
+    private final int queueCapacity;
+    private final int writeBatchSize;
+    private final Timer fetchTimer;
+    private final Timer writeTimer;
+
+    public GoodsSyncPipeline(
+            OnbidCatalogCrawler onbidCatalogCrawler,
+            GoodsService goodsService,
+            MeterRegistry meterRegistry,
+            @Value("${onbid.sync.pipeline.fetch-workers:4}") int fetchWorkers,
+            @Value("${onbid.sync.pipeline.queue-capacity:4}") int queueCapacity,
+            @Value("${onbid.sync.pipeline.write-batch-size:2000}") int writeBatchSize) {
+        this.onbidCatalogCrawler = onbidCatalogCrawler;
+        this.goodsService = goodsService;
+        this.fetchWorkers = Math.max(1, fetchWorkers);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.writeBatchSize = Math.max(1, writeBatchSize);
+        this.fetchTimer = stageTimer(meterRegistry, "fetch");
+        this.writeTimer = stageTimer(meterRegistry, "write");
+    }
+
+    /**
+     * 앞 페이지부터 파이프라인으로 읽어 페이지 순서대로 이어 붙인 목록 반환 (저장 단계는 모으기만 함)
+     * 1페이지부터 빠짐없이 이어 붙인 목록으로 enough 가 참이 되면 남은 페이지는 수집하지 않는다.
+     */
+    public List<Goods> fetchUntil(String ctgrHirkId, String sido, Predicate<List<Goods>> enough) {
+        Map<Integer, List<Goods>> pending = new TreeMap<>();
+        List<Goods> prefix = new ArrayList<>();
+        AtomicInteger nextPageNo = new AtomicInteger(1);
+        run(ctgrHirkId, sido, page -> {
+            // 페이지는 도착 순서가 섞이므로 앞 페이지가 모두 온 것만 이어 붙인다.
+            pending.put(page.pageNo(), page.items());
+            List<Goods> items;
+            while ((items = pending.remove(nextPageNo.get())) != null) {
+                prefix.addAll(items);
+                nextPageNo.incrementAndGet();
+            }
+            return enough.test(prefix);
+        });
+        return prefix;
+    }
+
+    /**
+     * 전체 페이지를 읽으면서 write-batch-size 건이 모일 때마다 DB에 저장
+     * 같은 물건이 여러 배치에 나와도 지문 비교로 두 번째부터는 미변경 처리된다.
+     * @return 배치별 저장 결과 합계
+     */
+    public GoodsSyncResult syncAll(String ctgrHirkId, String sido) {
+        long start = System.currentTimeMillis();
+        GoodsSyncResult total = GoodsSyncResult.empty();
+        List<Goods> buffer = new ArrayList<>(writeBatchSize);
+        run(ctgrHirkId, sido, page -> {
+            buffer.addAll(page.items());
+            if (buffer.size() >= writeBatchSize) {
+                total.merge(goodsService.saveGoodsListToDB(new ArrayList<>(buffer)));
+                buffer.clear();
+            }
+            return false;
+        });
+        if (!buffer.isEmpty()) {
+            total.merge(goodsService.saveGoodsListToDB(buffer));
+        }
+        total.setElapsedMs(System.currentTimeMillis() - start);
+        return total;
+    }
+
+    /**
+     * 파이프라인 1회 실행 (writer 는 호출 스레드에서만 호출되므로 스레드 안전할 필요 없음)
+     * writer 가 true 를 반환하면 남은 페이지 수집을 멈추고 정상 종료한다.
+     */
+    private void run(String ctgrHirkId, String sido, Predicate<ParsedPage> writer) {
+        long start = System.currentTimeMillis();
+        int rows = onbidCatalogCrawler.getCurrentPageSize();
+        StageTimes times = new StageTimes();
+
+        // 첫 페이지로 전체 페이지 수를 알아야 나머지 수집을 나눌 수 있다.
+        OnbidCatalogCrawler.Page first = fetch(1, rows, ctgrHirkId, sido, times);
+        int totalCount = first.totalCount();
+        int totalPages = totalCount <= 0 ? 1 : (int) Math.ceil((double) totalCount / rows);
+        log.info("[Pipeline] 전체 {}건, {}페이지 (페이지당 {}건, 수집 {} / 큐 {})",
+                totalCount, totalPages, rows, fetchWorkers, queueCapacity);
+
+        // 첫 페이지로 충분하면 나머지 수집 작업은 시작하지 않는다.
+        if (write(writer, new ParsedPage(1, first.items(), first.elapsedMs()), times) || totalPages == 1) {
+            finish(rows, 1, totalPages, start, times);
+            return;
+        }
+
+        BlockingQueue<ParsedPage> parsedQueue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        AtomicBoolean stopped = new AtomicBoolean();
+        List<Thread> fetchThreads = new ArrayList<>();
+
+        AtomicInteger nextPage = new AtomicInteger(2);
+        int fetcherCount = Math.min(fetchWorkers, totalPages - 1);
+        AtomicInteger activeFetchers = new AtomicInteger(fetcherCount);
+        for (int i = 0; i < fetcherCount; i++) {
+            fetchThreads.add(Thread.ofVirtual().name("onbid-sync-fetch-" + (i + 1)).start(() ->
+                    fetchLoop(nextPage, totalPages, rows, ctgrHirkId, sido, parsedQueue, failure, stopped,
+                            activeFetchers, times)));
+        }
+
+        int writtenPages = 1;
+        try {
+            while (writtenPages < totalPages) {
+                ParsedPage page = parsedQueue.take();
+                if (page == END_OF_PARSED) {
+                    break;
+                }
+                if (failure.get() != null) {
+                    break;
+                }
+                writtenPages++;
+                if (write(writer, page, times)) {
+                    stopped.set(true);
+                    break;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "동기화 파이프라인이 중단되었습니다."));
+        } catch (RuntimeException ex) {
+            failure.compareAndSet(null, ex);
+        } finally {
+            if (failure.get() != null || stopped.get()) {
+                // 저장이 멈췄으면 큐에 막혀 있는 수집 작업도 모두 깨워서 끝낸다.
+                fetchThreads.forEach(Thread::interrupt);
+            }
+        }
+
+        // 충분히 모아 멈춘 뒤 중단된 수집 작업에서 난 오류는 결과와 무관하다.
+        if (failure.get() != null && !stopped.get()) {
+            throw failure.get();
+        }
+        finish(rows, writtenPages, totalPages, start, times);
+    }
+
+    /**
+     * 실행 결과 기록 후 저장한 페이지의 평균 지연시간으로 크롤러의 다음 페이지 크기 조정
+     */
+    private void finish(int rows, int writtenPages, int totalPages, long start, StageTimes times) {
+        onbidCatalogCrawler.tunePageSize(rows, times.pageLatencyMs.sum() / writtenPages);
+        log.info("[Pipeline] 완료 - {}/{}페이지, 총 {}ms (단계별 누적: 수집·파싱 {}ms, 저장 {}ms)",
+                writtenPages, totalPages, System.currentTimeMillis() - start, times.fetchMs(), times.writeMs());
+    }
+
+    private void fetchLoop(AtomicInteger nextPage, int totalPages, int rows, String ctgrHirkId, String sido,
+                           BlockingQueue<ParsedPage> parsedQueue, AtomicReference<RuntimeException> failure,
+                           AtomicBoolean stopped, AtomicInteger activeFetchers, StageTimes times) {
+        try {
+            int pageNo;
+            while (failure.get() == null && !stopped.get() && (pageNo = nextPage.getAndIncrement()) <= totalPages) {
+                OnbidCatalogCrawler.Page page = fetch(pageNo, rows, ctgrHirkId, sido, times);
+                // 저장 큐가 차 있으면 저장이 따라올 때까지 대기 (backpressure)
+                parsedQueue.put(new ParsedPage(pageNo, page.items(), page.elapsedMs()));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            failure.compareAndSet(null, ex);
+        } finally {
+            if (activeFetchers.decrementAndGet() == 0) {
+                // 마지막 수집 작업이 종료 표시를 넣는다.
+                offerEnd(parsedQueue, failure);
+            }
+        }
+    }
+
+    /**
+     * 종료 표시 전달 (정상 종료면 자리가 날 때까지 기다리고, 실패 중이면 받을 쪽이 없을 수 있어 기다리지 않음)
+     */
+    private void offerEnd(BlockingQueue<ParsedPage> queue, AtomicReference<RuntimeException> failure) {
+        try {
+            while (!queue.offer(END_OF_PARSED, 100, TimeUnit.MILLISECONDS)) {
+                if (failure.get() != null) {
+                    return;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private OnbidCatalogCrawler.Page fetch(int pageNo, int rows, String ctgrHirkId, String sido, StageTimes times) {
+        long start = System.nanoTime();
+        try {
+            return onbidCatalogCrawler.fetchPage(pageNo, rows, ctgrHirkId, sido);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            fetchTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            times.fetchNanos.add(elapsed);
+        }
+    }
+
+    private boolean write(Predicate<ParsedPage> writer, ParsedPage page, StageTimes times) {
+        long start = System.nanoTime();
+        boolean stop = writer.test(page);
+        long elapsed = System.nanoTime() - start;
+        writeTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        times.writeNanos.add(elapsed);
+        times.pageLatencyMs.add(page.latencyMs());
+        return stop;
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("onbid.sync.pipeline.stage")
+                .description("동기화 파이프라인 단계별 처리 시간 (페이지 단위)")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 파싱까지 끝난 페이지 (latencyMs 는 크롤러가 잰 성공한 시도의 응답 수신 + 파싱 시간)
+     */
+    private record ParsedPage(int pageNo, List<Goods> items, long latencyMs) {
+    }
+
+    /**
+     * 한 번의 실행에서 단계별로 쓴 시간 합계 (여러 작업이 겹쳐 실행되므로 합계는 전체 시간보다 클 수 있음)
+     */
+    private static final class StageTimes {
+        private final LongAdder fetchNanos = new LongAdder();
+        private final LongAdder writeNanos = new LongAdder();
+        // 저장 단계까지 간 페이지의 지연시간 합계 (페이지 크기 조정용)
+        private final LongAdder pageLatencyMs = new LongAdder();
+
+        long fetchMs() {
+            return TimeUnit.NANOSECONDS.toMillis(fetchNanos.sum());
+        }
+
+        long writeMs() {
+            return TimeUnit.NANOSECONDS.toMillis(writeNanos.sum());
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package com.onbid.service;
 
 import com.onbid.domain.dto.Goods;
+import com.onbid.domain.dto.Response.GoodsSyncResult;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
 
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -20,28 +24,83 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class GoodsSyncScheduler {
 
-    private final OnbidApiService onbidApiService;
+    private final GoodsSyncPipeline goodsSyncPipeline;
     private final GoodsService goodsService;
     private final GoodsSyncStatusService goodsSyncStatusService;
+    private final AdaptiveSyncTrigger adaptiveSyncTrigger;
+    private final FullCatalogSyncService fullCatalogSyncService;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${onbid.sync.max-items:100}")
+    private int maxItems;
 
     /**
-     * 매 분 100개까지 최신 데이터를 저장
+     * 파이프라인으로 max-items 개를 채울 만큼만 앞 페이지를 읽어 최신 데이터를 저장 (0 이면 전체를 읽으면서 바로 저장)
+     * 실행 간격은 {@link AdaptiveSyncTrigger} 가 정하며 (SyncSchedulingConfig 의 전용 스레드에서 실행), 실행 중이면 새 실행은 건너뛴다.
+     * 전체 동기화 작업이 실행 중이어도 샤드 저장과 겹치지 않도록 건너뛴다.
      */
-    @Scheduled(cron = "0 * * * * *")
     public void syncLatestGoods() {
+        if (fullCatalogSyncService.isRunning()) {
+            log.info("[Scheduler] 전체 동기화 진행 중이라 건너뜀");
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[Scheduler] 이전 동기화가 아직 실행 중이라 건너뜀");
+            return;
+        }
         try {
             log.info("[Scheduler] 온비드 최신 데이터 동기화 시작");
-            List<Goods> apiItems = onbidApiService.getGoodsItems(1, 1000, null, null);
-            List<Goods> latest = selectTop100(apiItems);
-            int synced = goodsService.saveGoodsListToDB(latest);
-            goodsSyncStatusService.markSynced(java.time.LocalDateTime.now());
-            log.info("[Scheduler] 온비드 동기화 완료 - {}개 반영", synced);
+            GoodsSyncResult result;
+            if (maxItems > 0) {
+                // 앞 페이지부터 읽어 물건관리번호 기준으로 max-items 개가 채워지면 남은 페이지는 수집하지 않는다.
+                List<Goods> apiItems = goodsSyncPipeline.fetchUntil(null, null,
+                        prefix -> selectLatest(prefix, maxItems).size() >= maxItems);
+                result = goodsService.saveGoodsListToDB(selectLatest(apiItems, maxItems));
+            } else {
+                result = goodsSyncPipeline.syncAll(null, null);
+            }
+            if (result.getSyncedCount() > 0) {
+                // 바뀐 행이 있을 때만 읽기 모델을 다시 만든다.
+                goodsService.refreshReadModel();
+            }
+            if (result.getFailedCount() > 0) {
+                // 일부 청크만 저장된 실행은 성공으로 기록하지 않고 실패 백오프를 적용한다.
+                adaptiveSyncTrigger.recordFailure();
+                log.warn("[Scheduler] 온비드 동기화 일부 실패 - 저장 {}개, 실패 {}개",
+                        result.getSyncedCount(), result.getFailedCount());
+                return;
+            }
+            goodsSyncStatusService.markSynced(java.time.LocalDateTime.now(), result.getSyncedCount());
+            adaptiveSyncTrigger.recordSuccess(result.getSyncedCount());
+            log.info("[Scheduler] 온비드 동기화 완료 - 신규 {}개, 변경 {}개, 미변경 {}개",
+                    result.getNewCount(), result.getChangedCount(), result.getUnchangedCount());
+        } catch (BusinessException e) {
+            adaptiveSyncTrigger.recordFailure();
+            if (e.getErrorCode() == ErrorCode.UPSTREAM_CIRCUIT_OPEN) {
+                log.warn("[Scheduler] 온비드 서킷 OPEN - 이번 동기화 건너뜀");
+                return;
+            }
+            log.error("[Scheduler] 온비드 동기화 실패", e);
         } catch (Exception e) {
+            adaptiveSyncTrigger.recordFailure();
             log.error("[Scheduler] 온비드 동기화 실패", e);
+        } finally {
+            running.set(false);
         }
     }
 
-    private List<Goods> selectTop100(List<Goods> items) {
+    /**
+     * 물건관리번호별 최신 이력만 남겨 앞에서부터 100건 선택 (JMH 벤치마크에서 호출하므로 패키지 전용)
+     */
+    List<Goods> selectTop100(List<Goods> items) {
+        return selectLatest(items, 100);
+    }
+
+    /**
+     * 물건관리번호별 최신 이력만 남겨 앞에서부터 limit 건 선택
+     */
+    private List<Goods> selectLatest(List<Goods> items, int limit) {
         if (items == null || items.isEmpty()) {
             return List.of();
         }
@@ -61,7 +120,7 @@ public class GoodsSyncScheduler {
         return latestByGoodsNo.values()
                 .stream()
                 .filter(Objects::nonNull)
-                .limit(100)
+                .limit(limit)
                 .collect(Collectors.toList());
     }
 
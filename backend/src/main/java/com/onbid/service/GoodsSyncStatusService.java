@@ -1,29 +1,67 @@
 package com.onbid.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.springframework.stereotype.Service;
 
 /**
  * 공매 동기화 상태 저장용 서비스
+ * - onbid.sync.rows.last: 마지막 동기화에서 실제로 쓴 행 수
+ * - onbid.sync.rows: 누적 동기화 행 수
+ * - onbid.sync.lag: 마지막 동기화 이후 경과 시간(초, 동기화 전에는 NaN)
  */
 @Service
 public class GoodsSyncStatusService {
 
     private final AtomicReference<LocalDateTime> lastSyncedAtRef = new AtomicReference<>();
+    private final AtomicReference<LocalDateTime> nextSyncAtRef = new AtomicReference<>();
+    private final AtomicInteger lastSyncedRows = new AtomicInteger();
+    private final Counter syncedRowsCounter;
+
+    public GoodsSyncStatusService(MeterRegistry meterRegistry) {
+        Gauge.builder("onbid.sync.rows.last", lastSyncedRows, AtomicInteger::get)
+                .description("마지막 동기화에서 저장한 행 수")
+                .register(meterRegistry);
+        Gauge.builder("onbid.sync.lag", this, GoodsSyncStatusService::getLagSeconds)
+                .description("마지막 동기화 이후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.syncedRowsCounter = Counter.builder("onbid.sync.rows")
+                .description("누적 동기화 행 수")
+                .register(meterRegistry);
+    }
 
     public void markSynced(LocalDateTime syncedAt) {
         lastSyncedAtRef.set(syncedAt);
     }
 
+    /**
+     * 동기화 완료 시각과 저장 행 수 기록
+     */
+    public void markSynced(LocalDateTime syncedAt, int syncedRows) {
+        lastSyncedRows.set(syncedRows);
+        syncedRowsCounter.increment(syncedRows);
+        markSynced(syncedAt);
+    }
+
     public LocalDateTime getLastSyncedAt() {
         return lastSyncedAtRef.get();
     }
 
+    /**
+     * 스케줄러 트리거가 정한 다음 동기화 예정 시각 기록
+     */
+    public void setNextSyncAt(LocalDateTime nextSyncAt) {
+        nextSyncAtRef.set(nextSyncAt);
+    }
+
     public LocalDateTime getNextSyncAt() {
-        LocalDateTime last = lastSyncedAtRef.get();
-        return last != null ? last.plusMinutes(1) : null;
+        return nextSyncAtRef.get();
     }
 
     public long getSecondsUntilNextSync() {
@@ -34,5 +72,9 @@ public class GoodsSyncStatusService {
         long seconds = Duration.between(LocalDateTime.now(), next).getSeconds();
         return Math.max(seconds, 0);
     }
-}
 
+    private double getLagSeconds() {
+        LocalDateTime last = lastSyncedAtRef.get();
+        return last != null ? Duration.between(last, LocalDateTime.now()).toMillis() / 1000.0 : Double.NaN;
+    }
+}
@@ -4,21 +4,31 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.onbid.domain.dto.Goods;
+import com.onbid.domain.dto.Response.GoodsPageSummary;
 import com.onbid.domain.dto.Response.GoodsResponse;
 import com.onbid.exception.BusinessException;
 import com.onbid.exception.ErrorCode;
 import com.onbid.mapper.OnbidGoodsMapper;
+import com.onbid.openapi.OnbidHttpClient;
+import com.onbid.openapi.xml.OnbidItemRaw;
+import com.onbid.openapi.xml.OnbidItemStreamReader;
 import com.onbid.openapi.xml.OnbidResponseRaw;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * 온비드 외부 API 호출과 XML 파싱을 담당하는 서비스
@@ -33,18 +43,29 @@ public class OnbidApiService {
     @Value("${onbid.api.url}")
     private String apiUrl;
     
-    private final RestTemplate restTemplate;
+    private final OnbidHttpClient onbidHttpClient;
     private final XmlMapper xmlMapper;
+    private final OnbidItemStreamReader itemStreamReader;
+    private final Timer bufferedParseTimer;
+    private final Timer streamingParseTimer;
+    private final Timer itemMappingTimer;
+    private final Timer pageMappingTimer;
     
     /**
-     * RestTemplate/XmlMapper를 주입받아 초기화
+     * 온비드 전용 HTTP 클라이언트를 주입받고 XmlMapper와 단계별 타이머를 초기화
      */
-    public OnbidApiService(RestTemplateBuilder restTemplateBuilder) {
-        this.restTemplate = restTemplateBuilder.build();
+    public OnbidApiService(OnbidHttpClient onbidHttpClient, MeterRegistry meterRegistry) {
+        this.onbidHttpClient = onbidHttpClient;
+        // 버퍼 파싱은 문자열 → Raw DTO 시간만, 스트리밍 파싱은 본문 수신과 item 처리까지 포함한 시간
+        this.bufferedParseTimer = stageTimer(meterRegistry, "onbid.xml.parse", "mode", "buffered");
+        this.streamingParseTimer = stageTimer(meterRegistry, "onbid.xml.parse", "mode", "streaming");
+        this.itemMappingTimer = stageTimer(meterRegistry, "onbid.mapping.to-domain", "scope", "item");
+        this.pageMappingTimer = stageTimer(meterRegistry, "onbid.mapping.to-domain", "scope", "page");
         this.xmlMapper = XmlMapper.builder()
                 .defaultUseWrapper(false)
                 .build();
         this.xmlMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.itemStreamReader = new OnbidItemStreamReader(xmlMapper);
     }
     
     /**
@@ -66,63 +87,61 @@ public class OnbidApiService {
             String pbctClsDtm,
             String cltrMnmtNo) {
         
+        URI uri = buildGoodsUri(pageNo, numOfRows, ctgrHirkId, sido, sgk, emd,
+                goodsPriceFrom, goodsPriceTo, openPriceFrom, openPriceTo,
+                cltrNm, pbctBegnDtm, pbctClsDtm, cltrMnmtNo);
+        log.info("Onbid API 호출 URL: {}", uri);
         try {
-            StringBuilder urlBuilder = new StringBuilder(apiUrl);
-            urlBuilder.append("?serviceKey=").append(apiKey);
-            urlBuilder.append("&numOfRows=").append(numOfRows);
-            urlBuilder.append("&pageNo=").append(pageNo);
-            urlBuilder.append("&DPSL_MTD_CD=0001");
-            
-            if (isNotEmpty(ctgrHirkId)) {
-                urlBuilder.append("&CTGR_HIRK_ID=").append(ctgrHirkId);
-            }
-            if (isNotEmpty(sido)) {
-                urlBuilder.append("&SIDO=").append(URLEncoder.encode(sido, StandardCharsets.UTF_8));
-            }
-            if (isNotEmpty(sgk)) {
-                urlBuilder.append("&SGK=").append(URLEncoder.encode(sgk, StandardCharsets.UTF_8));
-            }
-            if (isNotEmpty(emd)) {
-                urlBuilder.append("&EMD=").append(URLEncoder.encode(emd, StandardCharsets.UTF_8));
-            }
-            if (isNotEmpty(goodsPriceFrom)) {
-                urlBuilder.append("&GOODS_PRICE_FROM=").append(goodsPriceFrom);
-            }
-            if (isNotEmpty(goodsPriceTo)) {
-                urlBuilder.append("&GOODS_PRICE_TO=").append(goodsPriceTo);
-            }
-            if (isNotEmpty(openPriceFrom)) {
-                urlBuilder.append("&OPEN_PRICE_FROM=").append(openPriceFrom);
-            }
-            if (isNotEmpty(openPriceTo)) {
-                urlBuilder.append("&OPEN_PRICE_TO=").append(openPriceTo);
-            }
-            if (isNotEmpty(cltrNm)) {
-                urlBuilder.append("&CLTR_NM=").append(URLEncoder.encode(cltrNm, StandardCharsets.UTF_8));
-            }
-            if (isNotEmpty(pbctBegnDtm)) {
-                urlBuilder.append("&PBCT_BEGN_DTM=").append(pbctBegnDtm);
-            }
-            if (isNotEmpty(pbctClsDtm)) {
-                urlBuilder.append("&PBCT_CLS_DTM=").append(pbctClsDtm);
-            }
-            if (isNotEmpty(cltrMnmtNo)) {
-                urlBuilder.append("&CLTR_MNMT_NO=").append(URLEncoder.encode(cltrMnmtNo, StandardCharsets.UTF_8));
-            }
-            
-            URI uri = URI.create(urlBuilder.toString());
-            log.info("Onbid API 호출 URL: {}", uri);
-            long start = System.currentTimeMillis();
-            String response = restTemplate.getForObject(uri, String.class);
-            long elapsed = System.currentTimeMillis() - start;
-            log.info("Onbid API 호출 완료 - {}ms", elapsed);
-            return response;
-        } catch (Exception ex) {
-            log.error("Onbid API 호출 실패", ex);
-            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "Onbid API 호출 실패: " + ex.getMessage());
+            return onbidHttpClient.get(uri, (body, charset) -> new String(body.readAllBytes(), charset));
+        } catch (BusinessException ex) {
+            log.error("Onbid API 호출 실패: {}", ex.getMessage());
+            throw ex;
+        }
+    }
+    
+    /**
+     * 물건 목록을 스트리밍으로 조회
+     * 응답 본문을 InputStream 그대로 StAX 로 읽으며 item 하나가 완성될 때마다 consumer 에 넘긴다.
+     * @param consumer 변환된 물건을 받는 콜백 (응답을 읽는 스레드에서 호출됨)
+     * @return item 목록을 제외한 응답 요약 (totalCount 등)
+     */
+    public GoodsPageSummary streamGoods(int pageNo, int numOfRows, String ctgrHirkId, String sido,
+                                        Consumer<Goods> consumer) {
+        URI uri = buildGoodsUri(pageNo, numOfRows, ctgrHirkId, sido,
+                null, null, null, null, null, null, null, null, null, null);
+        log.info("Onbid API 스트리밍 호출 URL: {}", uri);
+        try {
+            return onbidHttpClient.get(uri, (body, charset) -> readStreaming(body,
+                    raw -> consumer.accept(toDomainTimed(raw))));
+        } catch (BusinessException ex) {
+            log.error("Onbid API 스트리밍 호출 실패: {}", ex.getMessage());
+            throw ex;
         }
     }
     
+    /**
+     * 물건 목록 조회 및 파싱 (비동기)
+     * 호출 스레드를 막지 않고, 응답은 문자열로 만들지 않고 스트리밍으로 읽어 조립한다.
+     */
+    public CompletableFuture<GoodsResponse> getGoodsListParsedAsync(
+            int pageNo, int numOfRows, String ctgrHirkId, String sido) {
+        URI uri = buildGoodsUri(pageNo, numOfRows, ctgrHirkId, sido,
+                null, null, null, null, null, null, null, null, null, null);
+        log.info("Onbid API 비동기 호출 URL: {}", uri);
+        return onbidHttpClient.getAsync(uri, (body, charset) -> {
+            List<Goods> items = new ArrayList<>();
+            GoodsPageSummary summary = readStreaming(body, raw -> items.add(toDomainTimed(raw)));
+            return toGoodsResponse(summary, items);
+        });
+    }
+    
+    /**
+     * 호출 지연시간/커넥션 풀 통계
+     */
+    public Map<String, Object> getUpstreamStats() {
+        return onbidHttpClient.stats();
+    }
+    
     /**
      * 간단한 물건 목록 조회
      */
@@ -136,8 +155,13 @@ public class OnbidApiService {
      */
     public GoodsResponse parseXmlToGoodsResponse(String xml) {
         try {
+            long start = System.nanoTime();
             OnbidResponseRaw raw = xmlMapper.readValue(xml, OnbidResponseRaw.class);
-            return OnbidGoodsMapper.toDomain(raw);
+            long parsed = System.nanoTime();
+            bufferedParseTimer.record(parsed - start, TimeUnit.NANOSECONDS);
+            GoodsResponse response = OnbidGoodsMapper.toDomain(raw);
+            pageMappingTimer.record(System.nanoTime() - parsed, TimeUnit.NANOSECONDS);
+            return response;
         } catch (JsonProcessingException ex) {
             log.error("XML 파싱 실패", ex);
             throw new BusinessException(ErrorCode.XML_PARSE_ERROR, "XML 파싱 실패: " + ex.getOriginalMessage());
@@ -176,6 +200,105 @@ public class OnbidApiService {
                 .orElse(List.of());
     }
     
+    private GoodsPageSummary readStreaming(InputStream body, Consumer<OnbidItemRaw> itemConsumer) {
+        long start = System.nanoTime();
+        try {
+            return itemStreamReader.read(body, itemConsumer);
+        } finally {
+            streamingParseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    private Goods toDomainTimed(OnbidItemRaw raw) {
+        long start = System.nanoTime();
+        Goods goods = OnbidGoodsMapper.toDomain(raw);
+        itemMappingTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return goods;
+    }
+    
+    private static Timer stageTimer(MeterRegistry meterRegistry, String name, String tagKey, String tagValue) {
+        return Timer.builder(name)
+                .tag(tagKey, tagValue)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+    
+    private GoodsResponse toGoodsResponse(GoodsPageSummary summary, List<Goods> items) {
+        return GoodsResponse.builder()
+                .header(GoodsResponse.Header.builder()
+                        .resultCode(summary.getResultCode())
+                        .resultMsg(summary.getResultMsg())
+                        .build())
+                .body(GoodsResponse.Body.builder()
+                        .items(items)
+                        .numOfRows(summary.getNumOfRows())
+                        .pageNo(summary.getPageNo())
+                        .totalCount(summary.getTotalCount())
+                        .build())
+                .build();
+    }
+    
+    private URI buildGoodsUri(
+            int pageNo,
+            int numOfRows,
+            String ctgrHirkId,
+            String sido,
+            String sgk,
+            String emd,
+            String goodsPriceFrom,
+            String goodsPriceTo,
+            String openPriceFrom,
+            String openPriceTo,
+            String cltrNm,
+            String pbctBegnDtm,
+            String pbctClsDtm,
+            String cltrMnmtNo) {
+        
+        StringBuilder urlBuilder = new StringBuilder(apiUrl);
+        urlBuilder.append("?serviceKey=").append(apiKey);
+        urlBuilder.append("&numOfRows=").append(numOfRows);
+        urlBuilder.append("&pageNo=").append(pageNo);
+        urlBuilder.append("&DPSL_MTD_CD=0001");
+        
+        if (isNotEmpty(ctgrHirkId)) {
+            urlBuilder.append("&CTGR_HIRK_ID=").append(ctgrHirkId);
+        }
+        if (isNotEmpty(sido)) {
+            urlBuilder.append("&SIDO=").append(URLEncoder.encode(sido, StandardCharsets.UTF_8));
+        }
+        if (isNotEmpty(sgk)) {
+            urlBuilder.append("&SGK=").append(URLEncoder.encode(sgk, StandardCharsets.UTF_8));
+        }
+        if (isNotEmpty(emd)) {
+            urlBuilder.append("&EMD=").append(URLEncoder.encode(emd, StandardCharsets.UTF_8));
+        }
+        if (isNotEmpty(goodsPriceFrom)) {
+            urlBuilder.append("&GOODS_PRICE_FROM=").append(goodsPriceFrom);
+        }
+        if (isNotEmpty(goodsPriceTo)) {
+            urlBuilder.append("&GOODS_PRICE_TO=").append(goodsPriceTo);
+        }
+        if (isNotEmpty(openPriceFrom)) {
+            urlBuilder.append("&OPEN_PRICE_FROM=").append(openPriceFrom);
+        }
+        if (isNotEmpty(openPriceTo)) {
+            urlBuilder.append("&OPEN_PRICE_TO=").append(openPriceTo);
+        }
+        if (isNotEmpty(cltrNm)) {
+            urlBuilder.append("&CLTR_NM=").append(URLEncoder.encode(cltrNm, StandardCharsets.UTF_8));
+        }
+        if (isNotEmpty(pbctBegnDtm)) {
+            urlBuilder.append("&PBCT_BEGN_DTM=").append(pbctBegnDtm);
+        }
+        if (isNotEmpty(pbctClsDtm)) {
+            urlBuilder.append("&PBCT_CLS_DTM=").append(pbctClsDtm);
+        }
+        if (isNotEmpty(cltrMnmtNo)) {
+            urlBuilder.append("&CLTR_MNMT_NO=").append(URLEncoder.encode(cltrMnmtNo, StandardCharsets.UTF_8));
+        }
+        return URI.create(urlBuilder.toString());
+    }
+    
     private boolean isNotEmpty(String str) {
         return str != null && !str.trim().isEmpty();
     }
@@ -0,0 +1,150 @@
+package com.onbid.service;
+
+import com.onbid.domain.dto.Goods;
+import com.onbid.domain.dto.Response.GoodsPageSummary;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 온비드 목록 API 페이지 크롤러
+ * 모든 페이지 호출이 하나의 동시성 상한(max-concurrency)과 재시도 정책을 함께 쓰고,
+ * 크롤링이 끝나면 평균 페이지 지연시간으로 다음 크롤링의 페이지 크기를 조정한다.
+ */
+@Slf4j
+@Service
+public class OnbidCatalogCrawler {
+
+    private final OnbidApiService onbidApiService;
+    private final Semaphore permits;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+    private final int minPageSize;
+    private final int maxPageSize;
+    private final long targetPageLatencyMs;
+
+    /**
+     * 다음 크롤링에 사용할 페이지 크기 (직전 크롤링의 페이지 지연시간으로 조정)
+     */
+    private final AtomicInteger pageSize;
+
+    public OnbidCatalogCrawler(
+            OnbidApiService onbidApiService,
+            @Value("${onbid.crawler.max-concurrency:8}") int maxConcurrency,
+            @Value("${onbid.crawler.max-retries:3}") int maxRetries,
+            @Value("${onbid.crawler.retry-backoff-ms:300}") long retryBackoffMs,
+            @Value("${onbid.crawler.initial-page-size:1000}") int initialPageSize,
+            @Value("${onbid.crawler.min-page-size:100}") int minPageSize,
+            @Value("${onbid.crawler.max-page-size:1000}") int maxPageSize,
+            @Value("${onbid.crawler.target-page-latency-ms:2000}") long targetPageLatencyMs) {
+        this.onbidApiService = onbidApiService;
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffMs = retryBackoffMs;
+        this.minPageSize = Math.max(1, minPageSize);
+        this.maxPageSize = Math.max(this.minPageSize, maxPageSize);
+        this.targetPageLatencyMs = targetPageLatencyMs;
+        this.pageSize = new AtomicInteger(clampPageSize(initialPageSize));
+    }
+
+    /**
+     * 현재 적용 중인 페이지 크기
+     */
+    public int getCurrentPageSize() {
+        return pageSize.get();
+    }
+
+    /**
+     * 한 페이지를 동시성 상한 안에서 재시도 정책에 따라 조회
+     * 응답을 문자열로 모으지 않고 스트림에서 item 단위로 읽으며,
+     * 시도마다 새 목록에 모아 실패한 시도의 일부 결과가 섞이지 않게 한다.
+     */
+    public Page fetchPage(int pageNo, int rows, String ctgrHirkId, String sido) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "온비드 크롤링이 중단되었습니다.");
+        }
+        try {
+            return withRetry(pageNo, () -> {
+                List<Goods> items = new ArrayList<>(rows);
+                long start = System.currentTimeMillis();
+                GoodsPageSummary summary = onbidApiService.streamGoods(pageNo, rows, ctgrHirkId, sido, items::add);
+                long elapsed = System.currentTimeMillis() - start;
+                int totalCount = summary.getTotalCount() != null ? summary.getTotalCount() : summary.getItemCount();
+                return new Page(items, totalCount, elapsed);
+            });
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 한 페이지 호출을 크롤러의 재시도 정책(횟수, 지수 대기, 서킷 OPEN 시 즉시 포기)으로 실행
+     * 동기화 파이프라인의 수집 단계도 같은 정책을 쓰도록 공개한다.
+     */
+    public <T> T withRetry(int pageNo, Supplier<T> call) {
+        BusinessException lastError = null;
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            if (attempt > 0) {
+                sleepBeforeRetry(attempt);
+                log.warn("[Crawler] {}페이지 재시도 {}/{}", pageNo, attempt, maxRetries);
+            }
+            try {
+                return call.get();
+            } catch (BusinessException ex) {
+                if (ex.getErrorCode() == ErrorCode.UPSTREAM_CIRCUIT_OPEN) {
+                    // 서킷이 열려 있으면 재시도해도 바로 거절되므로 즉시 포기
+                    throw ex;
+                }
+                lastError = ex;
+            }
+        }
+        throw lastError;
+    }
+
+    private void sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMs << (attempt - 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "온비드 크롤링이 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 평균 페이지 지연시간이 목표보다 크면 페이지를 절반으로, 목표의 절반보다 작으면 두 배로 조정
+     * 한 번의 크롤링 안에서는 pageNo 오프셋이 어긋나지 않도록 크기를 고정하고, 크롤링이 끝난 뒤 호출해 다음 크롤링부터 반영한다.
+     */
+    public void tunePageSize(int usedRows, long avgLatencyMs) {
+        int next = usedRows;
+        if (avgLatencyMs > targetPageLatencyMs) {
+            next = clampPageSize(usedRows / 2);
+        } else if (avgLatencyMs < targetPageLatencyMs / 2) {
+            next = clampPageSize(usedRows * 2);
+        }
+        if (next != usedRows) {
+            log.info("[Crawler] 페이지 크기 조정 {} → {} (평균 {}ms, 목표 {}ms)",
+                    usedRows, next, avgLatencyMs, targetPageLatencyMs);
+        }
+        pageSize.set(next);
+    }
+
+    private int clampPageSize(int rows) {
+        return Math.min(maxPageSize, Math.max(minPageSize, rows));
+    }
+
+    /**
+     * 페이지 단위 조회 결과 (elapsedMs 는 성공한 시도의 응답 수신 + 파싱 시간)
+     */
+    public record Page(List<Goods> items, int totalCount, long elapsedMs) {
+    }
+}
@@ -0,0 +1,237 @@
+package com.onbid.service;
+
+import com.onbid.domain.dto.Request.GoodsSearchRequest;
+import com.onbid.domain.dto.Response.GoodsResponse;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 온비드 실시간 조회(/api/goods) 응답 캐시
+ * - TTL 이 지나지 않은 응답은 그대로 반환
+ * - TTL 이후 stale 구간에서는 이전 응답을 즉시 돌려주고 백그라운드에서 다시 조회
+ * - 같은 키의 동시 요청은 진행 중인 한 번의 외부 호출 결과를 함께 기다림 (single-flight)
+ * - 온비드 장애(서킷 OPEN, 한도 초과, 호출 실패) 중에는 stale 구간이 지난 응답이라도 남아 있으면 대신 반환
+ */
+@Slf4j
+@Component
+public class OnbidResponseCache {
+
+    private final long ttlMillis;
+    private final long staleMillis;
+    private final int maxEntries;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<GoodsResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public OnbidResponseCache(
+            @Value("${onbid.cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${onbid.cache.stale-seconds:120}") long staleSeconds,
+            @Value("${onbid.cache.max-entries:500}") int maxEntries) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.staleMillis = staleSeconds * 1000;
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * 캐시에서 응답을 찾고, 없거나 너무 오래되었으면 loader 로 조회
+     * @param key 정규화된 검색 조건 키 ({@link #keyOf})
+     * @param loader 외부 API 호출
+     */
+    public GoodsResponse get(String key, Supplier<GoodsResponse> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            long age = now - entry.loadedAt;
+            if (age <= ttlMillis) {
+                hits.increment();
+                entry.lastAccess = now;
+                return entry.value;
+            }
+            if (age <= ttlMillis + staleMillis) {
+                staleHits.increment();
+                entry.lastAccess = now;
+                refreshInBackground(key, loader);
+                return entry.value;
+            }
+        }
+        misses.increment();
+        try {
+            return load(key, loader);
+        } catch (BusinessException ex) {
+            if (entry == null || !isUpstreamFailure(ex.getErrorCode())) {
+                throw ex;
+            }
+            fallbacks.increment();
+            log.warn("온비드 장애로 만료된 캐시 응답 반환 - key: {}, 경과: {}초, 오류: {}",
+                    key, (now - entry.loadedAt) / 1000, ex.getMessage());
+            return entry.value;
+        }
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.sum());
+        stats.put("staleHits", staleHits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("refreshes", refreshes.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("fallbacks", fallbacks.sum());
+        stats.put("size", entries.size());
+        stats.put("inFlight", inFlight.size());
+        return stats;
+    }
+
+    /**
+     * 검색 조건을 캐시 키로 정규화 (앞뒤 공백 제거, 빈 값은 미지정과 동일하게 취급)
+     * loader 도 같은 조건으로 호출해야 하므로 호출자는 {@link GoodsSearchRequest#normalized()} 사본을 넘긴다.
+     */
+    public static String keyOf(GoodsSearchRequest request) {
+        return new StringBuilder()
+                .append("pageNo=").append(request.getPageNo())
+                .append("&numOfRows=").append(request.getNumOfRows())
+                .append("&ctgrHirkId=").append(normalize(request.getCtgrHirkId()))
+                .append("&sido=").append(normalize(request.getSido()))
+                .append("&sgk=").append(normalize(request.getSgk()))
+                .append("&emd=").append(normalize(request.getEmd()))
+                .append("&goodsPriceFrom=").append(normalize(request.getGoodsPriceFrom()))
+                .append("&goodsPriceTo=").append(normalize(request.getGoodsPriceTo()))
+                .append("&openPriceFrom=").append(normalize(request.getOpenPriceFrom()))
+                .append("&openPriceTo=").append(normalize(request.getOpenPriceTo()))
+                .append("&cltrNm=").append(normalize(request.getCltrNm()))
+                .append("&pbctBegnDtm=").append(normalize(request.getPbctBegnDtm()))
+                .append("&pbctClsDtm=").append(normalize(request.getPbctClsDtm()))
+                .append("&cltrMnmtNo=").append(normalize(request.getCltrMnmtNo()))
+                .toString();
+    }
+
+    /**
+     * 같은 키의 조회가 진행 중이면 그 결과를 기다리고, 아니면 직접 조회해 캐시에 저장
+     */
+    private GoodsResponse load(String key, Supplier<GoodsResponse> loader) {
+        CompletableFuture<GoodsResponse> mine = new CompletableFuture<>();
+        CompletableFuture<GoodsResponse> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return join(running);
+        }
+        try {
+            GoodsResponse value = loader.get();
+            put(key, value);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void refreshInBackground(String key, Supplier<GoodsResponse> loader) {
+        if (inFlight.containsKey(key)) {
+            return;
+        }
+        refreshes.increment();
+        Thread.ofVirtual().name("onbid-cache-refresh").start(() -> {
+            try {
+                load(key, loader);
+            } catch (RuntimeException ex) {
+                // 갱신 실패 시 기존 응답을 stale 구간 끝까지 계속 사용
+                log.warn("캐시 백그라운드 갱신 실패 - key: {}, 오류: {}", key, ex.getMessage());
+            }
+        });
+    }
+
+    private void put(String key, GoodsResponse value) {
+        long now = System.currentTimeMillis();
+        entries.put(key, new Entry(value, now));
+        if (entries.size() > maxEntries) {
+            evict(now);
+        }
+    }
+
+    /**
+     * 만료된 항목을 먼저 지우고, 그래도 넘치면 가장 오래 사용되지 않은 항목부터 정리 (여유분 10% 확보)
+     */
+    private synchronized void evict(long now) {
+        entries.entrySet().removeIf(e -> {
+            boolean expired = now - e.getValue().loadedAt > ttlMillis + staleMillis;
+            if (expired) {
+                evictions.increment();
+            }
+            return expired;
+        });
+        int overflow = entries.size() - (maxEntries - maxEntries / 10);
+        if (overflow <= 0) {
+            return;
+        }
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().lastAccess))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(victim -> {
+                    entries.remove(victim);
+                    evictions.increment();
+                });
+    }
+
+    private GoodsResponse join(CompletableFuture<GoodsResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "Onbid API 호출 실패: " + ex.getCause().getMessage());
+        }
+    }
+
+    private static boolean isUpstreamFailure(ErrorCode errorCode) {
+        return errorCode == ErrorCode.EXTERNAL_API_ERROR
+                || errorCode == ErrorCode.UPSTREAM_CIRCUIT_OPEN
+                || errorCode == ErrorCode.UPSTREAM_OVERLOADED;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim();
+    }
+
+    /**
+     * 캐시 항목 (lastAccess 는 LRU 정리에만 쓰이므로 대략적인 값이면 충분)
+     */
+    private static final class Entry {
+        private final GoodsResponse value;
+        private final long loadedAt;
+        private volatile long lastAccess;
+
+        private Entry(GoodsResponse value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+            this.lastAccess = loadedAt;
+        }
+    }
+}
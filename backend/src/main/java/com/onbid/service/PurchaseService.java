@@ -1,15 +1,20 @@
 package com.onbid.service;
 
 import com.onbid.domain.dto.Request.PurchaseRequest;
+import com.onbid.domain.dto.Response.PurchaseResult;
 import com.onbid.domain.entity.PurchaseEntity;
 import com.onbid.exception.BusinessException;
 import com.onbid.exception.ErrorCode;
 import com.onbid.mapper.PurchaseMapper;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 매매(구매) 서비스
@@ -20,15 +25,22 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PurchaseService {
     
+    private static final int MAX_FLAG_LOOKUP = 1000;
+    
     private final PurchaseMapper purchaseMapper;
+    private final PurchasedItemIndex purchasedItemIndex;
+    private final GoodsService goodsService;
     
     /**
      * 구매 생성
+     * 중복 여부를 DB에서 먼저 조회하지 않고 바로 삽입하며, 물건당 완료 구매 1건은 DB 유니크 제약이 보장한다.
+     * 멱등 키 없이 이미 구매된 물건을 다시 구매하면 구매 인덱스만 보고 DB 접근 없이 거절한다.
+     * 단일 INSERT 라 별도 트랜잭션 없이 자동 커밋으로 처리한다.
      * @param request 구매 요청 정보
-     * @return 생성된 구매 정보
+     * @param idempotencyKey 멱등 키 (Idempotency-Key 헤더, 없으면 요청 본문의 값 사용)
+     * @return 생성된 구매 정보 (같은 멱등 키의 재요청이면 처음 구매)
      */
-    @Transactional
-    public PurchaseEntity createPurchase(PurchaseRequest request) {
+    public PurchaseResult createPurchase(PurchaseRequest request, String idempotencyKey) {
         log.info("구매 생성 - historyNo: {}, price: {}", 
                 request.getHistoryNo(), request.getPurchasePrice());
 
@@ -36,24 +48,64 @@ public class PurchaseService {
             // 필수 값이 비어 있으면 비즈니스 예외로 클라이언트에 안내
             throw new BusinessException(ErrorCode.INVALID_REQUEST, "historyNo와 purchasePrice는 필수입니다.");
         }
-
-        if (purchaseMapper.countByHistoryNo(request.getHistoryNo()) > 0) {
-            // 동일 물건 중복 구매를 방지하기 위해 명시적으로 실패 처리
-            throw new BusinessException(ErrorCode.DUPLICATED_PURCHASE, "이미 구매가 완료된 물건입니다.");
-        }
         
         // PurchaseEntity 엔티티 생성
         PurchaseEntity purchase = PurchaseEntity.builder()
                 .historyNo(request.getHistoryNo())
                 .purchasePrice(request.getPurchasePrice())
                 .purchaseStatus("COMPLETED")  // 기본값: 완료
+                .idempotencyKey(normalizeKey(idempotencyKey != null ? idempotencyKey : request.getIdempotencyKey()))
                 .build();
+
+        // 멱등 키가 있으면 재요청일 수 있으므로 DB에서 기존 구매를 찾아야 한다.
+        if (purchase.getIdempotencyKey() == null && purchasedItemIndex.contains(purchase.getHistoryNo())) {
+            throw new BusinessException(ErrorCode.DUPLICATED_PURCHASE, "이미 구매가 완료된 물건입니다.");
+        }
+        
+        // purchases 에는 보관된 물건도 남아야 해서 FK 가 없으므로 물건 존재를 직접 확인 (대부분 읽기 모델에서 끝남)
+        goodsService.getGoodsByHistoryNo(purchase.getHistoryNo());
         
-        // DB에 저장
-        purchaseMapper.insert(purchase);
+        // DB에 저장 (동시 구매 중 하나만 성공하고 나머지는 유니크 제약 위반)
+        try {
+            purchaseMapper.insert(purchase);
+        } catch (DuplicateKeyException ex) {
+            return resolveDuplicate(purchase);
+        }
+        purchasedItemIndex.add(purchase.getHistoryNo());
         
         log.info("구매 완료 - purchaseId: {}", purchase.getId());
-        return purchase;
+        return PurchaseResult.created(purchase);
+    }
+    
+    /**
+     * 유니크 제약 위반 처리
+     * 같은 멱등 키의 구매가 있으면 재요청으로 보고 그 구매를 반환하고, 아니면 이미 구매된 물건으로 실패 처리
+     */
+    private PurchaseResult resolveDuplicate(PurchaseEntity attempted) {
+        if (attempted.getIdempotencyKey() != null) {
+            PurchaseEntity existing = purchaseMapper.findByIdempotencyKey(attempted.getIdempotencyKey());
+            if (existing != null) {
+                if (!existing.getHistoryNo().equals(attempted.getHistoryNo())) {
+                    throw new BusinessException(ErrorCode.INVALID_REQUEST, "다른 물건 구매에 이미 사용된 멱등 키입니다.");
+                }
+                log.info("멱등 키 재요청 - 기존 구매 반환, purchaseId: {}", existing.getId());
+                return PurchaseResult.replayed(existing);
+            }
+        }
+        // 인덱스에 없던 완료 구매(인덱스 적재 이후 다른 경로로 들어온 행)라면 함께 맞춰 둔다.
+        purchasedItemIndex.add(attempted.getHistoryNo());
+        throw new BusinessException(ErrorCode.DUPLICATED_PURCHASE, "이미 구매가 완료된 물건입니다.");
+    }
+    
+    private String normalizeKey(String key) {
+        if (key == null || key.isBlank()) {
+            return null;
+        }
+        String trimmed = key.trim();
+        if (trimmed.length() > 64) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "멱등 키는 64자 이하여야 합니다.");
+        }
+        return trimmed;
     }
     
     /**
@@ -82,7 +134,27 @@ public class PurchaseService {
     @Transactional
     public int resetAllPurchases() {
         log.warn("구매 이력 전체 삭제 요청 처리");
-        return purchaseMapper.deleteAll();
+        int deleted = purchaseMapper.deleteAll();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                purchasedItemIndex.clear();
+            }
+        });
+        return deleted;
+    }
+
+    /**
+     * 여러 물건의 구매 완료 여부 조회 (구매 인덱스에서 바로 응답, DB 조회 없음)
+     * @param historyNos 물건이력번호 목록
+     * @return 물건이력번호별 구매 여부
+     */
+    public Map<Long, Boolean> getPurchasedFlags(List<Long> historyNos) {
+        if (historyNos.size() > MAX_FLAG_LOOKUP) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    "한 번에 조회할 수 있는 물건은 최대 " + MAX_FLAG_LOOKUP + "건입니다.");
+        }
+        return purchasedItemIndex.flags(historyNos);
     }
 }
 
@@ -0,0 +1,157 @@
+package com.onbid.service;
+
+import com.onbid.mapper.PurchaseMapper;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구매 완료된 물건이력번호 인덱스 (Roaring 압축 비트맵)
+ * "이미 구매한 물건인지" 확인을 DB 조회 없이 메모리에서 바로 답한다.
+ * 기동 시 purchases 에서 한 번 적재하고, 이후에는 구매 등록/초기화 시점에 함께 갱신한다.
+ * 물건당 완료 구매 1건은 여전히 DB 유니크 제약이 보장하며, 이 인덱스는 조회용이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PurchasedItemIndex {
+
+    private final PurchaseMapper purchaseMapper;
+
+    // RoaringBitmap 은 스레드 안전하지 않으므로 읽기/쓰기 락으로 보호
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap purchased = new RoaringBitmap();
+    private volatile boolean loaded;
+
+    /**
+     * 기동 완료 시 미리 적재해 첫 요청이 적재 비용을 내지 않게 한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            ensureLoaded();
+        } catch (RuntimeException ex) {
+            // DB 가 아직 준비되지 않았으면 첫 조회 때 다시 시도
+            log.warn("구매 인덱스 사전 적재 실패 - 첫 조회 때 다시 시도합니다: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 구매 완료 여부
+     */
+    public boolean contains(Long historyNo) {
+        ensureLoaded();
+        if (!isIndexable(historyNo)) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return purchased.contains(historyNo.intValue());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 여러 물건의 구매 완료 여부를 한 번에 조회
+     * @return 요청 순서를 유지한 물건이력번호별 구매 여부
+     */
+    public Map<Long, Boolean> flags(Collection<Long> historyNos) {
+        ensureLoaded();
+        Map<Long, Boolean> flags = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Long historyNo : historyNos) {
+                flags.put(historyNo, isIndexable(historyNo) && purchased.contains(historyNo.intValue()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return flags;
+    }
+
+    /**
+     * 구매 완료된 물건 추가 (구매 INSERT 가 커밋된 뒤 호출)
+     */
+    public void add(Long historyNo) {
+        if (!isIndexable(historyNo)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            purchased.add(historyNo.intValue());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 구매 전체 삭제가 커밋된 뒤 호출 (빈 상태를 적재 완료로 간주)
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            purchased.clear();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스 통계
+     */
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("loaded", loaded);
+            stats.put("purchasedItems", purchased.getLongCardinality());
+            stats.put("sizeInBytes", purchased.getLongSizeInBytes());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            List<Long> historyNos = purchaseMapper.findCompletedHistoryNos();
+            // 적재 전에 add 된 번호가 있을 수 있으므로 덮어쓰지 않고 합친다.
+            for (Long historyNo : historyNos) {
+                if (isIndexable(historyNo)) {
+                    purchased.add(historyNo.intValue());
+                }
+            }
+            purchased.runOptimize();
+            loaded = true;
+            log.info("구매 인덱스 적재 완료 - {}건, {}bytes",
+                    purchased.getLongCardinality(), purchased.getLongSizeInBytes());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * history_no 는 INT 컬럼이므로 0 이상 int 범위만 비트맵에 담는다.
+     */
+    private static boolean isIndexable(Long historyNo) {
+        return historyNo != null && historyNo >= 0 && historyNo <= Integer.MAX_VALUE;
+    }
+}
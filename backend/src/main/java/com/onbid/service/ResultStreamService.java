@@ -0,0 +1,157 @@
+package com.onbid.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import com.onbid.mapper.GoodsMapper;
+import com.onbid.mapper.PurchaseMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 대용량 조회 결과 스트리밍 서비스
+ * MyBatis 커서로 한 행씩 읽어 Jackson 스트리밍 생성기로 바로 응답에 쓰므로,
+ * 전체 목록 List 와 직렬화된 본문을 동시에 들고 있지 않고 메모리 사용량이 테이블 크기와 무관하다.
+ *
+ * 형식
+ * - JSON: 기존 목록 응답과 같은 {"success": true, "items": [...], "count": n} (count 는 마지막에 기록)
+ * - NDJSON: 한 줄에 한 행 (application/x-ndjson)
+ */
+@Slf4j
+@Service
+public class ResultStreamService {
+
+    private final ObjectMapper objectMapper;
+    private final GoodsMapper goodsMapper;
+    private final PurchaseMapper purchaseMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int flushRows;
+
+    public ResultStreamService(
+            ObjectMapper objectMapper,
+            GoodsMapper goodsMapper,
+            PurchaseMapper purchaseMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${onbid.stream-export.flush-rows:500}") int flushRows) {
+        this.objectMapper = objectMapper;
+        this.goodsMapper = goodsMapper;
+        this.purchaseMapper = purchaseMapper;
+        // 커서는 SqlSession 이 열려 있는 동안만 읽을 수 있어 읽기 전용 트랜잭션으로 묶는다.
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.flushRows = Math.max(1, flushRows);
+    }
+
+    /**
+     * 전체 물건 스트리밍 응답 본문
+     */
+    public StreamingResponseBody goods(Format format) {
+        return out -> write(out, format, "goods", goodsMapper::streamAll);
+    }
+
+    /**
+     * 전체 구매 이력 스트리밍 응답 본문
+     */
+    public StreamingResponseBody purchases(Format format) {
+        return out -> write(out, format, "purchases", purchaseMapper::streamAll);
+    }
+
+    private <T> void write(OutputStream out, Format format, String name, Supplier<Cursor<T>> query)
+            throws IOException {
+        long start = System.currentTimeMillis();
+        try {
+            long count = readOnlyTransaction.execute(status -> {
+                try (Cursor<T> cursor = query.get(); JsonGenerator generator = createGenerator(out, format)) {
+                    return writeRows(generator, cursor, format);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            log.info("{} 스트리밍 완료 - {}건, 형식: {}, {}ms", name, count, format,
+                    System.currentTimeMillis() - start);
+        } catch (UncheckedIOException ex) {
+            // 응답이 이미 나가는 중이라 오류 응답으로 바꿀 수 없으므로 연결을 끊어 불완전한 본문임을 알린다.
+            // (DB 오류 같은 RuntimeException 도 그대로 던져져 같은 방식으로 끊긴다)
+            log.warn("{} 스트리밍 중단 - {}ms: {}", name, System.currentTimeMillis() - start, ex.getMessage());
+            throw ex.getCause();
+        }
+    }
+
+    private JsonGenerator createGenerator(OutputStream out, Format format) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        // 응답 스트림은 컨테이너가 닫는다.
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // 커서/DB 오류로 중간에 끝났을 때 close() 가 ]} 를 채워 잘린 본문이 완전한 JSON 처럼 보이지 않게 한다.
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        if (format == Format.NDJSON) {
+            // 최상위 값 사이 기본 구분자(공백) 대신 줄바꿈을 직접 쓴다.
+            generator.setRootValueSeparator(null);
+        }
+        return generator;
+    }
+
+    private <T> long writeRows(JsonGenerator generator, Cursor<T> cursor, Format format) throws IOException {
+        if (format == Format.JSON) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeArrayFieldStart("items");
+        }
+        long count = 0;
+        for (T row : cursor) {
+            generator.writeObject(row);
+            if (format == Format.NDJSON) {
+                generator.writeRaw('\n');
+            }
+            if (++count % flushRows == 0) {
+                // 버퍼에 쌓인 행을 내보내 클라이언트가 앞부분부터 처리할 수 있게 한다.
+                generator.flush();
+            }
+        }
+        if (format == Format.JSON) {
+            generator.writeEndArray();
+            generator.writeNumberField("count", count);
+            generator.writeEndObject();
+        }
+        generator.flush();
+        return count;
+    }
+
+    /**
+     * 스트리밍 응답 형식
+     */
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON),
+        NDJSON(MediaType.APPLICATION_NDJSON);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public static Format from(String format) {
+            if (format == null || format.isBlank() || "json".equalsIgnoreCase(format)) {
+                return JSON;
+            }
+            if ("ndjson".equalsIgnoreCase(format)) {
+                return NDJSON;
+            }
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "지원하지 않는 스트리밍 형식입니다: " + format);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+-- 변경 감지용 지문 컬럼 추가 (기존 DB에 적용, 값은 다음 동기화 때 채워짐)
+ALTER TABLE goods_basic
+    ADD COLUMN content_hash BIGINT COMMENT '기본정보 지문 (변경 감지용)' AFTER address;
+
+ALTER TABLE goods_price
+    ADD COLUMN content_hash BIGINT COMMENT '가격정보 지문 (변경 감지용)' AFTER favorite_count;
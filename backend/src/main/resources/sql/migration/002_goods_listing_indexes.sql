@@ -0,0 +1,10 @@
+-- 키셋 페이지 조회/필터용 복합 인덱스 (InnoDB 보조 인덱스에는 PK(id)가 포함되지만 정렬 의도를 드러내기 위해 명시)
+ALTER TABLE goods_basic
+    ADD INDEX idx_category_id (category_name, id),
+    ADD INDEX idx_status_id (status_name, id),
+    ADD INDEX idx_bid_close_id (bid_close_date, id),
+    ADD INDEX idx_address_prefix (address(191));
+
+ALTER TABLE goods_price
+    ADD INDEX idx_min_bid_price (min_bid_price, history_no),
+    ADD INDEX idx_appraisal_price (appraisal_price, history_no);
@@ -0,0 +1,19 @@
+-- 완료 구매는 물건당 1건만 허용 (조회 후 삽입 대신 DB 유니크 제약으로 보장)
+-- 기존 데이터에 같은 물건의 완료 구매가 여러 건 있으면 가장 먼저 들어온 건만 남기고 나머지는 취소 처리
+UPDATE purchases p
+    JOIN (SELECT history_no, MIN(id) AS keep_id
+          FROM purchases
+          WHERE purchase_status = 'COMPLETED'
+          GROUP BY history_no
+          HAVING COUNT(*) > 1) d ON d.history_no = p.history_no
+SET p.purchase_status = 'CANCELLED'
+WHERE p.purchase_status = 'COMPLETED'
+  AND p.id <> d.keep_id;
+
+ALTER TABLE purchases
+    ADD COLUMN idempotency_key VARCHAR(64) COMMENT '클라이언트 멱등 키 (재시도 시 같은 구매 반환)' AFTER purchase_status,
+    ADD COLUMN completed_history_no INT GENERATED ALWAYS AS
+        (CASE WHEN purchase_status = 'COMPLETED' THEN history_no END) STORED
+        COMMENT '완료된 구매의 물건이력번호 (완료 구매는 물건당 1건만 허용하기 위한 유니크 키)' AFTER idempotency_key,
+    ADD UNIQUE KEY uk_completed_history_no (completed_history_no),
+    ADD UNIQUE KEY uk_idempotency_key (idempotency_key);
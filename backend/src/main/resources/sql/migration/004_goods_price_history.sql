@@ -0,0 +1,15 @@
+-- 가격/인기도 이력 테이블 (물건이력번호 해시 파티션)
+CREATE TABLE IF NOT EXISTS goods_price_history (
+    history_no INT NOT NULL COMMENT '물건이력번호',
+    recorded_at DATETIME NOT NULL COMMENT '기록일시 (동기화 시각)',
+    min_bid_price BIGINT NOT NULL COMMENT '최저입찰가',
+    inquiry_count INT NOT NULL DEFAULT 0 COMMENT '조회수',
+    favorite_count INT NOT NULL DEFAULT 0 COMMENT '관심수',
+    PRIMARY KEY (history_no, recorded_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='공매가격이력'
+PARTITION BY HASH (history_no) PARTITIONS 16;
+
+-- 현재 가격정보를 각 물건의 첫 점으로 기록 (이후 동기화는 값이 바뀐 경우에만 점을 추가)
+INSERT IGNORE INTO goods_price_history (history_no, recorded_at, min_bid_price, inquiry_count, favorite_count)
+SELECT history_no, updated_at, min_bid_price, COALESCE(inquiry_count, 0), COALESCE(favorite_count, 0)
+FROM goods_price;
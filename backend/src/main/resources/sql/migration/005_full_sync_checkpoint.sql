@@ -0,0 +1,29 @@
+-- 전체 카탈로그 동기화 작업 (작업 단위 상태, 작업 중 페이지 크기를 고정해 재개 시 페이지 경계를 맞춤)
+CREATE TABLE IF NOT EXISTS sync_job (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '작업 ID',
+    status VARCHAR(20) NOT NULL COMMENT '작업상태 (RUNNING, COMPLETED, FAILED, CANCELLED)',
+    page_size INT NOT NULL COMMENT '페이지당 건수 (작업 동안 고정)',
+    shard_count INT NOT NULL COMMENT '샤드 수',
+    expected_count INT COMMENT '필터 없는 전체 건수 (완료 시 샤드 합계와 비교)',
+    message VARCHAR(1000) COMMENT '실패/취소 사유',
+    started_at DATETIME NOT NULL COMMENT '시작일시',
+    finished_at DATETIME COMMENT '종료일시',
+    INDEX idx_status (status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='전체동기화작업';
+
+-- 샤드(카테고리 × 시도)별 체크포인트 (마지막으로 저장을 마친 페이지)
+CREATE TABLE IF NOT EXISTS sync_checkpoint (
+    job_id BIGINT NOT NULL COMMENT '작업 ID',
+    shard_key VARCHAR(200) NOT NULL COMMENT '샤드 키 (카테고리|시도)',
+    ctgr_hirk_id VARCHAR(20) COMMENT '카테고리 ID (없으면 전체)',
+    sido VARCHAR(50) COMMENT '시도 (없으면 전체)',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '샤드상태 (PENDING, RUNNING, DONE, FAILED, CANCELLED)',
+    last_page INT NOT NULL DEFAULT 0 COMMENT '저장을 마친 마지막 페이지',
+    total_pages INT COMMENT '전체 페이지 수',
+    total_count INT COMMENT '샤드 전체 건수',
+    item_count INT NOT NULL DEFAULT 0 COMMENT '저장한 물건 수',
+    message VARCHAR(1000) COMMENT '실패 사유',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    PRIMARY KEY (job_id, shard_key),
+    FOREIGN KEY (job_id) REFERENCES sync_job(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='전체동기화체크포인트';
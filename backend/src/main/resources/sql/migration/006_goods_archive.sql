@@ -0,0 +1,31 @@
+-- 입찰이 끝난 물건을 옮겨 두는 보관 테이블 (서빙 테이블 goods_basic/goods_price 에는 진행 중인 물건만 남김)
+CREATE TABLE IF NOT EXISTS goods_basic_archive (
+    history_no INT PRIMARY KEY COMMENT '물건이력번호',
+    id INT COMMENT '서빙 테이블에서의 기본 ID',
+    goods_name VARCHAR(1000) NOT NULL COMMENT '물건명',
+    status_name VARCHAR(100) COMMENT '물건상태',
+    sale_type_name VARCHAR(100) COMMENT '처분방식명',
+    category_name VARCHAR(200) COMMENT '카테고리',
+    bid_start_date VARCHAR(14) COMMENT '입찰시작일시',
+    bid_close_date VARCHAR(14) NOT NULL COMMENT '입찰마감일시',
+    address VARCHAR(1000) COMMENT '물건소재지',
+    content_hash BIGINT COMMENT '기본정보 지문 (변경 감지용)',
+    created_at TIMESTAMP NULL COMMENT '입력일시',
+    updated_at TIMESTAMP NULL COMMENT '수정일시',
+    archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '보관일시',
+    INDEX idx_bid_close_date (bid_close_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='공매기본보관';
+
+CREATE TABLE IF NOT EXISTS goods_price_archive (
+    history_no INT PRIMARY KEY COMMENT '물건이력번호',
+    min_bid_price BIGINT NOT NULL COMMENT '최저입찰가',
+    appraisal_price BIGINT COMMENT '감정가',
+    fee_rate VARCHAR(20) COMMENT '최저입찰가율',
+    inquiry_count INT COMMENT '조회수',
+    favorite_count INT COMMENT '관심수',
+    content_hash BIGINT COMMENT '가격정보 지문 (변경 감지용)',
+    updated_at TIMESTAMP NULL COMMENT '가격기준일'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='공매가격보관';
+
+-- 보관된 물건의 구매 이력도 남아야 하므로 goods_basic 참조 FK 제거 (물건 존재 여부는 구매 시 애플리케이션에서 확인)
+ALTER TABLE purchases DROP FOREIGN KEY IF EXISTS purchases_ibfk_1;
@@ -0,0 +1,18 @@
+-- 입찰 일시를 DATETIME 으로 함께 저장 (문자열 비교 없이 인덱스 범위 조회)
+ALTER TABLE goods_basic
+    ADD COLUMN IF NOT EXISTS bid_start_at DATETIME NULL COMMENT '입찰시작일시 (bid_start_date 변환)' AFTER bid_close_date,
+    ADD COLUMN IF NOT EXISTS bid_close_at DATETIME NULL COMMENT '입찰마감일시 (bid_close_date 변환)' AFTER bid_start_at,
+    ADD INDEX IF NOT EXISTS idx_bid_close_at (bid_close_at, id);
+
+ALTER TABLE goods_basic_archive
+    ADD COLUMN IF NOT EXISTS bid_start_at DATETIME NULL COMMENT '입찰시작일시 (bid_start_date 변환)' AFTER bid_close_date,
+    ADD COLUMN IF NOT EXISTS bid_close_at DATETIME NULL COMMENT '입찰마감일시 (bid_close_date 변환)' AFTER bid_start_at;
+
+-- 기존 행 변환 (14자리가 아닌 값은 NULL 로 둠, 이후 동기화에서 다시 채워짐)
+UPDATE goods_basic
+SET bid_start_at = CASE WHEN CHAR_LENGTH(bid_start_date) = 14 THEN STR_TO_DATE(bid_start_date, '%Y%m%d%H%i%s') END,
+    bid_close_at = CASE WHEN CHAR_LENGTH(bid_close_date) = 14 THEN STR_TO_DATE(bid_close_date, '%Y%m%d%H%i%s') END;
+
+UPDATE goods_basic_archive
+SET bid_start_at = CASE WHEN CHAR_LENGTH(bid_start_date) = 14 THEN STR_TO_DATE(bid_start_date, '%Y%m%d%H%i%s') END,
+    bid_close_at = CASE WHEN CHAR_LENGTH(bid_close_date) = 14 THEN STR_TO_DATE(bid_close_date, '%Y%m%d%H%i%s') END;
@@ -1,5 +1,10 @@
 -- 1. 테이블 초기화
+DROP TABLE IF EXISTS sync_checkpoint;
+DROP TABLE IF EXISTS sync_job;
 DROP TABLE IF EXISTS purchases;
+DROP TABLE IF EXISTS goods_price_history;
+DROP TABLE IF EXISTS goods_price_archive;
+DROP TABLE IF EXISTS goods_basic_archive;
 DROP TABLE IF EXISTS goods_price;
 DROP TABLE IF EXISTS goods_basic;
 
@@ -13,10 +18,18 @@ CREATE TABLE goods_basic (
     category_name VARCHAR(200) COMMENT '카테고리',
     bid_start_date VARCHAR(14) COMMENT '입찰시작일시',
     bid_close_date VARCHAR(14) NOT NULL COMMENT '입찰마감일시',
+    bid_start_at DATETIME NULL COMMENT '입찰시작일시 (bid_start_date 변환)',
+    bid_close_at DATETIME NULL COMMENT '입찰마감일시 (bid_close_date 변환)',
     address VARCHAR(1000) COMMENT '물건소재지',
+    content_hash BIGINT COMMENT '기본정보 지문 (변경 감지용)',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '입력일시',
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
-    INDEX idx_history_no (history_no)
+    INDEX idx_history_no (history_no),
+    INDEX idx_category_id (category_name, id),
+    INDEX idx_status_id (status_name, id),
+    INDEX idx_bid_close_id (bid_close_date, id),
+    INDEX idx_bid_close_at (bid_close_at, id),
+    INDEX idx_address_prefix (address(191))
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='공매기본';
 
 -- 3. 공매 가격 정보
@@ -28,17 +41,99 @@ CREATE TABLE goods_price (
     fee_rate VARCHAR(20) COMMENT '최저입찰가율',
     inquiry_count INT COMMENT '조회수',
     favorite_count INT COMMENT '관심수',
+    content_hash BIGINT COMMENT '가격정보 지문 (변경 감지용)',
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '가격기준일',
-    FOREIGN KEY (history_no) REFERENCES goods_basic(history_no) ON DELETE CASCADE
+    FOREIGN KEY (history_no) REFERENCES goods_basic(history_no) ON DELETE CASCADE,
+    INDEX idx_min_bid_price (min_bid_price, history_no),
+    INDEX idx_appraisal_price (appraisal_price, history_no)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='공매가격';
 
--- 4. 구매 이력
+-- 4. 가격/인기도 이력 (값이 바뀔 때만 한 점 추가, 물건별 시계열이 PK 순서로 모여 있어 물건 단위 범위 조회만 발생)
+-- 이력은 계속 쌓이므로 물건이력번호 해시로 파티션을 나눠 파티션별 크기와 유지보수 비용을 제한한다.
+-- 파티션 테이블은 FK 를 가질 수 없어 goods_basic 참조 무결성은 애플리케이션에서 맞춘다.
+CREATE TABLE goods_price_history (
+    history_no INT NOT NULL COMMENT '물건이력번호',
+    recorded_at DATETIME NOT NULL COMMENT '기록일시 (동기화 시각)',
+    min_bid_price BIGINT NOT NULL COMMENT '최저입찰가',
+    inquiry_count INT NOT NULL DEFAULT 0 COMMENT '조회수',
+    favorite_count INT NOT NULL DEFAULT 0 COMMENT '관심수',
+    PRIMARY KEY (history_no, recorded_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='공매가격이력'
+PARTITION BY HASH (history_no) PARTITIONS 16;
+
+-- 5. 구매 이력 (보관 테이블로 옮겨진 물건의 구매도 남아야 하므로 goods_basic FK 없이 애플리케이션에서 물건 존재를 확인)
 CREATE TABLE purchases (
     id INT PRIMARY KEY AUTO_INCREMENT COMMENT '매매 ID',
     history_no INT NOT NULL COMMENT '물건이력번호',
     purchase_price BIGINT NOT NULL COMMENT '구매가격',
     purchase_status VARCHAR(20) DEFAULT 'COMPLETED' COMMENT '구매상태 (PENDING, COMPLETED, CANCELLED)',
+    idempotency_key VARCHAR(64) COMMENT '클라이언트 멱등 키 (재시도 시 같은 구매 반환)',
+    completed_history_no INT GENERATED ALWAYS AS (CASE WHEN purchase_status = 'COMPLETED' THEN history_no END) STORED
+        COMMENT '완료된 구매의 물건이력번호 (완료 구매는 물건당 1건만 허용하기 위한 유니크 키)',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '구매일시',
-    FOREIGN KEY (history_no) REFERENCES goods_basic(history_no),
-    INDEX idx_history_no (history_no)
+    INDEX idx_history_no (history_no),
+    UNIQUE KEY uk_completed_history_no (completed_history_no),
+    UNIQUE KEY uk_idempotency_key (idempotency_key)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='매매';
+
+-- 6. 입찰이 끝난 물건을 옮겨 두는 보관 테이블 (서빙 테이블 goods_basic/goods_price 에는 진행 중인 물건만 남김)
+CREATE TABLE goods_basic_archive (
+    history_no INT PRIMARY KEY COMMENT '물건이력번호',
+    id INT COMMENT '서빙 테이블에서의 기본 ID',
+    goods_name VARCHAR(1000) NOT NULL COMMENT '물건명',
+    status_name VARCHAR(100) COMMENT '물건상태',
+    sale_type_name VARCHAR(100) COMMENT '처분방식명',
+    category_name VARCHAR(200) COMMENT '카테고리',
+    bid_start_date VARCHAR(14) COMMENT '입찰시작일시',
+    bid_close_date VARCHAR(14) NOT NULL COMMENT '입찰마감일시',
+    bid_start_at DATETIME NULL COMMENT '입찰시작일시 (bid_start_date 변환)',
+    bid_close_at DATETIME NULL COMMENT '입찰마감일시 (bid_close_date 변환)',
+    address VARCHAR(1000) COMMENT '물건소재지',
+    content_hash BIGINT COMMENT '기본정보 지문 (변경 감지용)',
+    created_at TIMESTAMP NULL COMMENT '입력일시',
+    updated_at TIMESTAMP NULL COMMENT '수정일시',
+    archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '보관일시',
+    INDEX idx_bid_close_date (bid_close_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='공매기본보관';
+
+-- 7. 보관 가격 정보
+CREATE TABLE goods_price_archive (
+    history_no INT PRIMARY KEY COMMENT '물건이력번호',
+    min_bid_price BIGINT NOT NULL COMMENT '최저입찰가',
+    appraisal_price BIGINT COMMENT '감정가',
+    fee_rate VARCHAR(20) COMMENT '최저입찰가율',
+    inquiry_count INT COMMENT '조회수',
+    favorite_count INT COMMENT '관심수',
+    content_hash BIGINT COMMENT '가격정보 지문 (변경 감지용)',
+    updated_at TIMESTAMP NULL COMMENT '가격기준일'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='공매가격보관';
+
+-- 8. 전체 카탈로그 동기화 작업 (작업 단위 상태, 작업 중 페이지 크기를 고정해 재개 시 페이지 경계를 맞춤)
+CREATE TABLE sync_job (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '작업 ID',
+    status VARCHAR(20) NOT NULL COMMENT '작업상태 (RUNNING, COMPLETED, FAILED, CANCELLED)',
+    page_size INT NOT NULL COMMENT '페이지당 건수 (작업 동안 고정)',
+    shard_count INT NOT NULL COMMENT '샤드 수',
+    expected_count INT COMMENT '필터 없는 전체 건수 (완료 시 샤드 합계와 비교)',
+    message VARCHAR(1000) COMMENT '실패/취소 사유',
+    started_at DATETIME NOT NULL COMMENT '시작일시',
+    finished_at DATETIME COMMENT '종료일시',
+    INDEX idx_status (status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='전체동기화작업';
+
+-- 9. 샤드(카테고리 × 시도)별 체크포인트 (마지막으로 저장을 마친 페이지)
+CREATE TABLE sync_checkpoint (
+    job_id BIGINT NOT NULL COMMENT '작업 ID',
+    shard_key VARCHAR(200) NOT NULL COMMENT '샤드 키 (카테고리|시도)',
+    ctgr_hirk_id VARCHAR(20) COMMENT '카테고리 ID (없으면 전체)',
+    sido VARCHAR(50) COMMENT '시도 (없으면 전체)',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '샤드상태 (PENDING, RUNNING, DONE, FAILED, CANCELLED)',
+    last_page INT NOT NULL DEFAULT 0 COMMENT '저장을 마친 마지막 페이지',
+    total_pages INT COMMENT '전체 페이지 수',
+    total_count INT COMMENT '샤드 전체 건수',
+    item_count INT NOT NULL DEFAULT 0 COMMENT '저장한 물건 수',
+    message VARCHAR(1000) COMMENT '실패 사유',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    PRIMARY KEY (job_id, shard_key),
+    FOREIGN KEY (job_id) REFERENCES sync_job(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='전체동기화체크포인트';
@@ -0,0 +1,87 @@
+package com.onbid.simulator;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * getKamcoPbctCltrList 요청 파라미터 (페이지 + 필터)
+ * 필터 의미는 온비드 문서 기준: GOODS_PRICE 는 감정가, OPEN_PRICE 는 최저입찰가, 날짜는 yyyyMMdd 앞자리 비교.
+ */
+public record CatalogQuery(int pageNo, int numOfRows, Map<String, String> params) {
+
+    public static CatalogQuery parse(String rawQuery, int maxRows) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq <= 0) {
+                    continue;
+                }
+                String value = URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8).trim();
+                if (!value.isEmpty()) {
+                    params.put(pair.substring(0, eq), value);
+                }
+            }
+        }
+        int pageNo = Math.max(1, intParam(params, "pageNo", 1));
+        int numOfRows = Math.min(maxRows, Math.max(1, intParam(params, "numOfRows", 10)));
+        return new CatalogQuery(pageNo, numOfRows, params);
+    }
+
+    /**
+     * 필터 파라미터를 모두 만족하는지 검사하는 조건
+     */
+    public Predicate<SimulatedItem> filter() {
+        Predicate<SimulatedItem> predicate = item -> true;
+        String saleType = params.get("DPSL_MTD_CD");
+        if (saleType != null) {
+            predicate = predicate.and(item -> saleType.equals(item.saleTypeCode()));
+        }
+        String category = params.get("CTGR_HIRK_ID");
+        if (category != null) {
+            predicate = predicate.and(item -> category.equals(item.categoryId())
+                    || category.equals(item.parentCategoryId()));
+        }
+        predicate = and(predicate, "SIDO", (item, value) -> item.sido().equals(value));
+        predicate = and(predicate, "SGK", (item, value) -> item.sgk().contains(value));
+        predicate = and(predicate, "EMD", (item, value) -> item.emd().contains(value));
+        predicate = and(predicate, "CLTR_NM", (item, value) -> item.goodsName().contains(value));
+        predicate = and(predicate, "CLTR_MNMT_NO", (item, value) -> item.goodsNo().equals(value));
+        predicate = and(predicate, "GOODS_PRICE_FROM", (item, value) -> item.appraisalPrice() >= Long.parseLong(value));
+        predicate = and(predicate, "GOODS_PRICE_TO", (item, value) -> item.appraisalPrice() <= Long.parseLong(value));
+        predicate = and(predicate, "OPEN_PRICE_FROM", (item, value) -> item.minBidPrice() >= Long.parseLong(value));
+        predicate = and(predicate, "OPEN_PRICE_TO", (item, value) -> item.minBidPrice() <= Long.parseLong(value));
+        predicate = and(predicate, "PBCT_BEGN_DTM", (item, value) -> compareDate(item.bidStartDate(), value) >= 0);
+        predicate = and(predicate, "PBCT_CLS_DTM", (item, value) -> compareDate(item.bidCloseDate(), value) <= 0);
+        return predicate;
+    }
+
+    private Predicate<SimulatedItem> and(Predicate<SimulatedItem> predicate, String name, ItemMatcher matcher) {
+        String value = params.get(name);
+        return value == null ? predicate : predicate.and(item -> matcher.matches(item, value));
+    }
+
+    /**
+     * 파라미터 길이만큼 앞자리만 비교 (yyyyMMdd 로 넘겨도 yyyyMMddHHmmss 값과 비교 가능)
+     */
+    private static int compareDate(String itemValue, String value) {
+        int length = Math.min(itemValue.length(), value.length());
+        return itemValue.substring(0, length).compareTo(value.substring(0, length));
+    }
+
+    private static int intParam(Map<String, String> params, String name, int defaultValue) {
+        try {
+            return params.containsKey(name) ? Integer.parseInt(params.get(name)) : defaultValue;
+        } catch (NumberFormatException ex) {
+            return defaultValue;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ItemMatcher {
+        boolean matches(SimulatedItem item, String value);
+    }
+}
@@ -0,0 +1,113 @@
+package com.onbid.simulator;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 합성 온비드 카탈로그 생성기
+ * 물건 i 의 값은 (seed, i) 로만 정해지므로 같은 설정이면 언제 실행해도 같은 카탈로그가 나온다.
+ * churnPercent 비율의 물건은 epoch 가 바뀔 때마다 조회수/관심수/최저입찰가가 바뀌어 변경 감지 경로를 시험할 수 있다.
+ */
+public class OnbidCatalogGenerator {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * {카테고리 ID, 상위 카테고리 ID, 카테고리 전체 이름}
+     */
+    private static final String[][] CATEGORIES = {
+            {"10100", "10000", "부동산 / 토지 / 대지"},
+            {"10100", "10000", "부동산 / 토지 / 전"},
+            {"10200", "10000", "부동산 / 주거용건물 / 아파트"},
+            {"10200", "10000", "부동산 / 주거용건물 / 다세대주택"},
+            {"10300", "10000", "부동산 / 상가용및업무용건물 / 근린생활시설"},
+            {"12100", "12000", "자동차/운송장비 / 자동차 / 승용차"},
+            {"13100", "13000", "물품(기계) / 기계장비 / 산업기계"}};
+    private static final String[][] REGIONS = {
+            {"서울특별시", "강남구", "역삼동"}, {"서울특별시", "마포구", "합정동"}, {"서울특별시", "노원구", "상계동"},
+            {"경기도", "수원시 영통구", "매탄동"}, {"경기도", "성남시 분당구", "정자동"}, {"경기도", "화성시", "봉담읍"},
+            {"부산광역시", "해운대구", "우동"}, {"인천광역시", "연수구", "송도동"}, {"대구광역시", "수성구", "범어동"},
+            {"강원특별자치도", "춘천시", "퇴계동"}, {"전라남도", "여수시", "학동"}, {"제주특별자치도", "제주시", "노형동"}};
+    private static final String[] STATUSES = {"입찰준비중", "인터넷입찰진행중", "인터넷입찰진행중", "입찰마감", "낙찰", "유찰"};
+    private static final String[] BID_METHODS = {"일반경쟁(최고가방식) / 총액", "일반경쟁(최고가방식) / 단가"};
+
+    private final long seed;
+    private final LocalDate baseDate;
+    private final int churnPercent;
+
+    /**
+     * @param seed 난수 시드
+     * @param baseDate 입찰 일정 기준일 (입찰 시작일은 기준일 전후 2주 안에서 정해짐)
+     * @param churnPercent epoch 마다 값이 바뀌는 물건 비율 (0~100)
+     */
+    public OnbidCatalogGenerator(long seed, LocalDate baseDate, int churnPercent) {
+        this.seed = seed;
+        this.baseDate = baseDate;
+        this.churnPercent = Math.max(0, Math.min(100, churnPercent));
+    }
+
+    /**
+     * 0번부터 size 건 (물건이력번호 오름차순)
+     */
+    public List<SimulatedItem> catalog(int size, long epoch) {
+        List<SimulatedItem> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(item(i, epoch));
+        }
+        return items;
+    }
+
+    /**
+     * index 번째 물건
+     * @param epoch 변경 주기 번호 (churn 대상 물건만 영향을 받음)
+     */
+    public SimulatedItem item(int index, long epoch) {
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+        String[] category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+        String[] region = REGIONS[random.nextInt(REGIONS.length)];
+        long appraisal = roundTo(1_000L, 10_000_000L + random.nextLong(2_000_000_000L));
+        int bidRate = random.nextInt(50, 101);
+        LocalDate start = baseDate.plusDays(random.nextInt(-14, 15));
+        LocalDate close = start.plusDays(random.nextInt(2, 15));
+        int lot = random.nextInt(1, 999);
+        int inquiry = random.nextInt(0, 5000);
+        int favorite = random.nextInt(0, 300);
+        boolean churning = random.nextInt(100) < churnPercent;
+        if (churning && epoch > 0) {
+            // 유찰로 최저입찰가가 내려가고 조회수가 늘어난 상황을 흉내
+            inquiry += (int) (epoch * 7);
+            favorite += (int) (epoch % 5);
+            bidRate = Math.max(30, bidRate - (int) (epoch % 10));
+        }
+        String saleTypeCode = random.nextInt(10) < 9 ? "0001" : "0002";
+        return new SimulatedItem(
+                1_000_000L + index,
+                String.format("%d-%05d-%03d", start.getYear(), index % 100_000, 1 + index / 100_000),
+                String.valueOf(2_000_000 + random.nextInt(8_000_000)),
+                region[0] + " " + region[1] + " " + region[2] + " " + lot + "-" + random.nextInt(1, 99),
+                category[2].startsWith("부동산") ? "대 " + random.nextInt(10, 5000) + "㎡" : "1대",
+                appraisal,
+                roundTo(1_000L, appraisal * bidRate / 100),
+                start.format(DATE) + String.format("%02d0000", random.nextInt(9, 12)),
+                close.format(DATE) + String.format("%02d0000", random.nextInt(14, 18)),
+                STATUSES[random.nextInt(STATUSES.length)],
+                region[0], region[1], region[2],
+                region[0] + " " + region[1] + " " + region[2] + " " + lot,
+                region[0] + " " + region[1] + " 테스트로 " + random.nextInt(1, 300),
+                saleTypeCode,
+                "0001".equals(saleTypeCode) ? "매각" : "임대",
+                BID_METHODS[random.nextInt(BID_METHODS.length)],
+                category[0], category[1], category[2],
+                inquiry,
+                favorite,
+                "(" + bidRate + "%)",
+                "https://www.onbid.co.kr/op/common/downloadFile.do?fileId=" + random.nextLong(1L << 40));
+    }
+
+    private static long roundTo(long unit, long value) {
+        return value / unit * unit;
+    }
+}
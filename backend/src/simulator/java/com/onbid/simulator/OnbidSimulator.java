@@ -0,0 +1,191 @@
+package com.onbid.simulator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 로컬 온비드 API 시뮬레이터
+ * getKamcoPbctCltrList 와 같은 XML 계약으로 합성 카탈로그를 페이지/필터 단위로 응답하고,
+ * 지연, HTTP 오류, resultCode 오류, 무응답, 느린 본문을 설정한 비율로 주입한다.
+ * 장애 주입 여부는 (seed, 요청 순번) 으로 정해지므로 같은 설정·같은 요청 순서면 같은 결과가 나온다.
+ *
+ * 실행: ./gradlew runSimulator -Psim.args="--items=20000 --error-rate=0.1"
+ * 백엔드: ./gradlew bootRun --args='--spring.profiles.active=simulator'
+ */
+public class OnbidSimulator {
+
+    static final String PATH = "/openapi/services/KamcoPblsalThingInquireSvc/getKamcoPbctCltrList";
+
+    private final SimulatorOptions options;
+    private final OnbidCatalogGenerator generator;
+    private final AtomicReference<Catalog> catalogRef = new AtomicReference<>();
+    private final long startedAt = System.currentTimeMillis();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong httpErrors = new AtomicLong();
+    private final AtomicLong resultErrors = new AtomicLong();
+    private final AtomicLong hangs = new AtomicLong();
+    private final AtomicLong slowBodies = new AtomicLong();
+
+    public OnbidSimulator(SimulatorOptions options) {
+        this.options = options;
+        this.generator = new OnbidCatalogGenerator(options.seed(), options.baseDate(), options.churnPercent());
+    }
+
+    public static void main(String[] args) throws IOException {
+        SimulatorOptions options = SimulatorOptions.parse(args);
+        HttpServer server = new OnbidSimulator(options).start();
+        System.out.printf("온비드 시뮬레이터 시작 - http://localhost:%d%s (%s)%n",
+                server.getAddress().getPort(), PATH, options);
+    }
+
+    /**
+     * 서버 시작 (요청마다 가상 스레드 하나)
+     */
+    public HttpServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(options.port()), 256);
+        server.createContext(PATH, this::handleList);
+        server.createContext("/simulator/stats", this::handleStats);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return server;
+    }
+
+    private void handleList(HttpExchange exchange) throws IOException {
+        long sequence = requests.incrementAndGet();
+        try (exchange) {
+            CatalogQuery query = CatalogQuery.parse(exchange.getRequestURI().getRawQuery(), options.maxRows());
+            SplittableRandom faults = new SplittableRandom(options.seed() ^ (sequence * 0xBF58476D1CE4E5B9L));
+
+            if (faults.nextDouble() < options.hangRate()) {
+                hangs.incrementAndGet();
+                sleep(options.hangMs());
+                send(exchange, 504, "text/plain", "gateway timeout".getBytes(StandardCharsets.UTF_8), false);
+                return;
+            }
+            long jitter = options.jitterMs() > 0 ? faults.nextLong(options.jitterMs() + 1) : 0;
+            sleep(options.latencyMs() + jitter + query.numOfRows() * options.perRowLatencyMicros() / 1000);
+
+            if (faults.nextDouble() < options.errorRate()) {
+                httpErrors.incrementAndGet();
+                send(exchange, options.errorStatus(), "text/plain",
+                        "simulated upstream error".getBytes(StandardCharsets.UTF_8), false);
+                return;
+            }
+            String xml;
+            if (faults.nextDouble() < options.resultErrorRate()) {
+                resultErrors.incrementAndGet();
+                xml = OnbidXmlWriter.error("22", "LIMITED NUMBER OF SERVICE REQUESTS EXCEEDS ERROR.");
+            } else {
+                xml = renderPage(query);
+            }
+            byte[] body = xml.getBytes(StandardCharsets.UTF_8);
+            boolean gzip = acceptsGzip(exchange);
+            if (gzip) {
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+                body = gzip(body);
+            }
+            boolean slow = faults.nextDouble() < options.slowBodyRate();
+            if (slow) {
+                slowBodies.incrementAndGet();
+            }
+            send(exchange, 200, "application/xml;charset=UTF-8", body, slow);
+        }
+    }
+
+    private String renderPage(CatalogQuery query) {
+        List<SimulatedItem> matched = catalog().items().stream().filter(query.filter()).toList();
+        int from = (int) Math.min(matched.size(), (long) (query.pageNo() - 1) * query.numOfRows());
+        int to = Math.min(matched.size(), from + query.numOfRows());
+        return OnbidXmlWriter.page(matched.subList(from, to), query.pageNo(), query.numOfRows(), matched.size());
+    }
+
+    /**
+     * 현재 epoch 의 카탈로그 (epoch 가 바뀌면 한 번만 다시 생성)
+     */
+    private Catalog catalog() {
+        long epoch = options.churnIntervalSeconds() > 0
+                ? (System.currentTimeMillis() - startedAt) / 1000 / options.churnIntervalSeconds()
+                : 0;
+        Catalog current = catalogRef.get();
+        if (current != null && current.epoch() == epoch) {
+            return current;
+        }
+        synchronized (this) {
+            current = catalogRef.get();
+            if (current == null || current.epoch() != epoch) {
+                current = new Catalog(epoch, generator.catalog(options.items(), epoch));
+                catalogRef.set(current);
+            }
+            return current;
+        }
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String json = String.format(
+                    "{\"requests\":%d,\"httpErrors\":%d,\"resultErrors\":%d,\"hangs\":%d,\"slowBodies\":%d,"
+                            + "\"items\":%d,\"epoch\":%d}",
+                    requests.get(), httpErrors.get(), resultErrors.get(), hangs.get(), slowBodies.get(),
+                    options.items(), catalog().epoch());
+            send(exchange, 200, "application/json", json.getBytes(StandardCharsets.UTF_8), false);
+        }
+    }
+
+    /**
+     * 응답 전송 (slow 면 조각마다 지연을 두고 chunked 로 흘려보냄)
+     */
+    private void send(HttpExchange exchange, int status, String contentType, byte[] body, boolean slow)
+            throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, slow ? 0 : body.length);
+        OutputStream out = exchange.getResponseBody();
+        if (!slow) {
+            out.write(body);
+            return;
+        }
+        for (int offset = 0; offset < body.length; offset += options.slowChunkBytes()) {
+            out.write(body, offset, Math.min(options.slowChunkBytes(), body.length - offset));
+            out.flush();
+            sleep(options.slowChunkDelayMs());
+        }
+    }
+
+    private static boolean acceptsGzip(HttpExchange exchange) {
+        String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        return accept != null && accept.contains("gzip");
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Catalog(long epoch, List<SimulatedItem> items) {
+    }
+}
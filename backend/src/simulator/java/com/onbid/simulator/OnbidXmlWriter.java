@@ -0,0 +1,89 @@
+package com.onbid.simulator;
+
+import java.util.List;
+
+/**
+ * getKamcoPbctCltrList 응답 XML 작성기 (OnbidResponseRaw/OnbidItemRaw 가 읽는 태그 구성)
+ */
+public final class OnbidXmlWriter {
+
+    private OnbidXmlWriter() {
+    }
+
+    /**
+     * 정상 응답
+     * @param totalCount 필터 적용 후 전체 건수
+     */
+    public static String page(List<SimulatedItem> items, int pageNo, int numOfRows, int totalCount) {
+        StringBuilder xml = new StringBuilder(items.size() * 1100 + 256);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")
+                .append("<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>")
+                .append("<body><items>");
+        for (SimulatedItem item : items) {
+            appendItem(xml, item);
+        }
+        xml.append("</items>");
+        tag(xml, "numOfRows", String.valueOf(numOfRows));
+        tag(xml, "pageNo", String.valueOf(pageNo));
+        tag(xml, "totalCount", String.valueOf(totalCount));
+        return xml.append("</body></response>").toString();
+    }
+
+    /**
+     * 온비드 오류 응답 (HTTP 200 + header 의 resultCode 로 오류 전달)
+     */
+    public static String error(String resultCode, String resultMsg) {
+        StringBuilder xml = new StringBuilder(256);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><response><header>");
+        tag(xml, "resultCode", resultCode);
+        tag(xml, "resultMsg", resultMsg);
+        return xml.append("</header></response>").toString();
+    }
+
+    private static void appendItem(StringBuilder xml, SimulatedItem item) {
+        xml.append("<item>");
+        tag(xml, "PBCT_NO", item.noticeNo());
+        tag(xml, "CLTR_HSTR_NO", String.valueOf(item.historyNo()));
+        tag(xml, "SCRN_GRP_CD", "0001");
+        tag(xml, "CTGR_FULL_NM", item.categoryName());
+        tag(xml, "CLTR_NM", item.goodsName());
+        tag(xml, "CLTR_MNMT_NO", item.goodsNo());
+        tag(xml, "LDNM_ADRS", item.address());
+        tag(xml, "NMRD_ADRS", item.roadAddress());
+        tag(xml, "DPSL_MTD_CD", item.saleTypeCode());
+        tag(xml, "DPSL_MTD_NM", item.saleTypeName());
+        tag(xml, "BID_MTD_NM", item.bidMethodName());
+        tag(xml, "MIN_BID_PRC", String.valueOf(item.minBidPrice()));
+        tag(xml, "APSL_ASES_AVG_AMT", String.valueOf(item.appraisalPrice()));
+        tag(xml, "FEE_RATE", item.feeRate());
+        tag(xml, "PBCT_BEGN_DTM", item.bidStartDate());
+        tag(xml, "PBCT_CLS_DTM", item.bidCloseDate());
+        tag(xml, "PBCT_CLTR_STAT_NM", item.statusName());
+        tag(xml, "USCBD_CNT", String.valueOf(item.favoriteCount()));
+        tag(xml, "IQRY_CNT", String.valueOf(item.inquiryCount()));
+        tag(xml, "GOODS_NM", item.goodsDetail());
+        tag(xml, "CLTR_IMG_FILES", item.imageFiles());
+        xml.append("</item>");
+    }
+
+    private static void tag(StringBuilder xml, String name, String value) {
+        xml.append('<').append(name).append('>');
+        escape(xml, value);
+        xml.append("</").append(name).append('>');
+    }
+
+    private static void escape(StringBuilder xml, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> xml.append("&lt;");
+                case '>' -> xml.append("&gt;");
+                case '&' -> xml.append("&amp;");
+                default -> xml.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.onbid.simulator;
+
+/**
+ * 시뮬레이터가 만드는 공매 물건 한 건 (온비드 item 태그 하나에 대응)
+ * 필터 비교에 쓰는 값(시도/시군구/읍면동, 카테고리 ID)은 응답 태그와 별도로 들고 있다.
+ */
+public record SimulatedItem(
+        long historyNo,
+        String goodsNo,
+        String noticeNo,
+        String goodsName,
+        String goodsDetail,
+        long appraisalPrice,
+        long minBidPrice,
+        String bidStartDate,
+        String bidCloseDate,
+        String statusName,
+        String sido,
+        String sgk,
+        String emd,
+        String address,
+        String roadAddress,
+        String saleTypeCode,
+        String saleTypeName,
+        String bidMethodName,
+        String categoryId,
+        String parentCategoryId,
+        String categoryName,
+        int inquiryCount,
+        int favoriteCount,
+        String feeRate,
+        String imageFiles) {
+}
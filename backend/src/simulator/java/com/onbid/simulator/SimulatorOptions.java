@@ -0,0 +1,90 @@
+package com.onbid.simulator;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 시뮬레이터 실행 옵션 (--이름=값 형식 인자)
+ * @param port 수신 포트
+ * @param items 카탈로그 물건 수
+ * @param seed 카탈로그/장애 주입 난수 시드
+ * @param baseDate 입찰 일정 기준일 (yyyyMMdd, 기본값 오늘)
+ * @param churnPercent epoch 마다 값이 바뀌는 물건 비율
+ * @param churnIntervalSeconds epoch 길이 (0 이면 카탈로그 고정)
+ * @param maxRows numOfRows 상한
+ * @param latencyMs 응답 전 기본 지연
+ * @param jitterMs 기본 지연에 더할 최대 무작위 지연
+ * @param perRowLatencyMicros 요청 행 수에 비례해 더할 지연 (행당 마이크로초)
+ * @param errorRate HTTP 오류로 응답할 비율
+ * @param errorStatus HTTP 오류 상태 코드
+ * @param resultErrorRate HTTP 200 + resultCode 오류로 응답할 비율
+ * @param hangRate hangMs 동안 응답하지 않을 비율 (호출 타임아웃 시험용)
+ * @param hangMs 응답하지 않고 버티는 시간
+ * @param slowBodyRate 본문을 조금씩 늦게 보낼 비율
+ * @param slowChunkBytes 느린 본문의 조각 크기
+ * @param slowChunkDelayMs 느린 본문 조각 사이 지연
+ */
+public record SimulatorOptions(
+        int port,
+        int items,
+        long seed,
+        LocalDate baseDate,
+        int churnPercent,
+        long churnIntervalSeconds,
+        int maxRows,
+        long latencyMs,
+        long jitterMs,
+        long perRowLatencyMicros,
+        double errorRate,
+        int errorStatus,
+        double resultErrorRate,
+        double hangRate,
+        long hangMs,
+        double slowBodyRate,
+        int slowChunkBytes,
+        long slowChunkDelayMs) {
+
+    private static final Set<String> KNOWN = Set.of(
+            "port", "items", "seed", "base-date", "churn-percent", "churn-interval-seconds", "max-rows",
+            "latency-ms", "jitter-ms", "per-row-latency-us", "error-rate", "error-status", "result-error-rate",
+            "hang-rate", "hang-ms", "slow-body-rate", "slow-chunk-bytes", "slow-chunk-delay-ms");
+
+    public static SimulatorOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--이름=값 형식이 아닌 인자: " + arg);
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        SimulatorOptions options = new SimulatorOptions(
+                Integer.parseInt(values.getOrDefault("port", "18080")),
+                Integer.parseInt(values.getOrDefault("items", "5000")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                values.containsKey("base-date")
+                        ? LocalDate.parse(values.get("base-date"), DateTimeFormatter.BASIC_ISO_DATE)
+                        : LocalDate.now(),
+                Integer.parseInt(values.getOrDefault("churn-percent", "5")),
+                Long.parseLong(values.getOrDefault("churn-interval-seconds", "60")),
+                Integer.parseInt(values.getOrDefault("max-rows", "1000")),
+                Long.parseLong(values.getOrDefault("latency-ms", "100")),
+                Long.parseLong(values.getOrDefault("jitter-ms", "50")),
+                Long.parseLong(values.getOrDefault("per-row-latency-us", "200")),
+                Double.parseDouble(values.getOrDefault("error-rate", "0")),
+                Integer.parseInt(values.getOrDefault("error-status", "503")),
+                Double.parseDouble(values.getOrDefault("result-error-rate", "0")),
+                Double.parseDouble(values.getOrDefault("hang-rate", "0")),
+                Long.parseLong(values.getOrDefault("hang-ms", "60000")),
+                Double.parseDouble(values.getOrDefault("slow-body-rate", "0")),
+                Integer.parseInt(values.getOrDefault("slow-chunk-bytes", "4096")),
+                Long.parseLong(values.getOrDefault("slow-chunk-delay-ms", "200")));
+        values.keySet().removeAll(KNOWN);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 옵션: " + values.keySet());
+        }
+        return options;
+    }
+}
@@ -0,0 +1,136 @@
+package com.onbid.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.onbid.domain.entity.GoodsEntity;
+import com.onbid.export.GoodsColumnarFormat.Column;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 열 단위 바이너리 형식 쓰기 → 읽기 왕복 테스트
+ * 가변 길이 정수 경계값, zigzag 음수 델타, 행 그룹을 넘는 값 존재 비트맵, 사전 인코딩이
+ * {@link GoodsColumnarWriter} 로 쓰고 {@link GoodsColumnarReader} 로 읽었을 때 같은 값으로 돌아오는지 확인한다.
+ */
+class GoodsColumnarRoundTripTest {
+
+    @Test
+    void 가변_길이_정수와_zigzag_경계값() throws IOException {
+        long[] values = {0L, 1L, -1L, 63L, -64L, 64L, 127L, 128L, 16_383L, 16_384L,
+                Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, 0L};
+        List<GoodsEntity> rows = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            GoodsEntity goods = new GoodsEntity();
+            // 델타 열(id, 가격)은 크게 오르내려 음수 차이와 오버플로 차이가 나오게 하고, PLAIN 열은 값 그대로 zigzag
+            goods.setId(values[i]);
+            goods.setHistoryNo((long) i);
+            goods.setMinBidPrice(values[values.length - 1 - i]);
+            goods.setInquiryCount((int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, values[i])));
+            goods.setCreatedAt(LocalDateTime.of(1969, 12, 31, 23, 59, 59).plusSeconds(values[i] % 1_000_000_000L));
+            rows.add(goods);
+        }
+
+        assertRoundTrip(rows, 4);
+        assertRoundTrip(rows, 4096);
+    }
+
+    @Test
+    void 값_존재_비트맵은_행_그룹과_바이트_경계를_넘어도_유지() throws IOException {
+        List<GoodsEntity> rows = new ArrayList<>();
+        for (int i = 0; i < 37; i++) {
+            GoodsEntity goods = new GoodsEntity();
+            goods.setHistoryNo(1000L + i);
+            // 열마다 다른 주기로 null 을 넣어 비트맵의 여러 비트 위치와 바이트를 쓴다.
+            goods.setId(i % 2 == 0 ? (long) i : null);
+            goods.setGoodsName(i % 3 == 0 ? null : "물건 " + i);
+            goods.setStatusName(i % 5 == 0 ? null : "입찰진행중");
+            goods.setAddress(i % 7 == 0 ? null : "");
+            goods.setAppraisalPrice(i % 9 == 0 ? null : 1_000_000L * (37 - i));
+            goods.setFavoriteCount(i % 11 == 0 ? null : i);
+            goods.setBidCloseAt(i % 4 == 0 ? null : LocalDateTime.of(2025, 1, 1, 10, 0).plusMinutes(i * 30L));
+            rows.add(goods);
+        }
+        // 모든 열이 비어 있는 행
+        GoodsEntity empty = new GoodsEntity();
+        rows.add(empty);
+
+        assertRoundTrip(rows, 10);
+        assertRoundTrip(rows, 1);
+        assertRoundTrip(rows, 38);
+    }
+
+    @Test
+    void 사전_인코딩은_행_그룹마다_사전을_새로_만든다() throws IOException {
+        String[] statuses = {"입찰준비중", "입찰진행중", "낙찰", "유찰", "입찰진행중"};
+        String[] feeRates = {"0%", "0.5%", null, "1%"};
+        List<GoodsEntity> rows = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            GoodsEntity goods = new GoodsEntity();
+            goods.setHistoryNo((long) i);
+            goods.setStatusName(statuses[i % statuses.length]);
+            goods.setSaleTypeName(i < 25 ? "매각" : "임대");
+            goods.setCategoryName(i % 10 == 0 ? "" : "토지 > 대지");
+            goods.setFeeRate(feeRates[i % feeRates.length]);
+            rows.add(goods);
+        }
+
+        assertRoundTrip(rows, 7);
+        assertRoundTrip(rows, 50);
+    }
+
+    @Test
+    void 빈_파일도_헤더와_끝_정보가_맞아야_한다() throws IOException {
+        byte[] file = write(List.of(), 16);
+        List<GoodsEntity> read = new ArrayList<>();
+
+        assertThat(GoodsColumnarReader.read(new ByteArrayInputStream(file), read::add)).isZero();
+        assertThat(read).isEmpty();
+    }
+
+    @Test
+    void 끝_정보가_손상되면_읽기_실패() throws IOException {
+        GoodsEntity goods = new GoodsEntity();
+        goods.setHistoryNo(1L);
+        byte[] file = write(List.of(goods), 16);
+        byte[] truncated = Arrays.copyOf(file, file.length - 1);
+
+        assertThatThrownBy(() -> GoodsColumnarReader.read(new ByteArrayInputStream(truncated), row -> { }))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> GoodsColumnarReader.read(new ByteArrayInputStream(new byte[]{1, 2, 3}), row -> { }))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static void assertRoundTrip(List<GoodsEntity> rows, int rowGroupSize) throws IOException {
+        byte[] file = write(rows, rowGroupSize);
+        List<GoodsEntity> read = new ArrayList<>();
+
+        long count = GoodsColumnarReader.read(new ByteArrayInputStream(file), read::add);
+
+        assertThat(count).isEqualTo(rows.size());
+        assertThat(read).hasSameSizeAs(rows);
+        for (int i = 0; i < rows.size(); i++) {
+            for (Column column : GoodsColumnarFormat.COLUMNS) {
+                assertThat(column.getter().apply(read.get(i)))
+                        .as("%d번째 행 %s 열 (행 그룹 %d)", i, column.name(), rowGroupSize)
+                        .isEqualTo(column.getter().apply(rows.get(i)));
+            }
+        }
+    }
+
+    private static byte[] write(List<GoodsEntity> rows, int rowGroupSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GoodsColumnarWriter writer = new GoodsColumnarWriter(out, rowGroupSize);
+        for (GoodsEntity goods : rows) {
+            writer.write(goods);
+        }
+        assertThat(writer.finish()).isEqualTo(rows.size());
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,217 @@
+package com.onbid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.onbid.domain.dto.Goods;
+import com.onbid.domain.dto.Request.PurchaseRequest;
+import com.onbid.domain.dto.Response.PurchaseResult;
+import com.onbid.domain.entity.PurchaseEntity;
+import com.onbid.exception.BusinessException;
+import com.onbid.exception.ErrorCode;
+import com.onbid.mapper.PurchaseMapper;
+import com.onbid.support.H2Schema;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 같은 물건 동시 구매 테스트
+ * 조회 후 삽입 대신 DB 유니크 제약(uk_completed_history_no, uk_idempotency_key)에 맡긴 구매 생성이
+ * 동시에 몰려도 완료 구매를 물건당 1건만 남기는지 MariaDB 호환 모드 H2 에서 확인한다.
+ */
+@SpringJUnitConfig(PurchaseServiceConcurrencyTest.TestConfig.class)
+class PurchaseServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final long HISTORY_NO = 1001L;
+
+    @Autowired
+    private PurchaseService purchaseService;
+
+    @Autowired
+    private GoodsService goodsService;
+
+    @Autowired
+    private PurchaseMapper purchaseMapper;
+
+    @BeforeEach
+    void setUp() {
+        purchaseService.resetAllPurchases();
+        goodsService.saveGoodsListToDB(List.of(goods(HISTORY_NO), goods(HISTORY_NO + 1)));
+    }
+
+    @Test
+    void 동시_구매는_한_건만_완료되고_나머지는_중복_구매로_실패() throws Exception {
+        List<Outcome> outcomes = runConcurrently(() -> purchaseService.createPurchase(request(null), null));
+
+        assertThat(outcomes).filteredOn(outcome -> outcome.result() != null).hasSize(1);
+        assertThat(outcomes).filteredOn(outcome -> outcome.error() != null)
+                .hasSize(THREADS - 1)
+                .allSatisfy(outcome -> assertThat(outcome.error().getErrorCode()).isEqualTo(ErrorCode.DUPLICATED_PURCHASE));
+        assertThat(completedPurchases()).hasSize(1);
+    }
+
+    @Test
+    void 같은_멱등_키_동시_재요청은_처음_구매를_돌려준다() throws Exception {
+        List<Outcome> outcomes = runConcurrently(() -> purchaseService.createPurchase(request(null), "retry-key"));
+
+        assertThat(outcomes).allSatisfy(outcome -> assertThat(outcome.error()).isNull());
+        assertThat(outcomes).filteredOn(outcome -> !outcome.result().isReplayed()).hasSize(1);
+        assertThat(outcomes).extracting(outcome -> outcome.result().getPurchase().getId()).containsOnly(
+                completedPurchases().get(0).getId());
+        assertThat(completedPurchases()).hasSize(1);
+    }
+
+    @Test
+    void 완료_후_같은_멱등_키_재요청과_다른_키_요청() {
+        PurchaseResult created = purchaseService.createPurchase(request("body-key"), null);
+        assertThat(created.isReplayed()).isFalse();
+
+        // 헤더 값이 본문 값보다 우선하며, 앞뒤 공백은 무시한다.
+        PurchaseResult replayed = purchaseService.createPurchase(request(null), " body-key ");
+        assertThat(replayed.isReplayed()).isTrue();
+        assertThat(replayed.getPurchase().getId()).isEqualTo(created.getPurchase().getId());
+
+        assertThatThrownBy(() -> purchaseService.createPurchase(request(null), "other-key"))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.DUPLICATED_PURCHASE));
+        assertThatThrownBy(() -> purchaseService.createPurchase(request(null), null))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.DUPLICATED_PURCHASE));
+
+        PurchaseRequest otherGoods = PurchaseRequest.builder().historyNo(HISTORY_NO + 1).purchasePrice(1000L).build();
+        assertThatThrownBy(() -> purchaseService.createPurchase(otherGoods, "body-key"))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_REQUEST));
+        assertThat(completedPurchases()).hasSize(1);
+    }
+
+    /**
+     * THREADS 개 스레드가 동시에 출발해 같은 요청을 보낸다.
+     */
+    private static List<Outcome> runConcurrently(Supplier<PurchaseResult> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Outcome>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        return new Outcome(call.get(), null);
+                    } catch (BusinessException ex) {
+                        return new Outcome(null, ex);
+                    }
+                }));
+            }
+            ready.await();
+            start.countDown();
+            List<Outcome> outcomes = new ArrayList<>();
+            for (Future<Outcome> future : futures) {
+                outcomes.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<PurchaseEntity> completedPurchases() {
+        return purchaseMapper.findByHistoryNo(HISTORY_NO).stream()
+                .filter(purchase -> "COMPLETED".equals(purchase.getPurchaseStatus()))
+                .toList();
+    }
+
+    private static PurchaseRequest request(String idempotencyKey) {
+        return PurchaseRequest.builder()
+                .historyNo(HISTORY_NO)
+                .purchasePrice(1000L)
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
+
+    private static Goods goods(long historyNo) {
+        Goods goods = new Goods();
+        goods.setHistoryNo(historyNo);
+        goods.setGoodsName("테스트 물건 " + historyNo);
+        goods.setBidCloseDate("20991231120000");
+        goods.setMinBidPrice(1000L);
+        return goods;
+    }
+
+    private record Outcome(PurchaseResult result, BusinessException error) {
+    }
+
+    /**
+     * 구매 경로에 필요한 빈만 올리는 최소 스프링 구성 (웹/스케줄러/외부 API 제외)
+     */
+    @Configuration
+    @EnableTransactionManagement
+    @MapperScan(basePackages = "com.onbid.mapper", annotationClass = Mapper.class)
+    @Import({PurchaseService.class, GoodsService.class, GoodsFingerprintCache.class, GoodsReadModel.class,
+            PurchasedItemIndex.class, GoodsPriceHistoryService.class, GoodsStatsEngine.class})
+    static class TestConfig {
+
+        @Bean
+        static PropertySourcesPlaceholderConfigurer propertySourcesPlaceholderConfigurer() {
+            PropertySourcesPlaceholderConfigurer configurer = new PropertySourcesPlaceholderConfigurer();
+            configurer.setProperties(new Properties());
+            return configurer;
+        }
+
+        @Bean
+        DataSource dataSource() {
+            DataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                    "jdbc:h2:mem:onbid-purchase-test;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+            H2Schema.apply(dataSource);
+            return dataSource;
+        }
+
+        @Bean
+        SqlSessionFactory sqlSessionFactory(DataSource dataSource) throws Exception {
+            org.apache.ibatis.session.Configuration configuration = new org.apache.ibatis.session.Configuration();
+            configuration.setMapUnderscoreToCamelCase(true);
+            SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+            factoryBean.setDataSource(dataSource);
+            factoryBean.setConfiguration(configuration);
+            return factoryBean.getObject();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+            return new TransactionTemplate(transactionManager);
+        }
+    }
+}
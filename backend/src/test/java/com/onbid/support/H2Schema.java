@@ -0,0 +1,62 @@
+package com.onbid.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * 운영 schema.sql 을 H2(MariaDB 호환 모드)에 적용 (DB 테스트와 JMH 저장 경로 벤치마크가 함께 사용)
+ * H2 가 지원하지 않는 MariaDB 전용 구문만 바꿔서 테이블/인덱스 구성은 운영과 같게 유지한다.
+ * - 접두어 인덱스 address(191) → address
+ * - 인덱스 이름은 H2 에서 스키마 전체에 걸쳐 유일해야 하므로 테이블 이름을 앞에 붙임
+ * - 생성 컬럼의 STORED 키워드 제거 (H2 생성 컬럼은 항상 저장됨)
+ * - 파티션 정의 제거 (H2 는 테이블 파티션을 지원하지 않음)
+ */
+public final class H2Schema {
+
+    private static final Pattern CREATE_TABLE = Pattern.compile("CREATE TABLE (?:IF NOT EXISTS )?(\\w+)");
+    private static final Pattern INDEX_NAME = Pattern.compile("\\b(INDEX|KEY) (\\w+) \\(");
+    private static final Pattern PREFIX_INDEX = Pattern.compile("\\((\\w+)\\(\\d+\\)\\)");
+    private static final Pattern PARTITION = Pattern.compile("\\s+PARTITION BY .*", Pattern.DOTALL);
+    private static final Pattern STORED_COLUMN = Pattern.compile("\\)\\s+STORED\\b");
+
+    private H2Schema() {
+    }
+
+    public static void apply(DataSource dataSource) {
+        String script = toH2(read("sql/schema.sql"));
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ByteArrayResource(script.getBytes(StandardCharsets.UTF_8)));
+        populator.setSqlScriptEncoding(StandardCharsets.UTF_8.name());
+        populator.execute(dataSource);
+    }
+
+    static String toH2(String script) {
+        StringBuilder converted = new StringBuilder(script.length());
+        for (String statement : script.split(";")) {
+            Matcher table = CREATE_TABLE.matcher(statement);
+            if (table.find()) {
+                statement = INDEX_NAME.matcher(statement).replaceAll("$1 " + table.group(1) + "_$2 (");
+            }
+            statement = STORED_COLUMN.matcher(statement).replaceAll(")");
+            statement = PARTITION.matcher(statement).replaceAll("");
+            converted.append(PREFIX_INDEX.matcher(statement).replaceAll("($1)")).append(';');
+        }
+        return converted.toString();
+    }
+
+    private static String read(String path) {
+        try (InputStream in = new ClassPathResource(path).getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
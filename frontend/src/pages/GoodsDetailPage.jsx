@@ -1,8 +1,31 @@
-import { useState, useEffect } from 'react';
+import { useState, useEffect, useRef } from 'react';
 import { useParams, useNavigate } from 'react-router-dom';
-import { getGoodsDetail, createPurchase, getPurchasesByHistoryNo } from '../utils/api';
+import { getGoodsDetail, createPurchase, getPurchasedFlags } from '../utils/api';
 import PurchaseModal from '../components/PurchaseModal';
 
+/**
+ * 구매 멱등 키 생성
+ * crypto.randomUUID 는 HTTPS/localhost(보안 컨텍스트)에서만 있으므로, 사내망 HTTP 접속처럼 없을 때는
+ * 보안 컨텍스트가 아니어도 쓸 수 있는 crypto.getRandomValues 로 같은 형식(UUID v4)을 만든다.
+ */
+const createIdempotencyKey = () => {
+  if (typeof crypto !== 'undefined' && typeof crypto.randomUUID === 'function') {
+    return crypto.randomUUID();
+  }
+  const bytes = new Uint8Array(16);
+  if (typeof crypto !== 'undefined' && typeof crypto.getRandomValues === 'function') {
+    crypto.getRandomValues(bytes);
+  } else {
+    for (let i = 0; i < bytes.length; i++) {
+      bytes[i] = Math.floor(Math.random() * 256);
+    }
+  }
+  bytes[6] = (bytes[6] & 0x0f) | 0x40; // 버전 4
+  bytes[8] = (bytes[8] & 0x3f) | 0x80; // RFC 4122 변형
+  const hex = Array.from(bytes, (b) => b.toString(16).padStart(2, '0')).join('');
+  return `${hex.slice(0, 8)}-${hex.slice(8, 12)}-${hex.slice(12, 16)}-${hex.slice(16, 20)}-${hex.slice(20)}`;
+};
+
 /**
  * GoodsDetailPage 컴포넌트
  * 물건 상세 페이지 - 물건 정보 표시 및 구매 기능
@@ -16,6 +39,8 @@ function GoodsDetailPage() {
   const [error, setError] = useState('');
   const [isPurchaseModalOpen, setIsPurchaseModalOpen] = useState(false);
   const [isAlreadyPurchased, setIsAlreadyPurchased] = useState(false);
+  // 구매 시도마다 새로 발급하는 멱등 키 (재시도/중복 클릭 시 같은 키로 한 번만 구매)
+  const purchaseKeyRef = useRef(null);
 
   // 물건 상세 정보 조회
   useEffect(() => {
@@ -44,9 +69,9 @@ function GoodsDetailPage() {
     const fetchPurchaseStatus = async () => {
       if (!historyNo) return;
       try {
-        const response = await getPurchasesByHistoryNo(historyNo);
-        if (response.success && Array.isArray(response.items)) {
-          setIsAlreadyPurchased(response.items.length > 0);
+        const response = await getPurchasedFlags([historyNo]);
+        if (response.success && response.flags) {
+          setIsAlreadyPurchased(Boolean(response.flags[historyNo]));
         } else {
           setIsAlreadyPurchased(false);
         }
@@ -66,13 +91,14 @@ function GoodsDetailPage() {
   // 구매하기 버튼 클릭
   const handlePurchaseClick = () => {
     if (isAlreadyPurchased) return;
+    purchaseKeyRef.current = createIdempotencyKey();
     setIsPurchaseModalOpen(true);
   };
 
   // 구매 처리
   const handlePurchase = async () => {
     try {
-      const response = await createPurchase(goods.historyNo, goods.minBidPrice);
+      const response = await createPurchase(goods.historyNo, goods.minBidPrice, purchaseKeyRef.current);
       
       if (response.success) {
         alert('구매가 완료되었습니다!');
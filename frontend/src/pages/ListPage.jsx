@@ -1,7 +1,7 @@
 import { useState, useEffect, useCallback, useRef } from 'react';
 import GoodsTable from '../components/GoodsTable';
 import GoodsMobileCard from '../components/GoodsMobileCard';
-import { getGoodsList, getGoodsFromDB, saveGoodsToDB, deleteAllGoods, getRefreshStatus } from '../utils/api';
+import { getGoodsList, getGoodsFromDB, saveGoodsToDB, deleteAllGoods, getRefreshStatus, subscribeGoodsChanges } from '../utils/api';
 
 /**
  * ListPage 컴포넌트 - 물건 목록 페이지 (표 형식)
@@ -29,6 +29,11 @@ function ListPage() {
   const [showRefreshBanner, setShowRefreshBanner] = useState(false);
   const bannerTimeoutRef = useRef(null);
 
+  // 변경분 스트림 기준 버전 (DB 조회 응답의 version) - 바뀔 때만 스트림을 다시 연결
+  const [streamSince, setStreamSince] = useState(null);
+  const viewModeRef = useRef(viewMode);
+  viewModeRef.current = viewMode;
+
   // 동기화 시각 포맷터 (한국어 표기)
   const formatSyncTime = (value) => {
     if (!value) return '동기화 대기중';
@@ -121,6 +126,7 @@ function ListPage() {
   }, [fetchRefreshStatus]);
 
   // 10초마다 상태를 재조회하여 마지막 갱신 시각을 최신으로 유지
+  // (변경분 스트림은 바뀐 행이 있을 때만 오므로, 변경 없는 동기화나 API 보기 모드에서도 시각을 맞추기 위해 유지)
   useEffect(() => {
     const statusPoller = setInterval(() => {
       fetchRefreshStatus();
@@ -128,6 +134,47 @@ function ListPage() {
     return () => clearInterval(statusPoller);
   }, [fetchRefreshStatus]);
 
+  // 변경분(삭제 -> 변경 교체 -> 추가)을 현재 목록에 적용
+  const applyDelta = (goodsList, delta) => {
+    const removed = new Set(delta.removed || []);
+    const updated = new Map();
+    (delta.changed || []).forEach(item => updated.set(item.historyNo, item));
+    const existing = new Set(goodsList.map(item => item.historyNo));
+    const inserted = (delta.inserted || []).filter(item => {
+      updated.set(item.historyNo, item);
+      return !existing.has(item.historyNo);
+    });
+    const patched = goodsList
+      .filter(item => !removed.has(item.historyNo))
+      .map(item => updated.get(item.historyNo) || item);
+    return [...inserted, ...patched];
+  };
+
+  // 동기화 변경분을 스트림으로 받아 목록 전체를 다시 받지 않고 바뀐 행만 반영
+  useEffect(() => {
+    if (streamSince === null) return undefined;
+    const source = subscribeGoodsChanges(streamSince, {
+      onDelta: (delta) => {
+        if (viewModeRef.current === 'db') {
+          setGoods(prev => {
+            const next = applyDelta(prev, delta);
+            setTotalCount(next.length);
+            return next;
+          });
+        }
+        fetchRefreshStatus();
+      },
+      onResync: () => {
+        // 이어서 적용할 변경분이 없으므로 DB 목록을 새로 받는다.
+        if (viewModeRef.current === 'db') {
+          handleDBQuery();
+        }
+        fetchRefreshStatus();
+      },
+    });
+    return () => source.close();
+  }, [streamSince, fetchRefreshStatus]);
+
   // API 조회 버튼
   const handleApiQuery = async () => {
     setIsLoading(true);
@@ -201,10 +248,14 @@ function ListPage() {
         fetchRefreshStatus();
       } else {
         alert('저장 실패: ' + response.message);
+        // 일부는 저장됐을 수 있으므로 DB 기준으로 다시 조회
+        handleDBQuery();
+        fetchRefreshStatus();
       }
     } catch (err) {
       console.error('DB 저장 오류:', err);
-      alert('DB 저장 중 오류가 발생했습니다.');
+      const message = err.response?.data?.message;
+      alert(message ? '저장 실패: ' + message : 'DB 저장 중 오류가 발생했습니다.');
     } finally {
       setIsLoading(false);
     }
@@ -223,6 +274,7 @@ function ListPage() {
         setViewMode('db');
         setTotalCount(response.items.length);
         setPageNo(1);
+        setStreamSince(response.version ?? null);
       } else {
         setError('DB에서 물건을 조회할 수 없습니다.');
       }
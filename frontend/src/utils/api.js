@@ -110,18 +110,53 @@ export const getRefreshStatus = async () => {
   return response.data;
 };
 
+/**
+ * 물건 변경분 스트림 구독 (SSE)
+ * 연결이 끊기면 브라우저가 마지막 이벤트 id(데이터 버전)로 자동 재연결하고, 서버는 놓친 변경분만 다시 보낸다.
+ * @param {number|null} since - 클라이언트가 가진 데이터 버전 (getGoodsFromDB 응답의 version)
+ * @param {object} handlers - { onDelta(delta), onResync() }
+ * @returns {EventSource} 구독 해제 시 close() 호출
+ */
+export const subscribeGoodsChanges = (since, { onDelta, onResync } = {}) => {
+  const url = new URL(`${resolvedBaseURL}/goods/stream`);
+  if (since !== null && since !== undefined) {
+    url.searchParams.set('since', since);
+  }
+  const source = new EventSource(url);
+  source.addEventListener('delta', (event) => onDelta?.(JSON.parse(event.data)));
+  source.addEventListener('resync', () => onResync?.());
+  return source;
+};
+
 // ========== 구매 API ==========
 
 /**
  * 구매 생성
  * @param {number} historyNo - 물건이력번호
  * @param {number} purchasePrice - 구매가격
+ * @param {string} [idempotencyKey] - 멱등 키 (같은 키로 재요청하면 처음 구매 결과를 반환)
  * @returns {Promise} 구매 결과
  */
-export const createPurchase = async (historyNo, purchasePrice) => {
-  const response = await api.post('/purchases', {
-    historyNo,
-    purchasePrice,
+export const createPurchase = async (historyNo, purchasePrice, idempotencyKey) => {
+  const response = await api.post(
+    '/purchases',
+    {
+      historyNo,
+      purchasePrice,
+    },
+    idempotencyKey ? { headers: { 'Idempotency-Key': idempotencyKey } } : undefined
+  );
+  return response.data;
+};
+
+/**
+ * 여러 물건의 구매 완료 여부 일괄 조회
+ * @param {number[]} historyNos - 물건이력번호 목록 (최대 1000건)
+ * @returns {Promise} 물건이력번호별 구매 여부 ({ flags: { [historyNo]: boolean } })
+ */
+export const getPurchasedFlags = async (historyNos) => {
+  const response = await api.get('/purchases/flags', {
+    params: { historyNos: historyNos.join(',') },
   });
   return response.data;
 };